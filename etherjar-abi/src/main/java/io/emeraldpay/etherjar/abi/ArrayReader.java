@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.abi;
+
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads elements of an encoded dynamic array one by one, without decoding the whole array, so a large array
+ * (ex. a result of a view method returning all pools or holders) can be filtered or aggregated
+ * with a constant memory.
+ *
+ * <p>Elements are decoded from the underlying array when requested, the data must not be modified while reading.
+ * Not thread-safe.
+ *
+ * <pre>{@code
+ * ArrayReader<Address> reader = type.read(data);
+ * while (reader.hasNext()) {
+ *     Address address = reader.next();
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @param <T> type of the elements
+ * @see DynamicArrayType#read(HexData)
+ */
+public class ArrayReader<T> implements Iterator<T> {
+
+    private final Type<T> type;
+
+    private final byte[] data;
+
+    private final int start;
+
+    private final int end;
+
+    private final int size;
+
+    private int index = 0;
+
+    private int prevOffset = -1;
+
+    /**
+     * @param type an elements type
+     * @param data an array with encoded data
+     * @param offset position of the array length in the data
+     * @param end position after the last byte of the array data
+     */
+    ArrayReader(Type<T> type, byte[] data, int offset, int end) {
+        if (offset < 0 || end > data.length || offset > end)
+            throw new IndexOutOfBoundsException("Invalid range " + offset + ".." + end + " of " + data.length);
+
+        if (end - offset < Hex32.SIZE_BYTES)
+            throw new IllegalArgumentException("Insufficient data length to read array: " + (end - offset));
+
+        this.type = type;
+        this.data = data;
+        this.start = offset + Hex32.SIZE_BYTES;
+        this.end = end;
+        this.size = TupleType.readOffset(data, offset);
+
+        long headSize = (long) (type.isStatic() ? type.getFixedSize() : Hex32.SIZE_BYTES) * size;
+
+        if (headSize > end - start)
+            throw new IllegalArgumentException("Wrong data length to read array of " + size + " elements");
+
+        if (type.isStatic() && headSize != end - start)
+            throw new IllegalArgumentException("Wrong data length to read array of " + size + " elements");
+    }
+
+    /**
+     * @return total number of elements in the array
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return index of the next element
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (index >= size)
+            throw new NoSuchElementException();
+
+        T value;
+
+        if (type.isStatic()) {
+            int fixedSize = type.getFixedSize();
+            int pos = start + fixedSize * index;
+
+            if (type instanceof SimpleType) {
+                value = ((SimpleType<T>) type).decodeSimple(
+                        new Hex32(Arrays.copyOfRange(data, pos, pos + fixedSize)));
+            } else {
+                value = type.decode(data, pos, fixedSize);
+            }
+        } else {
+            int from = readElementOffset(index, prevOffset);
+            int to = index + 1 < size ? readElementOffset(index + 1, from) : end - start;
+
+            value = type.decode(data, start + from, to - from);
+            prevOffset = from;
+        }
+
+        index++;
+
+        return value;
+    }
+
+    /**
+     * Skip elements without decoding them.
+     *
+     * @param count number of elements to skip
+     * @return number of skipped elements, which is less than requested at the end of the array
+     */
+    public int skip(int count) {
+        if (count < 0)
+            throw new IllegalArgumentException("Negative number of elements to skip: " + count);
+
+        int skipped = Math.min(count, size - index);
+
+        if (skipped > 0 && type.isDynamic())
+            prevOffset = readElementOffset(index + skipped - 1, -1);
+
+        index += skipped;
+
+        return skipped;
+    }
+
+    /**
+     * Read an offset of a dynamic element and check it's after the previous one.
+     */
+    private int readElementOffset(int i, int prev) {
+        int value = TupleType.readOffset(data, start + Hex32.SIZE_BYTES * i);
+        int head = Hex32.SIZE_BYTES * size;
+
+        if (value < head || value >= end - start || value <= prev || (i == 0 && value != head))
+            throw new IllegalArgumentException("Illegal dynamic array element offset: " + value);
+
+        return value;
+    }
+
+    /**
+     * Get the remaining elements as a sequential stream, which decodes them one by one.
+     *
+     * @return a stream of elements
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliterator(this, size - index,
+                Spliterator.ORDERED | Spliterator.SIZED);
+
+        return StreamSupport.stream(spliterator, false);
+    }
+}
@@ -17,9 +17,12 @@
 
 package io.emeraldpay.etherjar.abi;
 
+import io.emeraldpay.etherjar.domain.Address;
 import io.emeraldpay.etherjar.hex.HexData;
 
-import java.util.*;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -109,17 +112,26 @@ public class ArrayType<T> implements StaticType<T[]> {
     }
 
     @Override
-    public HexData encode(T[] arr) {
+    public int encodeTo(T[] arr, byte[] buf, int offset) {
         if (arr.length != length)
             throw new IllegalArgumentException("Wrong array length to encode: " + arr.length);
 
-        List<HexData> buf = new ArrayList<>(arr.length);
+        int size = getWrappedType().getFixedSize();
 
-        for (T obj : arr) {
-            buf.add(getWrappedType().encode(obj));
+        for (int i = 0; i < length; i++) {
+            getWrappedType().encodeTo(arr[i], buf, offset + size * i);
         }
 
-        return HexData.combine(buf);
+        return size * length;
+    }
+
+    @Override
+    public HexData encode(T[] arr) {
+        byte[] buf = new byte[getFixedSize()];
+
+        encodeTo(arr, buf, 0);
+
+        return new HexData(buf);
     }
 
     @Override
@@ -133,6 +145,103 @@ public class ArrayType<T> implements StaticType<T[]> {
         return (T[]) Arrays.stream(arr).map(it -> getWrappedType().decode(it)).toArray();
     }
 
+    /**
+     * Decode an array of integers up to 64 bits (ex. {@code uint64[10]}) directly into primitive values.
+     * A {@code uint64} value larger than {@link Long#MAX_VALUE} is kept as the same bits, i.e. it's negative.
+     *
+     * @param data an encoded hex data
+     * @return decoded values
+     * @throws IllegalStateException if the wrapped type is not an integer type up to 64 bits
+     * @throws IllegalArgumentException if the data is invalid, including a non-canonical padding accepted by
+     *         {@link #decode(HexData)}
+     */
+    public long[] decodeLongs(HexData data) {
+        NumericType numeric = PrimitiveDecoder.checkLongType(type);
+
+        return PrimitiveDecoder.readLongs(numeric, checkSimpleData(data), 0, length);
+    }
+
+    /**
+     * Decode a {@code bool[k]} directly into primitive values.
+     *
+     * @param data an encoded hex data
+     * @return decoded values
+     * @throws IllegalStateException if the wrapped type is not a {@link BoolType}
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    public boolean[] decodeBooleans(HexData data) {
+        PrimitiveDecoder.checkType(type, BoolType.class);
+
+        return PrimitiveDecoder.readBooleans(checkSimpleData(data), 0, length);
+    }
+
+    /**
+     * Decode an {@code address[k]} reading each address at its offset in the data.
+     *
+     * @param data an encoded hex data
+     * @return decoded values
+     * @throws IllegalStateException if the wrapped type is not an {@link AddressType}
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    public Address[] decodeAddresses(HexData data) {
+        PrimitiveDecoder.checkType(type, AddressType.class);
+
+        return PrimitiveDecoder.readAddresses(checkSimpleData(data), 0, length);
+    }
+
+    /**
+     * Decode an array of integers of any size (ex. {@code uint256[10]}) into a compact {@link NumericArray}.
+     *
+     * @param data an encoded hex data
+     * @return decoded values
+     * @throws IllegalStateException if the wrapped type is not an integer type
+     * @throws IllegalArgumentException if the data is invalid, including a non-canonical padding accepted by
+     *         {@link #decode(HexData)}
+     */
+    public NumericArray decodeNumbers(HexData data) {
+        NumericType numeric = PrimitiveDecoder.checkIntegerType(type);
+
+        return new NumericArray(numeric, checkSimpleData(data), 0, length);
+    }
+
+    /**
+     * Decode an array of fixed-point values (ex. {@code ufixed128x128[k]}) as raw values, i.e. the values
+     * multiplied by {@code 2^N}, without converting them to a {@link java.math.BigDecimal}.
+     *
+     * @param data an encoded hex data
+     * @return raw values
+     * @throws IllegalStateException if the wrapped type is not a fixed-point type
+     * @throws IllegalArgumentException if the data is invalid
+     * @throws ArithmeticException if a raw value doesn't fit into a {@code long}
+     * @see DecimalType#toDecimal(long)
+     */
+    public long[] decodeScaled(HexData data) {
+        DecimalType decimal = PrimitiveDecoder.checkDecimalType(type);
+
+        return PrimitiveDecoder.readScaled(decimal, checkSimpleData(data), 0, length);
+    }
+
+    /**
+     * Decode an array of fixed-point values (ex. {@code ufixed128x128[k]}) as the nearest {@code double} values.
+     *
+     * @param data an encoded hex data
+     * @return decoded values
+     * @throws IllegalStateException if the wrapped type is not a fixed-point type
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    public double[] decodeDoubles(HexData data) {
+        DecimalType decimal = PrimitiveDecoder.checkDecimalType(type);
+
+        return PrimitiveDecoder.readDoubles(decimal, checkSimpleData(data), 0, length);
+    }
+
+    private byte[] checkSimpleData(HexData data) {
+        if (data.getSize() != getFixedSize())
+            throw new IllegalArgumentException("Wrong data length to decode array: " + data);
+
+        return data.getBytes();
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(getClass(), type, length);
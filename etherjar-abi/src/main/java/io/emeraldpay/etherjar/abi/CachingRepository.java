@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.abi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A thread-safe {@link Type.Repository} which remembers parsed types by their string representation,
+ * so the same type string (ex. {@code uint256} or {@code address[]}) is parsed only once.
+ *
+ * <p>Lookup keys are normalized, i.e. surrounding whitespace is trimmed and the short aliases ({@code uint}, {@code int},
+ * {@code byte}, {@code fixed}, {@code ufixed}) are expanded to their full names, so {@code uint}, {@code uint256}
+ * and {@code " uint256 "} share the same entry.
+ *
+ * <p>The cache is bounded; when it's full the least recently used entry is evicted for each new one.
+ *
+ * <pre>{@code
+ * Type.Repository repo = CachingRepository.getDefault();
+ * Optional<Type> type = repo.search("uint256[]");
+ * }</pre>
+ */
+public class CachingRepository implements Type.Repository {
+
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    private static final CachingRepository DEFAULT = new CachingRepository();
+
+    private static final Map<String, String> ALIASES = Map.of(
+        "uint", "uint256",
+        "int", "int256",
+        "byte", "bytes1",
+        "fixed", "fixed128x128",
+        "ufixed", "ufixed128x128"
+    );
+
+    /**
+     * Get a shared instance with all standard types.
+     *
+     * @return a shared repository instance
+     */
+    public static CachingRepository getDefault() {
+        return DEFAULT;
+    }
+
+    private final List<Function<String, Optional<? extends Type>>> parsers;
+
+    private final int maxSize;
+
+    /**
+     * Access ordered, guarded by itself
+     */
+    private final LinkedHashMap<String, Optional<Type>> cache;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a repository with all standard types.
+     */
+    public CachingRepository() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Create a repository with all standard types.
+     *
+     * @param maxSize max number of cached types
+     */
+    public CachingRepository(int maxSize) {
+        this.parsers = Collections.unmodifiableList(standardParsers());
+        this.maxSize = checkMaxSize(maxSize);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<Type>> eldest) {
+                return size() > CachingRepository.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Create a caching repository for the parsers of an existing repository.
+     *
+     * @param repo a {@link Type} parsers repository
+     * @param maxSize max number of cached types
+     */
+    public CachingRepository(Type.Repository repo, int maxSize) {
+        this.parsers = Objects.requireNonNull(repo).getTypeParsers();
+        this.maxSize = checkMaxSize(maxSize);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<Type>> eldest) {
+                return size() > CachingRepository.this.maxSize;
+            }
+        };
+    }
+
+    private static int checkMaxSize(int maxSize) {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+
+        return maxSize;
+    }
+
+    /**
+     * Complex types go first, because simple type parsers fail on a string with an array postfix.
+     * They use the current repository for a wrapped type, so it's cached too.
+     *
+     * @return standard type parsers
+     */
+    private List<Function<String, Optional<? extends Type>>> standardParsers() {
+        List<Function<String, Optional<? extends Type>>> list = new ArrayList<>();
+
+        list.add(str -> ArrayType.from(this, str));
+        list.add(str -> DynamicArrayType.from(this, str));
+        list.add(str -> TupleType.from(this, str));
+        list.add(UIntType::from);
+        list.add(IntType::from);
+        list.add(AddressType::from);
+        list.add(BoolType::from);
+        list.add(BytesType::from);
+        list.add(DynamicBytesType::from);
+        list.add(StringType::from);
+        list.add(UFixedType::from);
+        list.add(FixedType::from);
+        list.add(FunctionType::from);
+
+        return list;
+    }
+
+    /**
+     * Convert a type string to the key it's cached by.
+     *
+     * @param str a type string
+     * @return trimmed string with short aliases replaced by full type names
+     */
+    static String normalize(String str) {
+        String trimmed = str.trim();
+        StringBuilder buf = null;
+        int copied = 0;
+        int i = 0;
+
+        while (i < trimmed.length()) {
+            if (!Character.isLetter(trimmed.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            int start = i;
+
+            while (i < trimmed.length() && Character.isLetter(trimmed.charAt(i)))
+                i++;
+
+            if (i < trimmed.length() && Character.isDigit(trimmed.charAt(i)))
+                continue;
+
+            String full = ALIASES.get(trimmed.substring(start, i));
+
+            if (full == null)
+                continue;
+
+            if (buf == null)
+                buf = new StringBuilder(trimmed.length() + 16);
+
+            buf.append(trimmed, copied, start).append(full);
+            copied = i;
+        }
+
+        if (buf == null)
+            return trimmed;
+
+        return buf.append(trimmed, copied, trimmed.length()).toString();
+    }
+
+    @Override
+    public Optional<Type> search(String str) {
+        String key = normalize(str);
+        Optional<Type> type;
+
+        synchronized (cache) {
+            type = cache.get(key);
+        }
+
+        if (type != null) {
+            hits.increment();
+            return type;
+        }
+
+        misses.increment();
+
+        // parsed outside the lock, because nested types are resolved through this repository
+        type = Type.Repository.super.search(key);
+
+        synchronized (cache) {
+            Optional<Type> existing = cache.putIfAbsent(key, type);
+
+            return existing != null ? existing : type;
+        }
+    }
+
+    @Override
+    public List<Function<String, Optional<? extends Type>>> getTypeParsers() {
+        return parsers;
+    }
+
+    /**
+     * @return number of lookups served from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of lookups which required parsing
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return current number of cached types
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * @return max number of cached types
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Remove all cached types and reset the stats.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        hits.reset();
+        misses.reset();
+    }
+}
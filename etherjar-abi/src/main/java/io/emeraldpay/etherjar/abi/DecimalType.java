@@ -26,9 +26,29 @@ import java.util.Objects;
 
 /**
  * Signed &amp; unsigned fixed-point number.
+ *
+ * <p>A value is decoded to an exact {@link BigDecimal} without a division, as {@code x / 2^N = x * 5^N / 10^N}.
+ * A raw value fitting into a {@code long} is decoded without a {@link BigInteger}, and can be read directly
+ * with {@link #decodeScaled(Hex32)} or {@link #decodeDouble(Hex32)}.
  */
 public abstract class DecimalType implements SimpleType<BigDecimal> {
 
+    private static final BigInteger[] POWERS_OF_FIVE = new BigInteger[257];
+
+    private static final long[] LONG_POWERS_OF_FIVE = new long[28];
+
+    static {
+        POWERS_OF_FIVE[0] = BigInteger.ONE;
+
+        for (int i = 1; i < POWERS_OF_FIVE.length; i++) {
+            POWERS_OF_FIVE[i] = POWERS_OF_FIVE[i - 1].multiply(BigInteger.valueOf(5));
+        }
+
+        for (int i = 0; i < LONG_POWERS_OF_FIVE.length; i++) {
+            LONG_POWERS_OF_FIVE[i] = POWERS_OF_FIVE[i].longValueExact();
+        }
+    }
+
     private final int mBits;
 
     private final int nBits;
@@ -126,10 +146,87 @@ public abstract class DecimalType implements SimpleType<BigDecimal> {
 
     @Override
     public BigDecimal decodeSimple(Hex32 hex32) {
-        BigInteger integer = getNumericType().decodeSimple(hex32);
+        byte[] data = hex32.getBytes();
+
+        if (getBits() <= Long.SIZE) {
+            long raw = PrimitiveDecoder.readLong(getNumericType(), data, 0);
+
+            if (isSigned() || raw >= 0)
+                return toDecimal(raw);
+        } else if (PrimitiveDecoder.fitsLong(data, 0, isSigned())) {
+            // any 64-bit value is in range of a wider type
+            return toDecimal(PrimitiveDecoder.readLowLong(data, 0));
+        }
+
+        return toDecimal(getNumericType().decodeSimple(hex32));
+    }
+
+    /**
+     * Decode a raw value, i.e. the value multiplied by {@code 2^N}, without converting it to a {@link BigDecimal}.
+     *
+     * @param hex32 an encoded value
+     * @return the raw value
+     * @throws IllegalArgumentException if the value is out of the type range
+     * @throws ArithmeticException if the raw value doesn't fit into a {@code long}
+     */
+    public long decodeScaled(Hex32 hex32) {
+        return PrimitiveDecoder.readScaled(this, hex32.getBytes(), 0);
+    }
+
+    /**
+     * Decode a value as the nearest {@code double}, for calculations where the precision of a {@code double}
+     * is enough (ex. prices).
+     *
+     * @param hex32 an encoded value
+     * @return the value
+     * @throws IllegalArgumentException if the value is out of the type range
+     */
+    public double decodeDouble(Hex32 hex32) {
+        return PrimitiveDecoder.readDouble(this, hex32.getBytes(), 0);
+    }
+
+    /**
+     * Convert a raw value to an exact decimal value.
+     *
+     * @param raw a raw value, i.e. the value multiplied by {@code 2^N}
+     * @return the value with the least scale to represent it
+     */
+    public BigDecimal toDecimal(long raw) {
+        if (raw == 0)
+            return BigDecimal.ZERO;
+
+        int zeros = Long.numberOfTrailingZeros(raw);
+
+        if (zeros >= nBits)
+            return BigDecimal.valueOf(raw >> nBits);
+
+        int scale = nBits - zeros;
+        long odd = raw >> zeros;
+
+        if (scale < LONG_POWERS_OF_FIVE.length && Math.abs(odd) <= Long.MAX_VALUE / LONG_POWERS_OF_FIVE[scale])
+            return BigDecimal.valueOf(odd * LONG_POWERS_OF_FIVE[scale], scale);
+
+        return new BigDecimal(BigInteger.valueOf(odd).multiply(POWERS_OF_FIVE[scale]), scale);
+    }
+
+    /**
+     * Convert a raw value to an exact decimal value.
+     *
+     * @param raw a raw value, i.e. the value multiplied by {@code 2^N}
+     * @return the value with the least scale to represent it
+     */
+    public BigDecimal toDecimal(BigInteger raw) {
+        if (raw.signum() == 0)
+            return BigDecimal.ZERO;
+
+        int zeros = raw.getLowestSetBit();
+
+        if (zeros >= nBits)
+            return new BigDecimal(raw.shiftRight(nBits));
+
+        int scale = nBits - zeros;
 
-        //noinspection BigDecimalMethodWithoutRoundingCalled
-        return new BigDecimal(integer).divide(fractionFactor);
+        return new BigDecimal(raw.shiftRight(zeros).multiply(POWERS_OF_FIVE[scale]), scale);
     }
 
     @Override
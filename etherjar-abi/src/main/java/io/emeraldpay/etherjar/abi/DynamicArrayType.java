@@ -17,6 +17,7 @@
 
 package io.emeraldpay.etherjar.abi;
 
+import io.emeraldpay.etherjar.domain.Address;
 import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
 
@@ -25,7 +26,11 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * Dynamic sized array with given wrapped static type.
+ * Dynamic sized array with given wrapped type.
+ *
+ * <p>Elements of a static type are encoded in place right after the length. Elements of a dynamic
+ * type (ex. {@code bytes[]}, {@code uint256[][]} or {@code (address,bytes)[]}) are encoded as offsets,
+ * relative to the position after the length, followed by the elements data.
  */
 public class DynamicArrayType<T> implements DynamicType<T[]> {
 
@@ -42,7 +47,7 @@ public class DynamicArrayType<T> implements DynamicType<T[]> {
      * or {@link Optional#empty()} instead
      * @throws NullPointerException if a {@code str} is {@code null}
      * @throws IllegalArgumentException if an {@link DynamicArrayType} has invalid
-     * input or not a {@link StaticType} wrapped type
+     * input or unknown wrapped type
      * @see #getCanonicalName()
      */
     @SuppressWarnings("unchecked")
@@ -61,26 +66,21 @@ public class DynamicArrayType<T> implements DynamicType<T[]> {
             throw new IllegalArgumentException(
                     "Unknown dynamic array wrapped type: " + matcher.group(1));
 
-        if (type.get().isDynamic())
-            throw new IllegalArgumentException(
-                    "Dynamic array wrapped type is not static: " + type.get());
-
-        return Optional.of(
-                new DynamicArrayType<>((StaticType) type.get()));
+        return Optional.of(new DynamicArrayType<>(type.get()));
     }
 
-    private final StaticType<T> type;
+    private final Type<T> type;
 
     /**
-     * Create a dynamic array for predefined {@link StaticType}.
+     * Create a dynamic array for predefined {@link Type}.
      *
-     * @param type an array wrapped {@link StaticType}
+     * @param type an array wrapped {@link Type}, either static or dynamic
      */
-    public DynamicArrayType(StaticType<T> type) {
+    public DynamicArrayType(Type<T> type) {
         this.type = Objects.requireNonNull(type);
     }
 
-    public StaticType<T> getWrappedType() {
+    public Type<T> getWrappedType() {
         return type;
     }
 
@@ -90,16 +90,52 @@ public class DynamicArrayType<T> implements DynamicType<T[]> {
     }
 
     @Override
-    public HexData encode(T[] arr) {
-        List<HexData> buf = new ArrayList<>(arr.length + 1);
+    public int getEncodedSize(T[] arr) {
+        if (type.isStatic())
+            return Hex32.SIZE_BYTES + type.getFixedSize() * arr.length;
 
-        buf.add(Type.encodeLength(arr.length));
+        int size = Hex32.SIZE_BYTES * (arr.length + 1);
 
         for (T obj : arr) {
-            buf.add(getWrappedType().encode(obj));
+            size += type.getEncodedSize(obj);
+        }
+
+        return size;
+    }
+
+    @Override
+    public int encodeTo(T[] arr, byte[] buf, int offset) {
+        TupleType.writeOffset(buf, offset, arr.length);
+
+        int start = offset + Hex32.SIZE_BYTES;
+
+        if (type.isStatic()) {
+            int size = type.getFixedSize();
+
+            for (int i = 0; i < arr.length; i++) {
+                type.encodeTo(arr[i], buf, start + size * i);
+            }
+
+            return Hex32.SIZE_BYTES + size * arr.length;
+        }
+
+        int tail = Hex32.SIZE_BYTES * arr.length;
+
+        for (int i = 0; i < arr.length; i++) {
+            TupleType.writeOffset(buf, start + Hex32.SIZE_BYTES * i, tail);
+            tail += type.encodeTo(arr[i], buf, start + tail);
         }
 
-        return HexData.combine(buf);
+        return Hex32.SIZE_BYTES + tail;
+    }
+
+    @Override
+    public HexData encode(T[] arr) {
+        byte[] buf = new byte[getEncodedSize(arr)];
+
+        encodeTo(arr, buf, 0);
+
+        return new HexData(buf);
     }
 
     @Override
@@ -108,7 +144,10 @@ public class DynamicArrayType<T> implements DynamicType<T[]> {
         int len = Type.decodeLength(
                 data.extract(Hex32.SIZE_BYTES, Hex32::from)).intValueExact();
 
-        if (data.getSize() != Hex32.SIZE_BYTES + getWrappedType().getFixedSize() * len)
+        if (getWrappedType().isDynamic())
+            return decodeDynamic(data.getBytes(), len);
+
+        if (data.getSize() != Hex32.SIZE_BYTES + (long) getWrappedType().getFixedSize() * len)
             throw new IllegalArgumentException("Wrong data length to decode dynamic array: " + data);
 
         HexData[] arr = data.split(getWrappedType().getFixedSize(), Hex32.SIZE_BYTES);
@@ -116,6 +155,181 @@ public class DynamicArrayType<T> implements DynamicType<T[]> {
         return (T[]) Arrays.stream(arr).map(it -> getWrappedType().decode(it)).toArray();
     }
 
+    /**
+     * Get a reader which decodes elements one by one, instead of decoding the whole array.
+     *
+     * @param data an encoded hex data
+     * @return an array reader
+     * @throws IllegalArgumentException if the data is invalid
+     * @see #read(byte[], int, int)
+     */
+    public ArrayReader<T> read(HexData data) {
+        byte[] bytes = data.getBytes();
+
+        return read(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Get a reader which decodes elements one by one directly from a part of an array, for example
+     * a value within a larger method call result.
+     *
+     * @param data an array with encoded data, should not be modified while reading
+     * @param offset position of the encoded array (i.e. its length) in the data
+     * @param length length of the encoded array in bytes, including its length prefix
+     * @return an array reader
+     * @throws IllegalArgumentException if the data is invalid
+     * @throws IndexOutOfBoundsException if the range is outside the data
+     */
+    public ArrayReader<T> read(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+
+        return new ArrayReader<>(type, data, offset, offset + length);
+    }
+
+    /**
+     * Decode an array of integers up to 64 bits (ex. {@code uint64[]}) directly into primitive values.
+     * A {@code uint64} value larger than {@link Long#MAX_VALUE} is kept as the same bits, i.e. it's negative.
+     *
+     * @param data an encoded hex data
+     * @return decoded values
+     * @throws IllegalStateException if the wrapped type is not an integer type up to 64 bits
+     * @throws IllegalArgumentException if the data is invalid, including a non-canonical padding accepted by
+     *         {@link #decode(HexData)}
+     */
+    public long[] decodeLongs(HexData data) {
+        NumericType numeric = PrimitiveDecoder.checkLongType(type);
+        byte[] bytes = data.getBytes();
+
+        return PrimitiveDecoder.readLongs(numeric, bytes, Hex32.SIZE_BYTES, readSimpleLength(bytes));
+    }
+
+    /**
+     * Decode a {@code bool[]} directly into primitive values.
+     *
+     * @param data an encoded hex data
+     * @return decoded values
+     * @throws IllegalStateException if the wrapped type is not a {@link BoolType}
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    public boolean[] decodeBooleans(HexData data) {
+        PrimitiveDecoder.checkType(type, BoolType.class);
+        byte[] bytes = data.getBytes();
+
+        return PrimitiveDecoder.readBooleans(bytes, Hex32.SIZE_BYTES, readSimpleLength(bytes));
+    }
+
+    /**
+     * Decode an {@code address[]} reading each address at its offset in the data.
+     *
+     * @param data an encoded hex data
+     * @return decoded values
+     * @throws IllegalStateException if the wrapped type is not an {@link AddressType}
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    public Address[] decodeAddresses(HexData data) {
+        PrimitiveDecoder.checkType(type, AddressType.class);
+        byte[] bytes = data.getBytes();
+
+        return PrimitiveDecoder.readAddresses(bytes, Hex32.SIZE_BYTES, readSimpleLength(bytes));
+    }
+
+    /**
+     * Decode an array of integers of any size (ex. {@code uint256[]}) into a compact {@link NumericArray}.
+     *
+     * @param data an encoded hex data
+     * @return decoded values
+     * @throws IllegalStateException if the wrapped type is not an integer type
+     * @throws IllegalArgumentException if the data is invalid, including a non-canonical padding accepted by
+     *         {@link #decode(HexData)}
+     */
+    public NumericArray decodeNumbers(HexData data) {
+        NumericType numeric = PrimitiveDecoder.checkIntegerType(type);
+        byte[] bytes = data.getBytes();
+
+        return new NumericArray(numeric, bytes, Hex32.SIZE_BYTES, readSimpleLength(bytes));
+    }
+
+    /**
+     * Decode an array of fixed-point values (ex. {@code ufixed128x128[]}) as raw values, i.e. the values
+     * multiplied by {@code 2^N}, without converting them to a {@link java.math.BigDecimal}.
+     *
+     * @param data an encoded hex data
+     * @return raw values
+     * @throws IllegalStateException if the wrapped type is not a fixed-point type
+     * @throws IllegalArgumentException if the data is invalid
+     * @throws ArithmeticException if a raw value doesn't fit into a {@code long}
+     * @see DecimalType#toDecimal(long)
+     */
+    public long[] decodeScaled(HexData data) {
+        DecimalType decimal = PrimitiveDecoder.checkDecimalType(type);
+        byte[] bytes = data.getBytes();
+
+        return PrimitiveDecoder.readScaled(decimal, bytes, Hex32.SIZE_BYTES, readSimpleLength(bytes));
+    }
+
+    /**
+     * Decode an array of fixed-point values (ex. {@code ufixed128x128[]}) as the nearest {@code double} values.
+     *
+     * @param data an encoded hex data
+     * @return decoded values
+     * @throws IllegalStateException if the wrapped type is not a fixed-point type
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    public double[] decodeDoubles(HexData data) {
+        DecimalType decimal = PrimitiveDecoder.checkDecimalType(type);
+        byte[] bytes = data.getBytes();
+
+        return PrimitiveDecoder.readDoubles(decimal, bytes, Hex32.SIZE_BYTES, readSimpleLength(bytes));
+    }
+
+    /**
+     * Read length of an array of 32-byte elements and check the data size.
+     */
+    private int readSimpleLength(byte[] data) {
+        int len = TupleType.readOffset(data, 0);
+
+        if (data.length != Hex32.SIZE_BYTES + (long) Hex32.SIZE_BYTES * len)
+            throw new IllegalArgumentException("Wrong data length to decode dynamic array: " + data.length);
+
+        return len;
+    }
+
+    /**
+     * Decode elements of a dynamic type, which are referenced by consecutive offsets.
+     */
+    @SuppressWarnings("unchecked")
+    private T[] decodeDynamic(byte[] data, int len) {
+        int size = data.length - Hex32.SIZE_BYTES;
+
+        if ((long) Hex32.SIZE_BYTES * len > size)
+            throw new IllegalArgumentException("Wrong data length to decode dynamic array: " + data.length);
+
+        int[] offsets = new int[len];
+
+        for (int i = 0; i < len; i++) {
+            int value = TupleType.readOffset(data, Hex32.SIZE_BYTES * (i + 1));
+
+            if (value >= size || (i == 0 ? value != Hex32.SIZE_BYTES * len : value <= offsets[i - 1]))
+                throw new IllegalArgumentException("Illegal dynamic array element offset: " + value);
+
+            offsets[i] = value;
+        }
+
+        if (len == 0 && size != 0)
+            throw new IllegalArgumentException("Wrong data length to decode dynamic array: " + data.length);
+
+        Object[] result = new Object[len];
+
+        for (int i = 0; i < len; i++) {
+            int from = Hex32.SIZE_BYTES + offsets[i];
+            int to = i + 1 < len ? Hex32.SIZE_BYTES + offsets[i + 1] : data.length;
+
+            result[i] = type.decode(data, from, to - from);
+        }
+
+        return (T[]) result;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(getClass(), type);
@@ -20,6 +20,7 @@ package io.emeraldpay.etherjar.abi;
 import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -55,26 +56,95 @@ public class DynamicBytesType implements DynamicType<byte[]> {
 
     @Override
     public HexData encode(byte... bytes) {
-        int rem = bytes.length % Hex32.SIZE_BYTES;
+        byte[] buf = new byte[getEncodedSize(bytes)];
 
-        HexData data = Type.encodeLength(bytes.length).concat(new HexData(bytes));
+        encodeTo(bytes, buf, 0);
 
-        return rem == 0 ? data :
-                data.concat(new HexData(new byte[Hex32.SIZE_BYTES - rem]));
+        return new HexData(buf);
     }
 
     @Override
-    public byte[] decode(HexData data) {
-        int len = Type.decodeLength(
-                data.extract(Hex32.SIZE_BYTES, Hex32::from)).intValueExact();
+    public int getEncodedSize(byte[] bytes) {
+        return Hex32.SIZE_BYTES + paddedSize(bytes.length);
+    }
+
+    @Override
+    public int encodeTo(byte[] bytes, byte[] buf, int offset) {
+        int start = offset + Hex32.SIZE_BYTES;
+
+        TupleType.writeOffset(buf, offset, bytes.length);
+        System.arraycopy(bytes, 0, buf, start, bytes.length);
 
-        int size = len % Hex32.SIZE_BYTES == 0 ? len :
+        return Hex32.SIZE_BYTES + pad(buf, start + bytes.length, bytes.length);
+    }
+
+    static int paddedSize(int len) {
+        return len % Hex32.SIZE_BYTES == 0 ? len :
                 len + Hex32.SIZE_BYTES - len % Hex32.SIZE_BYTES;
+    }
+
+    /**
+     * Fill the padding after a written value with zeros.
+     *
+     * @param buf a target array
+     * @param pos position after the last byte of the value
+     * @param len length of the value
+     * @return the padded length of the value
+     */
+    static int pad(byte[] buf, int pos, int len) {
+        int size = paddedSize(len);
 
-        if (data.getSize() != Hex32.SIZE_BYTES + size)
+        Arrays.fill(buf, pos, pos + size - len, (byte) 0);
+
+        return size;
+    }
+
+    /**
+     * Read the length of encoded bytes and check the data size.
+     *
+     * @param data an array with encoded data
+     * @param offset position of the encoded value
+     * @param length size of the encoded value
+     * @return number of bytes in the value
+     * @throws IllegalArgumentException if the data size doesn't match the length
+     */
+    static int readLength(byte[] data, int offset, int length) {
+        if (length < Hex32.SIZE_BYTES)
+            throw new IllegalArgumentException("Insufficient data length to decode bytes: " + length);
+
+        int len = TupleType.readOffset(data, offset);
+
+        if (length != encodedSize(len))
+            throw new IllegalArgumentException("Wrong data length to decode bytes: " + length);
+
+        return len;
+    }
+
+    /**
+     * @return size of the encoded value with its length, as {@code long} to avoid an overflow for invalid data
+     */
+    private static long encodedSize(int len) {
+        return Hex32.SIZE_BYTES + ((len + (long) Hex32.SIZE_BYTES - 1) & -Hex32.SIZE_BYTES);
+    }
+
+    @Override
+    public byte[] decode(HexData data) {
+        if (data.getSize() < Hex32.SIZE_BYTES)
+            throw new IllegalArgumentException("Insufficient data length to decode bytes: " + data.getSize());
+
+        int len = TupleType.readOffset(data.getBytes(0, Hex32.SIZE_BYTES), 0);
+
+        if (data.getSize() != encodedSize(len))
             throw new IllegalArgumentException("Wrong data length to decode bytes: " + data);
 
-        return data.extract(len, Hex32.SIZE_BYTES).getBytes();
+        return data.getBytes(Hex32.SIZE_BYTES, len);
+    }
+
+    @Override
+    public byte[] decode(byte[] data, int offset, int length) {
+        int len = readLength(data, offset, length);
+
+        return Arrays.copyOfRange(data, offset + Hex32.SIZE_BYTES, offset + Hex32.SIZE_BYTES + len);
     }
 
     @Override
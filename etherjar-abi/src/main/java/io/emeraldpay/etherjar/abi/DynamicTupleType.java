@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.abi;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A tuple with at least one dynamic component, referenced by an offset from the enclosing head part.
+ *
+ * @see TupleType#of(Type...)
+ */
+public class DynamicTupleType extends TupleType implements DynamicType<Object[]> {
+
+    /**
+     * Create a tuple with dynamic components.
+     *
+     * @param types components types, at least one should be dynamic
+     */
+    public DynamicTupleType(Type<?>... types) {
+        this(Arrays.asList(types));
+    }
+
+    DynamicTupleType(List<? extends Type> types) {
+        super(types);
+
+        if (types.stream().allMatch(Type::isStatic))
+            throw new IllegalArgumentException("Dynamic tuple has only static components: " + types);
+    }
+}
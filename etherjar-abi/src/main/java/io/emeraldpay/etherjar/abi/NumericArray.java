@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.abi;
+
+import io.emeraldpay.etherjar.hex.Hex32;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A compact array of integer values (ex. {@code uint256[]}), kept as encoded 32-byte words in a single array.
+ *
+ * <p>Values are validated when the array is created, and converted to a {@link BigInteger} only when requested.
+ *
+ * @see DynamicArrayType#decodeNumbers(io.emeraldpay.etherjar.hex.HexData)
+ * @see ArrayType#decodeNumbers(io.emeraldpay.etherjar.hex.HexData)
+ */
+public final class NumericArray {
+
+    private final NumericType type;
+
+    private final byte[] data;
+
+    private final int size;
+
+    NumericArray(NumericType type, byte[] data, int offset, int size) {
+        this.type = type;
+        this.size = size;
+        this.data = Arrays.copyOfRange(data, offset, offset + Hex32.SIZE_BYTES * size);
+
+        int start = Hex32.SIZE_BYTES - (type.getBits() >>> 3);
+
+        for (int i = 0; i < size; i++) {
+            int pos = Hex32.SIZE_BYTES * i;
+
+            PrimitiveDecoder.checkPadding(type, this.data, pos, pos + start,
+                    type.isSigned() && this.data[pos + start] < 0);
+        }
+    }
+
+    /**
+     * @return type of the elements
+     */
+    public NumericType getType() {
+        return type;
+    }
+
+    /**
+     * @return number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get an element value.
+     *
+     * @param index an element index
+     * @return the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public BigInteger get(int index) {
+        int pos = position(index);
+
+        return type.isSigned() ?
+                new BigInteger(data, pos, Hex32.SIZE_BYTES) :
+                new BigInteger(1, data, pos, Hex32.SIZE_BYTES);
+    }
+
+    /**
+     * Get an element value as a {@code long}.
+     *
+     * @param index an element index
+     * @return the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws ArithmeticException if the value doesn't fit into a {@code long}
+     */
+    public long getLong(int index) {
+        int pos = position(index);
+
+        if (!PrimitiveDecoder.fitsLong(data, pos, type.isSigned()))
+            throw new ArithmeticException("Value of " + type + " doesn't fit into long at " + index);
+
+        return PrimitiveDecoder.readLowLong(data, pos);
+    }
+
+    /**
+     * Get an element as encoded.
+     *
+     * @param index an element index
+     * @return the encoded value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Hex32 getHex32(int index) {
+        int pos = position(index);
+
+        return new Hex32(Arrays.copyOfRange(data, pos, pos + Hex32.SIZE_BYTES));
+    }
+
+    /**
+     * @return all values
+     */
+    public BigInteger[] toArray() {
+        BigInteger[] result = new BigInteger[size];
+
+        for (int i = 0; i < size; i++) {
+            result[i] = get(i);
+        }
+
+        return result;
+    }
+
+    private int position(int index) {
+        Objects.checkIndex(index, size);
+
+        return Hex32.SIZE_BYTES * index;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, Arrays.hashCode(data));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (!(obj instanceof NumericArray)) return false;
+
+        NumericArray other = (NumericArray) obj;
+
+        return Objects.equals(type, other.type)
+                && Arrays.equals(data, other.data);
+    }
+
+    @Override
+    public String toString() {
+        return type + Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.abi;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.hex.Hex32;
+
+import java.util.Arrays;
+
+/**
+ * Decodes elements of simple types directly from an encoded array, without slicing it into
+ * a {@link Hex32} per element.
+ *
+ * <p>Integer values are validated stricter than {@link NumericType#decodeSimple(Hex32)}: the bytes before a value
+ * must be its canonical ABI padding, i.e. zeroes or, for a negative signed value, a sign extension. The generic
+ * decoder also accepts an unsigned value padded with {@code 0xff} bytes (ex. {@code 0xff..ff05} as {@code uint8}
+ * value 5), which is not a valid encoding, and here it's rejected.
+ */
+final class PrimitiveDecoder {
+
+    private static final int ADDRESS_OFFSET = Hex32.SIZE_BYTES - Address.SIZE_BYTES;
+
+    private PrimitiveDecoder() {
+    }
+
+    /**
+     * Check that a type can be decoded into a {@code long}.
+     *
+     * @param type an element type
+     * @return the type as a {@link NumericType}
+     * @throws IllegalStateException if it's not an integer type up to 64 bits
+     */
+    static NumericType checkLongType(Type<?> type) {
+        if (!(type instanceof UIntType || type instanceof IntType) || ((NumericType) type).getBits() > Long.SIZE)
+            throw new IllegalStateException("Can't decode as long values: " + type);
+
+        return (NumericType) type;
+    }
+
+    /**
+     * Check that a type is a {@link UIntType} or an {@link IntType} of any size.
+     *
+     * @param type an element type
+     * @return the type as a {@link NumericType}
+     * @throws IllegalStateException if it's not an integer type
+     */
+    static NumericType checkIntegerType(Type<?> type) {
+        if (!(type instanceof UIntType || type instanceof IntType))
+            throw new IllegalStateException("Can't decode as integer values: " + type);
+
+        return (NumericType) type;
+    }
+
+    /**
+     * Check that a type is a fixed-point type.
+     *
+     * @param type an element type
+     * @return the type as a {@link DecimalType}
+     * @throws IllegalStateException if it's not a fixed-point type
+     */
+    static DecimalType checkDecimalType(Type<?> type) {
+        if (!(type instanceof DecimalType))
+            throw new IllegalStateException("Can't decode as fixed-point values: " + type);
+
+        return (DecimalType) type;
+    }
+
+    static void checkType(Type<?> type, Class<? extends Type> expected) {
+        if (!expected.isInstance(type))
+            throw new IllegalStateException("Can't decode values of " + type + " as " + expected.getSimpleName());
+    }
+
+    /**
+     * Read an integer value up to 64 bits. An unsigned 64-bit value is returned as is, i.e. it's negative if it's
+     * larger than {@link Long#MAX_VALUE}, use {@link Long#toUnsignedString(long)} to print it.
+     *
+     * @param type an integer type, see {@link #checkLongType(Type)}
+     * @param data an array with encoded data
+     * @param pos position of the value
+     * @return the value
+     */
+    static long readLong(NumericType type, byte[] data, int pos) {
+        int bits = type.getBits();
+        int start = pos + Hex32.SIZE_BYTES - (bits >>> 3);
+        long value = 0;
+
+        for (int i = start; i < pos + Hex32.SIZE_BYTES; i++) {
+            value = (value << 8) | (data[i] & 0xff);
+        }
+
+        if (type.isSigned() && bits < Long.SIZE) {
+            int shift = Long.SIZE - bits;
+
+            value = (value << shift) >> shift;
+        }
+
+        checkPadding(type, data, pos, start, type.isSigned() && value < 0);
+
+        return value;
+    }
+
+    /**
+     * Check the bytes before the value are a zero or a sign extension, i.e. the canonical padding of the value.
+     *
+     * @param type an integer type
+     * @param data an array with encoded data
+     * @param pos position of the encoded value
+     * @param start position of the first significant byte
+     * @param negative {@code true} if the value is negative
+     */
+    static void checkPadding(NumericType type, byte[] data, int pos, int start, boolean negative) {
+        byte pad = negative ? (byte) 0xff : 0;
+
+        for (int i = pos; i < start; i++) {
+            if (data[i] != pad)
+                throw new IllegalArgumentException("Excess data to decode numeric value " + type + " at " + pos);
+        }
+    }
+
+    /**
+     * Check that a 32-byte value is a sign (or zero) extension of its last 8 bytes, i.e. it fits into a {@code long}.
+     *
+     * @param data an array with encoded data
+     * @param pos position of the value
+     * @param signed {@code true} if the value is signed
+     * @return {@code true} if the value fits into a {@code long}
+     */
+    static boolean fitsLong(byte[] data, int pos, boolean signed) {
+        int low = pos + Hex32.SIZE_BYTES - Long.BYTES;
+
+        if (!signed && data[low] < 0)
+            return false;
+
+        byte pad = data[low] < 0 ? (byte) 0xff : 0;
+
+        for (int i = pos; i < low; i++) {
+            if (data[i] != pad)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Read the last 8 bytes of a 32-byte value.
+     */
+    static long readLowLong(byte[] data, int pos) {
+        long value = 0;
+
+        for (int i = pos + Hex32.SIZE_BYTES - Long.BYTES; i < pos + Hex32.SIZE_BYTES; i++) {
+            value = (value << 8) | (data[i] & 0xff);
+        }
+
+        return value;
+    }
+
+    /**
+     * Read a raw value of a fixed-point type, i.e. the value multiplied by {@code 2^N}.
+     *
+     * @param type a fixed-point type
+     * @param data an array with encoded data
+     * @param pos position of the value
+     * @return the raw value
+     * @throws IllegalArgumentException if the value is out of the type range
+     * @throws ArithmeticException if the raw value doesn't fit into a {@code long}
+     */
+    static long readScaled(DecimalType type, byte[] data, int pos) {
+        NumericType numeric = type.getNumericType();
+
+        if (type.getBits() <= Long.SIZE) {
+            long value = readLong(numeric, data, pos);
+
+            if (!type.isSigned() && value < 0)
+                throw new ArithmeticException("Raw value of " + type + " doesn't fit into long");
+
+            return value;
+        }
+
+        if (!fitsLong(data, pos, type.isSigned())) {
+            // report invalid data first
+            numeric.decodeSimple(new Hex32(Arrays.copyOfRange(data, pos, pos + Hex32.SIZE_BYTES)));
+
+            throw new ArithmeticException("Raw value of " + type + " doesn't fit into long");
+        }
+
+        return readLowLong(data, pos);
+    }
+
+    /**
+     * Read a value of a fixed-point type as the nearest {@code double}. Doesn't create a {@link java.math.BigInteger}
+     * unless the raw value is larger than 64 bits.
+     *
+     * @param type a fixed-point type
+     * @param data an array with encoded data
+     * @param pos position of the value
+     * @return the value
+     * @throws IllegalArgumentException if the value is out of the type range
+     */
+    static double readDouble(DecimalType type, byte[] data, int pos) {
+        NumericType numeric = type.getNumericType();
+        double value;
+
+        if (type.getBits() <= Long.SIZE) {
+            long raw = readLong(numeric, data, pos);
+
+            value = !type.isSigned() && raw < 0 ? unsignedToDouble(raw) : raw;
+        } else if (fitsLong(data, pos, type.isSigned())) {
+            value = readLowLong(data, pos);
+        } else {
+            value = numeric.decodeSimple(new Hex32(Arrays.copyOfRange(data, pos, pos + Hex32.SIZE_BYTES))).doubleValue();
+        }
+
+        return Math.scalb(value, -type.getNBits());
+    }
+
+    /**
+     * Convert an unsigned 64-bit value, keeping the lowest bit for a correct rounding.
+     */
+    private static double unsignedToDouble(long value) {
+        return ((double) ((value >>> 1) | (value & 1))) * 2.0;
+    }
+
+    /**
+     * Read a boolean value.
+     *
+     * @param data an array with encoded data
+     * @param pos position of the value
+     * @return the value
+     * @throws IllegalArgumentException if the value is not 0 or 1
+     */
+    static boolean readBoolean(byte[] data, int pos) {
+        int end = pos + Hex32.SIZE_BYTES - 1;
+
+        for (int i = pos; i < end; i++) {
+            if (data[i] != 0)
+                throw new IllegalArgumentException("Excess data to decode bool value at " + pos);
+        }
+
+        if (data[end] == 1)
+            return true;
+
+        if (data[end] == 0)
+            return false;
+
+        throw new IllegalArgumentException("Excess data to decode bool value at " + pos);
+    }
+
+    /**
+     * Read an address value.
+     *
+     * @param data an array with encoded data
+     * @param pos position of the value
+     * @return the value
+     */
+    static Address readAddress(byte[] data, int pos) {
+        return Address.from(Arrays.copyOfRange(data, pos + ADDRESS_OFFSET, pos + Hex32.SIZE_BYTES));
+    }
+
+    static long[] readLongs(NumericType type, byte[] data, int offset, int count) {
+        long[] result = new long[count];
+
+        for (int i = 0; i < count; i++) {
+            result[i] = readLong(type, data, offset + Hex32.SIZE_BYTES * i);
+        }
+
+        return result;
+    }
+
+    static long[] readScaled(DecimalType type, byte[] data, int offset, int count) {
+        long[] result = new long[count];
+
+        for (int i = 0; i < count; i++) {
+            result[i] = readScaled(type, data, offset + Hex32.SIZE_BYTES * i);
+        }
+
+        return result;
+    }
+
+    static double[] readDoubles(DecimalType type, byte[] data, int offset, int count) {
+        double[] result = new double[count];
+
+        for (int i = 0; i < count; i++) {
+            result[i] = readDouble(type, data, offset + Hex32.SIZE_BYTES * i);
+        }
+
+        return result;
+    }
+
+    static boolean[] readBooleans(byte[] data, int offset, int count) {
+        boolean[] result = new boolean[count];
+
+        for (int i = 0; i < count; i++) {
+            result[i] = readBoolean(data, offset + Hex32.SIZE_BYTES * i);
+        }
+
+        return result;
+    }
+
+    static Address[] readAddresses(byte[] data, int offset, int count) {
+        Address[] result = new Address[count];
+
+        for (int i = 0; i < count; i++) {
+            result[i] = readAddress(data, offset + Hex32.SIZE_BYTES * i);
+        }
+
+        return result;
+    }
+}
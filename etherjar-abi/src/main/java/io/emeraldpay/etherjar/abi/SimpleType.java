@@ -20,6 +20,8 @@ package io.emeraldpay.etherjar.abi;
 import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
 
+import java.util.Arrays;
+
 /**
  * Fixed-size elementary type (32 bytes length only).
  */
@@ -44,6 +46,22 @@ public interface SimpleType<T> extends StaticType<T> {
         return decodeSimple(Hex32.from(data));
     }
 
+    @Override
+    default int encodeTo(T obj, byte[] buf, int offset) {
+        encodeSimple(obj).copyTo(buf, offset);
+
+        return Hex32.SIZE_BYTES;
+    }
+
+    @Override
+    default T decode(byte[] data, int offset, int length) {
+        if (length != getFixedSize())
+            throw new IllegalArgumentException(
+                    "Wrong hex data length to decode simple type: " + length);
+
+        return decodeSimple(new Hex32(Arrays.copyOfRange(data, offset, offset + length)));
+    }
+
     /**
      * Encode an object to a {@link Hex32}.
      *
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.abi;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A tuple with only static components, encoded in place like a fixed-size array.
+ *
+ * @see TupleType#of(Type...)
+ */
+public class StaticTupleType extends TupleType implements StaticType<Object[]> {
+
+    /**
+     * Create a tuple of static components.
+     *
+     * @param types components types, all should be static
+     */
+    public StaticTupleType(StaticType<?>... types) {
+        this(Arrays.asList(types));
+    }
+
+    StaticTupleType(List<? extends Type> types) {
+        super(types);
+
+        for (Type type : types) {
+            if (type.isDynamic())
+                throw new IllegalArgumentException("Static tuple component is not static: " + type);
+        }
+    }
+
+    @Override
+    public int getFixedSize() {
+        return getHeadSize();
+    }
+}
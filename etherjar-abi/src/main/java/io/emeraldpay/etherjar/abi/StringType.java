@@ -17,12 +17,14 @@
 
 package io.emeraldpay.etherjar.abi;
 
+import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -60,21 +62,160 @@ public class StringType implements DynamicType<String> {
 
     @Override
     public HexData encode(String str) {
-        return DynamicBytesType.DEFAULT.encode(
-                str.getBytes(StandardCharsets.UTF_8));
+        return encode((CharSequence) str);
+    }
+
+    /**
+     * Encode a string, writing its UTF-8 bytes directly into the result.
+     *
+     * @param str a string
+     * @return an encoded hex data
+     */
+    public HexData encode(CharSequence str) {
+        byte[] buf = new byte[getEncodedSize(str)];
+
+        encodeTo(str, buf, 0);
+
+        return new HexData(buf);
+    }
+
+    @Override
+    public int getEncodedSize(String str) {
+        return getEncodedSize((CharSequence) str);
+    }
+
+    /**
+     * @param str a string
+     * @return size of the encoded string in bytes, calculated without encoding it
+     */
+    public int getEncodedSize(CharSequence str) {
+        return Hex32.SIZE_BYTES + DynamicBytesType.paddedSize(utf8Length(str));
+    }
+
+    @Override
+    public int encodeTo(String str, byte[] buf, int offset) {
+        return encodeTo((CharSequence) str, buf, offset);
+    }
+
+    /**
+     * Encode a string directly into an array.
+     *
+     * @param str a string
+     * @param buf a target array with at least {@link #getEncodedSize(CharSequence)} bytes after {@code offset}
+     * @param offset position in the target array
+     * @return number of bytes written
+     */
+    public int encodeTo(CharSequence str, byte[] buf, int offset) {
+        int start = offset + Hex32.SIZE_BYTES;
+        int len = writeUtf8(str, buf, start) - start;
+
+        TupleType.writeOffset(buf, offset, len);
+
+        return Hex32.SIZE_BYTES + DynamicBytesType.pad(buf, start + len, len);
     }
 
     @Override
     public String decode(HexData data) {
-        ByteBuffer buffer = ByteBuffer.wrap(
-                DynamicBytesType.DEFAULT.decode(data));
+        byte[] bytes = data.getBytes();
+
+        return decode(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public String decode(byte[] data, int offset, int length) {
+        int len = DynamicBytesType.readLength(data, offset, length);
+        int start = offset + Hex32.SIZE_BYTES;
+
+        if (isAscii(data, start, len))
+            return new String(data, start, len, StandardCharsets.US_ASCII);
 
         try {
-            return UTF8_CHARSET.newDecoder().decode(buffer).toString();
+            return UTF8_CHARSET.newDecoder().decode(ByteBuffer.wrap(data, start, len)).toString();
         } catch (CharacterCodingException e) {
             throw new RuntimeException(
-                    "Incorrect 'UTF-8' character encoding: " + data, e);
+                    "Incorrect 'UTF-8' character encoding: " + new HexData(Arrays.copyOfRange(data, start, start + len)), e);
+        }
+    }
+
+    private static boolean isAscii(byte[] data, int from, int len) {
+        for (int i = from; i < from + len; i++) {
+            if (data[i] < 0)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Count UTF-8 bytes of a string, where an unpaired surrogate is replaced with {@code '?'},
+     * same as {@link String#getBytes(Charset)} does.
+     */
+    static int utf8Length(CharSequence str) {
+        int n = str.length();
+        int len = n;
+        int i = 0;
+
+        while (i < n && str.charAt(i) < 0x80) {
+            i++;
+        }
+
+        for (; i < n; i++) {
+            char c = str.charAt(i);
+
+            if (c < 0x80)
+                continue;
+
+            if (c < 0x800) {
+                len += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(str.charAt(i + 1))) {
+                len += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                len += 2;
+            }
+        }
+
+        return len;
+    }
+
+    /**
+     * Write UTF-8 bytes of a string.
+     *
+     * @return position after the last written byte
+     */
+    static int writeUtf8(CharSequence str, byte[] buf, int pos) {
+        int n = str.length();
+        int i = 0;
+
+        for (char c; i < n && (c = str.charAt(i)) < 0x80; i++) {
+            buf[pos++] = (byte) c;
         }
+
+        for (; i < n; i++) {
+            char c = str.charAt(i);
+
+            if (c < 0x80) {
+                buf[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xc0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(str.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, str.charAt(++i));
+
+                buf[pos++] = (byte) (0xf0 | (cp >> 18));
+                buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                buf[pos++] = (byte) (0x80 | (cp & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                buf[pos++] = '?';
+            } else {
+                buf[pos++] = (byte) (0xe0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buf[pos++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+
+        return pos;
     }
 
     @Override
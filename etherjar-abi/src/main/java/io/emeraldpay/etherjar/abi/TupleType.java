@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.abi;
+
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * A tuple (i.e. a Solidity struct) of different component types, like {@code (address,uint256,bytes)}.
+ *
+ * <p>A tuple is static if all its components are static, see {@link StaticTupleType}, otherwise
+ * it's dynamic, see {@link DynamicTupleType}. Values are represented as an {@code Object[]} with
+ * an element per component.
+ *
+ * <p>Components are encoded as head and tail parts, same as parameters of a method call. The encoder
+ * computes offsets of the tail parts while writing them, so the whole value goes into a single array.
+ */
+public abstract class TupleType implements Type<Object[]> {
+
+    final static String NAME_PREFIX = "(";
+
+    final static String NAME_POSTFIX = ")";
+
+    /**
+     * Try to parse a {@link TupleType} string representation (either canonical form or not).
+     *
+     * @param repo a {@link Type} parsers repository
+     * @param str a string
+     * @return a {@link TupleType} instance is packed as {@link Optional} value,
+     * or {@link Optional#empty()} instead
+     * @throws NullPointerException if a {@code str} is {@code null}
+     * @throws IllegalArgumentException if a {@link TupleType} has invalid input
+     * @see #getCanonicalName()
+     */
+    public static Optional<TupleType> from(Type.Repository repo, String str) {
+        if (!str.startsWith(NAME_PREFIX) || !str.endsWith(NAME_POSTFIX))
+            return Optional.empty();
+
+        List<String> names = splitTypes(str.substring(1, str.length() - 1));
+
+        if (names.isEmpty())
+            throw new IllegalArgumentException("Empty tuple type: " + str);
+
+        List<Type> types = new ArrayList<>(names.size());
+
+        for (String name : names) {
+            Optional<Type> type = repo.search(name);
+
+            if (!type.isPresent())
+                throw new IllegalArgumentException("Unknown tuple component type: " + name);
+
+            types.add(type.get());
+        }
+
+        return Optional.of(of(types));
+    }
+
+    /**
+     * Split a comma separated list of types, like {@code address,(uint256,bytes)[]}, ignoring commas
+     * inside nested tuples.
+     *
+     * @param str a list of types
+     * @return types string representations, or an empty list for an empty string
+     * @throws IllegalArgumentException if parentheses are not balanced
+     */
+    public static List<String> splitTypes(String str) {
+        if (str.isEmpty())
+            return Collections.emptyList();
+
+        List<String> result = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                if (--depth < 0)
+                    throw new IllegalArgumentException("Unbalanced parentheses in types: " + str);
+            } else if (c == ',' && depth == 0) {
+                result.add(str.substring(start, i));
+                start = i + 1;
+            }
+        }
+
+        if (depth != 0)
+            throw new IllegalArgumentException("Unbalanced parentheses in types: " + str);
+
+        result.add(str.substring(start));
+
+        return result;
+    }
+
+    /**
+     * Create a static or a dynamic tuple, depending on the components types.
+     *
+     * @param types components types
+     * @return a tuple type
+     */
+    public static TupleType of(Type... types) {
+        return of(Arrays.asList(types));
+    }
+
+    /**
+     * Create a static or a dynamic tuple, depending on the components types.
+     *
+     * @param types components types
+     * @return a tuple type
+     */
+    public static TupleType of(List<? extends Type> types) {
+        if (types.stream().allMatch(Type::isStatic))
+            return new StaticTupleType(types);
+
+        return new DynamicTupleType(types);
+    }
+
+    private final List<Type> types;
+
+    private final Type[] components;
+
+    private final int[] headOffsets;
+
+    private final int headSize;
+
+    TupleType(List<? extends Type> types) {
+        if (types.isEmpty())
+            throw new IllegalArgumentException("Empty tuple type");
+
+        this.types = Collections.unmodifiableList(new ArrayList<>(types));
+        this.components = this.types.toArray(new Type[0]);
+        this.headOffsets = new int[components.length];
+
+        int offset = 0;
+
+        for (int i = 0; i < components.length; i++) {
+            headOffsets[i] = offset;
+            offset += components[i].getFixedSize();
+        }
+
+        this.headSize = offset;
+    }
+
+    /**
+     * @return components types
+     */
+    public List<Type> getTypes() {
+        return types;
+    }
+
+    /**
+     * @return size of the head part in bytes, which is the full size for a static tuple
+     */
+    public int getHeadSize() {
+        return headSize;
+    }
+
+    @Override
+    public String getCanonicalName() {
+        return types.stream().map(Type::getCanonicalName)
+                .collect(Collectors.joining(",", NAME_PREFIX, NAME_POSTFIX));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int getEncodedSize(Object[] values) {
+        checkValues(values);
+
+        int size = headSize;
+
+        for (int i = 0; i < components.length; i++) {
+            if (components[i].isDynamic())
+                size += components[i].getEncodedSize(values[i]);
+        }
+
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int encodeTo(Object[] values, byte[] buf, int offset) {
+        checkValues(values);
+
+        int tail = headSize;
+
+        for (int i = 0; i < components.length; i++) {
+            Type type = components[i];
+
+            if (type.isDynamic()) {
+                writeOffset(buf, offset + headOffsets[i], tail);
+                tail += type.encodeTo(values[i], buf, offset + tail);
+            } else {
+                type.encodeTo(values[i], buf, offset + headOffsets[i]);
+            }
+        }
+
+        return tail;
+    }
+
+    @Override
+    public HexData encode(Object[] values) {
+        byte[] buf = new byte[getEncodedSize(values)];
+
+        encodeTo(values, buf, 0);
+
+        return new HexData(buf);
+    }
+
+    @Override
+    public Object[] decode(HexData data) {
+        byte[] bytes = data.getBytes();
+
+        if (bytes.length < headSize)
+            throw new IllegalArgumentException("Insufficient data length to decode tuple: " + bytes.length);
+
+        if (isStatic() && bytes.length != headSize)
+            throw new IllegalArgumentException("Wrong data length to decode tuple: " + bytes.length);
+
+        Object[] result = new Object[components.length];
+        int[] tails = readTailOffsets(bytes, 0, bytes.length, components, headOffsets, headSize);
+        int dynamic = 0;
+
+        for (int i = 0; i < components.length; i++) {
+            Type type = components[i];
+
+            if (type.isDynamic()) {
+                int from = tails[dynamic];
+                int to = dynamic + 1 < tails.length ? tails[dynamic + 1] : bytes.length;
+
+                result[i] = type.decode(bytes, from, to - from);
+                dynamic++;
+            } else {
+                int pos = headOffsets[i];
+
+                result[i] = type.decode(bytes, pos, type.getFixedSize());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Read offsets of the tail parts of values encoded as head and tail parts, like tuple components or method
+     * parameters, and check they are consecutive and the first one is right after the head part.
+     *
+     * @param data an array with encoded data
+     * @param offset position of the encoded values in the data
+     * @param length length of the encoded values
+     * @param types types of the values
+     * @param headOffsets positions of the values in the head part, relative to the offset
+     * @param headSize size of the head part
+     * @return offsets of the tail parts of the dynamic values, relative to the offset
+     * @throws IllegalArgumentException if an offset is invalid
+     */
+    public static int[] readTailOffsets(byte[] data, int offset, int length,
+                                        Type[] types, int[] headOffsets, int headSize) {
+        int count = 0;
+
+        for (Type type : types) {
+            if (type.isDynamic())
+                count++;
+        }
+
+        int[] result = new int[count];
+        int dynamic = 0;
+        int prev = -1;
+
+        for (int i = 0; i < types.length; i++) {
+            if (types[i].isStatic())
+                continue;
+
+            int value = readOffset(data, offset + headOffsets[i]);
+
+            if (value < headSize || value >= length || value <= prev)
+                throw new IllegalArgumentException("Illegal tail offset: " + value);
+
+            result[dynamic++] = value;
+            prev = value;
+        }
+
+        if (count > 0 && result[0] != headSize)
+            throw new IllegalArgumentException("Illegal tail offset: " + result[0]);
+
+        return result;
+    }
+
+    private void checkValues(Object[] values) {
+        if (values.length != components.length)
+            throw new IllegalArgumentException("Wrong number of tuple values: " + values.length);
+    }
+
+    /**
+     * Read a non-negative 32-bit offset or length value.
+     *
+     * @param data an array with encoded data
+     * @param pos position of the {@link Hex32} value
+     * @return the value
+     * @throws IllegalArgumentException if the data is too short or the value doesn't fit into an int
+     */
+    public static int readOffset(byte[] data, int pos) {
+        int end = pos + Hex32.SIZE_BYTES;
+
+        if (end > data.length)
+            throw new IllegalArgumentException("Insufficient data length to read offset at " + pos);
+
+        for (int i = pos; i < end - 4; i++) {
+            if (data[i] != 0)
+                throw new IllegalArgumentException("Illegal offset value at " + pos);
+        }
+
+        int value = ((data[end - 4] & 0xff) << 24)
+                | ((data[end - 3] & 0xff) << 16)
+                | ((data[end - 2] & 0xff) << 8)
+                | (data[end - 1] & 0xff);
+
+        if (value < 0)
+            throw new IllegalArgumentException("Illegal offset value at " + pos);
+
+        return value;
+    }
+
+    /**
+     * Write a non-negative 32-bit offset or length value as a {@link Hex32}.
+     *
+     * @param buf a target array
+     * @param pos position of the {@link Hex32} value
+     * @param value the value
+     */
+    public static void writeOffset(byte[] buf, int pos, int value) {
+        int end = pos + Hex32.SIZE_BYTES;
+
+        Arrays.fill(buf, pos, end - 4, (byte) 0);
+
+        buf[end - 4] = (byte) (value >>> 24);
+        buf[end - 3] = (byte) (value >>> 16);
+        buf[end - 2] = (byte) (value >>> 8);
+        buf[end - 1] = (byte) value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), types);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (Objects.isNull(obj)) return false;
+
+        if (!Objects.equals(getClass(), obj.getClass()))
+            return false;
+
+        TupleType other = (TupleType) obj;
+
+        return Objects.equals(types, other.types);
+    }
+
+    @Override
+    public String toString() {
+        return getCanonicalName();
+    }
+}
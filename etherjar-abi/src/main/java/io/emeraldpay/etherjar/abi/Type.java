@@ -21,6 +21,7 @@ import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -168,7 +169,7 @@ public interface Type<T> {
      * @see #decodeLength(Hex32)
      */
     static Hex32 encodeLength(BigInteger val) {
-        return new UIntType().encodeSimple(val);
+        return UIntType.DEFAULT.encodeSimple(val);
     }
 
     /**
@@ -180,7 +181,7 @@ public interface Type<T> {
      * @see #encodeLength(BigInteger)
      */
     static BigInteger decodeLength(Hex32 hex32) {
-        return new UIntType().decodeSimple(hex32);
+        return UIntType.DEFAULT.decodeSimple(hex32);
     }
 
     /**
@@ -261,6 +262,34 @@ public interface Type<T> {
      */
     HexData encode(T obj);
 
+    /**
+     * Get number of bytes required to encode an object, including the tail part of dynamic types.
+     *
+     * @param obj an object
+     * @return size of the encoded object in bytes
+     * @see #encodeTo(Object, byte[], int)
+     */
+    default int getEncodedSize(T obj) {
+        return isStatic() ? getFixedSize() : encode(obj).getSize();
+    }
+
+    /**
+     * Encode an object directly into an array, so a nested value (ex. a tuple or an array)
+     * is built in a single buffer.
+     *
+     * @param obj an object
+     * @param buf a target array with at least {@link #getEncodedSize(Object)} bytes after {@code offset}
+     * @param offset position in the target array
+     * @return number of bytes written
+     */
+    default int encodeTo(T obj, byte[] buf, int offset) {
+        HexData data = encode(obj);
+
+        data.copyTo(buf, offset);
+
+        return data.getSize();
+    }
+
     /**
      * Decode a hex data to an object.
      *
@@ -268,4 +297,17 @@ public interface Type<T> {
      * @return a decoded object
      */
     T decode(HexData data);
+
+    /**
+     * Decode an object from a part of an array, so a nested value (ex. a string in a tuple) is decoded
+     * straight from the enclosing data when the type supports it.
+     *
+     * @param data an array with encoded data
+     * @param offset position of the encoded object
+     * @param length size of the encoded object in bytes
+     * @return a decoded object
+     */
+    default T decode(byte[] data, int offset, int length) {
+        return decode(new HexData(Arrays.copyOfRange(data, offset, offset + length)));
+    }
 }
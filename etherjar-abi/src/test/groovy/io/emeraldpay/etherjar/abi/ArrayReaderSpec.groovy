@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.abi
+
+import io.emeraldpay.etherjar.hex.HexData
+import spock.lang.Specification
+
+class ArrayReaderSpec extends Specification {
+
+    def repo = CachingRepository.getDefault()
+
+    def "should read static elements one by one"() {
+        def type = repo.search('uint256[]').get() as DynamicArrayType
+        def data = type.encode([1, 2, 3] as BigInteger[])
+
+        when:
+        def reader = type.read(data)
+
+        then:
+        reader.size() == 3
+        reader.hasNext()
+        reader.next() == 1
+        reader.next() == 2
+        reader.getIndex() == 2
+        reader.next() == 3
+        !reader.hasNext()
+
+        when:
+        reader.next()
+
+        then:
+        thrown NoSuchElementException
+    }
+
+    def "should read dynamic elements one by one"() {
+        def type = repo.search('string[]').get() as DynamicArrayType
+        def data = type.encode(['one', 'two', 'three'] as String[])
+
+        when:
+        def reader = type.read(data)
+
+        then:
+        reader.size() == 3
+        reader.next() == 'one'
+        reader.next() == 'two'
+        reader.next() == 'three'
+        !reader.hasNext()
+    }
+
+    def "should skip elements"() {
+        def type = repo.search(str).get() as DynamicArrayType
+        def data = type.encode(values as Object[])
+
+        when:
+        def reader = type.read(data)
+        def skipped = reader.skip(2)
+
+        then:
+        skipped == 2
+        reader.next() == values[2]
+        reader.skip(10) == 1
+        !reader.hasNext()
+
+        where:
+        str         | values
+        'uint8[]'   | [1, 2, 3, 4] as BigInteger[]
+        'string[]'  | ['a', 'b', 'c', 'd'] as String[]
+    }
+
+    def "should stream remaining elements"() {
+        def type = repo.search('uint64[]').get() as DynamicArrayType
+        def reader = type.read(type.encode((1..100).collect { BigInteger.valueOf(it) } as BigInteger[]))
+
+        when:
+        reader.next()
+        def sum = reader.stream().filter { it > 50 }.mapToLong { it.longValue() }.sum()
+
+        then:
+        sum == (51..100).sum()
+        !reader.hasNext()
+    }
+
+    def "should read empty array"() {
+        def type = repo.search('address[]').get() as DynamicArrayType
+
+        when:
+        def reader = type.read(Type.encodeLength(0))
+
+        then:
+        reader.size() == 0
+        !reader.hasNext()
+        reader.stream().count() == 0
+    }
+
+    def "should catch wrong data"() {
+        def type = repo.search(str).get() as DynamicArrayType
+
+        when:
+        def reader = type.read(HexData.from(hex))
+        reader.next()
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        str         | hex
+        'uint256[]' | '0x'
+        'uint256[]' | Type.encodeLength(2).concat(Type.encodeLength(1)).toHex()
+        'string[]'  | Type.encodeLength(1).concat(Type.encodeLength(0)).toHex()
+        'string[]'  | Type.encodeLength(1).concat(Type.encodeLength(64), Type.encodeLength(0)).toHex()
+    }
+}
@@ -188,6 +188,42 @@ class ArrayTypeSpec extends Specification {
         '_[1]'   | Type.encodeLength(1).concat(BoolType.DEFAULT.encode(BoolType.FALSE), BoolType.DEFAULT.encode(BoolType.FALSE))
     }
 
+    def "should decode static arrays into primitive values"() {
+        def repo = CachingRepository.getDefault()
+        def longs = repo.search('uint32[3]').get() as ArrayType
+        def bools = repo.search('bool[2]').get() as ArrayType
+        def numbers = repo.search('int256[2]').get() as ArrayType
+
+        expect:
+        longs.decodeLongs(longs.encode([1, 2, 4294967295L] as BigInteger[])) == [1, 2, 4294967295L] as long[]
+        bools.decodeBooleans(bools.encode([BoolType.FALSE, BoolType.TRUE] as BigInteger[])) == [false, true] as boolean[]
+        numbers.decodeNumbers(numbers.encode([-1, 5] as BigInteger[])).toArray() == [-1, 5] as BigInteger[]
+    }
+
+    def "should decode fixed-point arrays into primitive values"() {
+        def obj = CachingRepository.getDefault().search('ufixed64x96[2]').get() as ArrayType
+        def data = obj.encode([1.5, 0.0009765625] as BigDecimal[])
+
+        expect:
+        obj.decodeDoubles(data) == [1.5D, 0.0009765625D] as double[]
+
+        when:
+        obj.decodeScaled(data)
+
+        then:
+        thrown ArithmeticException
+    }
+
+    def "should catch wrong data length for primitive values"() {
+        def obj = CachingRepository.getDefault().search('uint32[3]').get() as ArrayType
+
+        when:
+        obj.decodeLongs(Type.encodeLength(1))
+
+        then:
+        thrown IllegalArgumentException
+    }
+
     def "should catch empty data to decode"() {
         when:
         DEFAULT.decode(HexData.empty())
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.abi
+
+import spock.lang.Specification
+
+import java.util.function.Function
+
+class CachingRepositorySpec extends Specification {
+
+    def "should parse standard types"() {
+        def repo = new CachingRepository()
+
+        when:
+        def opt = repo.search str
+
+        then:
+        opt.present
+        opt.get().canonicalName == canonical
+
+        where:
+        str         | canonical
+        'uint'      | 'uint256'
+        'uint8'     | 'uint8'
+        'int'       | 'int256'
+        'address'   | 'address'
+        'bool'      | 'bool'
+        'byte'      | 'bytes1'
+        'bytes32'   | 'bytes32'
+        'bytes'     | 'bytes'
+        'string'    | 'string'
+        'function'  | 'function'
+        'ufixed'    | 'ufixed128x128'
+        'address[]' | 'address[]'
+        'uint8[3]'  | 'uint8[3]'
+    }
+
+    def "should parse each type once"() {
+        def calls = 0
+        def type = Stub Type
+        Type.Repository parent = { -> [{ calls++; Optional.of type } as Function] }
+        def repo = new CachingRepository(parent, 16)
+
+        when:
+        def first = repo.search 'uint256'
+        def second = repo.search 'uint256'
+
+        then:
+        first.get() == type
+        second.get() == type
+        calls == 1
+        repo.hitCount == 1
+        repo.missCount == 1
+        repo.size() == 1
+    }
+
+    def "should cache unknown types"() {
+        def repo = new CachingRepository()
+
+        when:
+        def first = repo.search 'foo'
+        def second = repo.search 'foo'
+
+        then:
+        !first.present
+        !second.present
+        repo.hitCount == 1
+    }
+
+    def "should keep cache bounded"() {
+        def repo = new CachingRepository(2)
+
+        when:
+        ['uint8', 'uint16', 'uint32', 'uint64'].each { repo.search it }
+
+        then:
+        repo.size() == 2
+        repo.missCount == 4
+    }
+
+    def "should share entry for aliases"() {
+        def repo = new CachingRepository()
+
+        when:
+        def types = ['uint', 'uint256', ' uint256 ', 'uint256\n'].collect { repo.search it }
+
+        then:
+        types.every { it.get().canonicalName == 'uint256' }
+        repo.size() == 1
+        repo.missCount == 1
+        repo.hitCount == 3
+    }
+
+    def "should normalize type keys"() {
+        expect:
+        CachingRepository.normalize(str) == key
+
+        where:
+        str                 | key
+        'uint'              | 'uint256'
+        ' int '             | 'int256'
+        'byte'              | 'bytes1'
+        'ufixed'            | 'ufixed128x128'
+        'fixed[2]'          | 'fixed128x128[2]'
+        'uint[]'            | 'uint256[]'
+        '(uint,address)'    | '(uint256,address)'
+        'uint8'             | 'uint8'
+        'ufixed128x18'      | 'ufixed128x18'
+        'bytes'             | 'bytes'
+        'address'           | 'address'
+    }
+
+    def "should evict least recently used"() {
+        def repo = new CachingRepository(2)
+
+        when:
+        repo.search 'uint8'
+        repo.search 'uint16'
+        repo.search 'uint8'
+        repo.search 'uint32'
+        repo.search 'uint8'
+
+        then:
+        repo.hitCount == 2
+        repo.missCount == 3
+
+        when:
+        repo.search 'uint16'
+
+        then:
+        repo.missCount == 4
+        repo.size() == 2
+    }
+
+    def "should reset stats on clear"() {
+        def repo = new CachingRepository()
+
+        when:
+        repo.search 'uint8'
+        repo.search 'uint8'
+        repo.clear()
+
+        then:
+        repo.size() == 0
+        repo.hitCount == 0
+        repo.missCount == 0
+    }
+
+    def "should catch wrong cache size"() {
+        when:
+        new CachingRepository(0)
+
+        then:
+        thrown IllegalArgumentException
+    }
+}
@@ -17,6 +17,7 @@
 
 package io.emeraldpay.etherjar.abi
 
+import io.emeraldpay.etherjar.hex.Hex32
 import spock.lang.Specification
 
 class DecimalTypeTest extends Specification {
@@ -251,6 +252,83 @@ class DecimalTypeTest extends Specification {
         128 | 128   | true  | 1.5   | '0x0000000000000000000000000000000180000000000000000000000000000000'
     }
 
+    def "should decode to the same value as division"() {
+        def type = new UFixedType(m, n)
+        def raw = new BigInteger(hex.substring(2), 16)
+
+        when:
+        def res = type.decodeSimple Hex32.from(hex)
+
+        then:
+        res == new BigDecimal(raw).divide(new BigDecimal(BigInteger.ONE.shiftLeft(n)))
+        res.scale() == new BigDecimal(raw).divide(new BigDecimal(BigInteger.ONE.shiftLeft(n))).scale()
+
+        where:
+        m   | n   | hex
+        8   | 8   | '0x0000000000000000000000000000000000000000000000000000000000000000'
+        8   | 8   | '0x0000000000000000000000000000000000000000000000000000000000000100'
+        8   | 8   | '0x0000000000000000000000000000000000000000000000000000000000000001'
+        32  | 32  | '0x000000000000000000000000000000000000000000000000ffffffffffffffff'
+        64  | 96  | '0x0000000000000000000000000000000000000001000000000000000000000000'
+        64  | 96  | '0x00000000000000000000000000000000000000000000000000000000000003e8'
+        128 | 128 | '0xffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff'
+    }
+
+    def "should decode raw values"() {
+        def type = new FixedType(m, n)
+
+        expect:
+        type.decodeScaled(type.encodeSimple(val as BigDecimal)) == raw
+        type.toDecimal(raw as long) == val as BigDecimal
+        type.toDecimal(raw as BigInteger) == val as BigDecimal
+
+        where:
+        m   | n   | val       | raw
+        8   | 8   | -1.5      | -384
+        8   | 8   | 0.5       | 128
+        32  | 32  | 1         | 4294967296
+        32  | 32  | -0.25     | -1073741824
+        128 | 128 | new BigDecimal('-7.888609052210118054117285652827862296732064351090230047702789306640625E-31') | -268435456
+    }
+
+    def "should catch raw value out of long range"() {
+        def type = new UFixedType(64, 96)
+
+        when:
+        type.decodeScaled(type.encodeSimple(1.5G))
+
+        then:
+        thrown ArithmeticException
+
+        when:
+        new UFixedType(32, 32).decodeScaled(Hex32.from('0x000000000000000000000000000000000000000000000000ffffffffffffffff'))
+
+        then:
+        thrown ArithmeticException
+
+        when:
+        new UFixedType(32, 32).decodeScaled(Hex32.from('0x0000000000000000000000000000000000000000000000010000000000000000'))
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should decode double values"() {
+        def type = sign ? new FixedType(m, n) : new UFixedType(m, n)
+
+        expect:
+        type.decodeDouble(type.encodeSimple(val as BigDecimal)) == val as double
+
+        where:
+        m   | n   | sign  | val
+        8   | 8   | true  | -123.625
+        16  | 16  | false | 65535.9999847412109375
+        32  | 32  | false | 4294967295.5
+        64  | 96  | false | 79228162514.25
+        64  | 96  | false | 0.000001430511474609375
+        128 | 128 | true  | -170141183460469231731687303715884105727
+    }
+
     def "should round before encode"() {
         def obj = new DecimalTypeImpl(16) {
 
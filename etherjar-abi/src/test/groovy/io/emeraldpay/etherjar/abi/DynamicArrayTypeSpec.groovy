@@ -17,6 +17,8 @@
 
 package io.emeraldpay.etherjar.abi
 
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.hex.Hex32
 import io.emeraldpay.etherjar.hex.HexData
 import spock.lang.Shared
 import spock.lang.Specification
@@ -83,14 +85,16 @@ class DynamicArrayTypeSpec extends Specification {
         thrown IllegalArgumentException
     }
 
-    def "should detect dynamic array wrapped types"() {
-        def parser = { Optional.of({ true } as Type) } as Function
+    def "should accept dynamic array wrapped types"() {
+        def parser = { Optional.of(DynamicBytesType.DEFAULT) } as Function
 
         when:
-        DynamicArrayType.from({ -> [parser] }, '_[]')
+        def opt = DynamicArrayType.from({ -> [parser] }, '_[]')
 
         then:
-        thrown IllegalArgumentException
+        opt.present
+        opt.get().wrappedType == DynamicBytesType.DEFAULT
+        opt.get().canonicalName == 'bytes[]'
     }
 
     def "should create a correct default instance"() {
@@ -146,6 +150,179 @@ class DynamicArrayTypeSpec extends Specification {
         '_[]'   | Type.encodeLength(2).concat(BoolType.DEFAULT.encode(BoolType.TRUE))
     }
 
+    def "should encode & decode nested dynamic arrays"() {
+        def obj = CachingRepository.getDefault().search('uint256[][]').get() as DynamicArrayType
+
+        def arr = [[1, 2] as BigInteger[], [3] as BigInteger[]] as Object[]
+
+        def hex = HexData.from('0x' +
+                '0000000000000000000000000000000000000000000000000000000000000002' +
+                '0000000000000000000000000000000000000000000000000000000000000040' +
+                '00000000000000000000000000000000000000000000000000000000000000a0' +
+                '0000000000000000000000000000000000000000000000000000000000000002' +
+                '0000000000000000000000000000000000000000000000000000000000000001' +
+                '0000000000000000000000000000000000000000000000000000000000000002' +
+                '0000000000000000000000000000000000000000000000000000000000000001' +
+                '0000000000000000000000000000000000000000000000000000000000000003')
+
+        when:
+        def data = obj.encode(arr)
+        def res = obj.decode(hex)
+
+        then:
+        data == hex
+        obj.getEncodedSize(arr) == hex.size
+        res.length == 2
+        Arrays.equals(res[0] as Object[], [1, 2] as Object[])
+        Arrays.equals(res[1] as Object[], [3] as Object[])
+    }
+
+    def "should catch wrong offsets of dynamic elements"() {
+        def obj = [DynamicBytesType.DEFAULT] as DynamicArrayType<byte[]>
+
+        when:
+        obj.decode HexData.from('0x' +
+                '0000000000000000000000000000000000000000000000000000000000000001' +
+                '0000000000000000000000000000000000000000000000000000000000000040' +
+                '0000000000000000000000000000000000000000000000000000000000000000')
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should decode integer arrays into primitive values"() {
+        def repo = CachingRepository.getDefault()
+
+        def obj = repo.search(str).get() as DynamicArrayType
+
+        expect:
+        obj.decodeLongs(obj.encode(arr as BigInteger[])) == exp as long[]
+
+        where:
+        str         | arr                                           | exp
+        'uint64[]'  | []                                            | []
+        'uint64[]'  | [1, 1234567]                                  | [1, 1234567]
+        'uint64[]'  | [new BigInteger('18446744073709551615')]      | [-1]
+        'int8[]'    | [-128, 127, -1]                               | [-128, 127, -1]
+        'int64[]'   | [Long.MIN_VALUE]                              | [Long.MIN_VALUE]
+    }
+
+    def "should decode fixed-point arrays into primitive values"() {
+        def obj = CachingRepository.getDefault().search(str).get() as DynamicArrayType
+        def data = obj.encode(arr.collect { it as BigDecimal } as BigDecimal[])
+
+        expect:
+        obj.decodeDoubles(data) == arr.collect { it as double } as double[]
+        obj.decodeScaled(data) == raw as long[]
+
+        where:
+        str              | arr              | raw
+        'ufixed32x32[]'  | []               | []
+        'ufixed32x32[]'  | [1.5, 0.25]      | [6442450944, 1073741824]
+        'fixed128x8[]'   | [-1, 2.125]      | [-256, 544]
+    }
+
+    def "should decode uint256 array into compact values"() {
+        def obj = CachingRepository.getDefault().search('uint256[]').get() as DynamicArrayType
+        def values = [BigInteger.TWO.pow(255), BigInteger.TEN] as BigInteger[]
+
+        when:
+        def res = obj.decodeNumbers(obj.encode(values))
+
+        then:
+        res.size() == 2
+        res.get(0) == BigInteger.TWO.pow(255)
+        res.getLong(1) == 10L
+        res.toArray() == values
+    }
+
+    def "should read compact values as long"() {
+        def obj = CachingRepository.getDefault().search(str).get() as DynamicArrayType
+        def res = obj.decodeNumbers(obj.encode(values.collect { it as BigInteger } as BigInteger[]))
+
+        expect:
+        (0..<res.size()).collect { res.getLong(it) } == values
+
+        where:
+        str         | values
+        'uint256[]' | [0L, 10L, Long.MAX_VALUE]
+        'int256[]'  | [-5L, Long.MIN_VALUE, Long.MAX_VALUE]
+    }
+
+    def "should catch compact value too large for long"() {
+        def obj = CachingRepository.getDefault().search(str).get() as DynamicArrayType
+        def res = obj.decodeNumbers(obj.encode([value] as BigInteger[]))
+
+        when:
+        res.getLong(0)
+
+        then:
+        thrown ArithmeticException
+
+        where:
+        str         | value
+        'uint256[]' | BigInteger.TWO.pow(63)
+        'uint256[]' | BigInteger.TWO.pow(255)
+        'int256[]'  | BigInteger.TWO.pow(63).negate().subtract(BigInteger.ONE)
+    }
+
+    def "should decode bool and address arrays directly"() {
+        def repo = CachingRepository.getDefault()
+        def bools = repo.search('bool[]').get() as DynamicArrayType
+        def addresses = repo.search('address[]').get() as DynamicArrayType
+        def address = Address.from('0x1111111111111111111111111111111111111111')
+
+        expect:
+        bools.decodeBooleans(bools.encode([BoolType.TRUE, BoolType.FALSE] as BigInteger[])) == [true, false] as boolean[]
+        addresses.decodeAddresses(addresses.encode([address] as Address[])) == [address] as Address[]
+    }
+
+    def "should catch invalid data for primitive values"() {
+        def repo = CachingRepository.getDefault()
+        def obj = repo.search(str).get() as DynamicArrayType
+
+        when:
+        obj.decodeLongs(HexData.from(hex))
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        str         | hex
+        'uint64[]'  | Type.encodeLength(1).toHex()
+        'uint64[]'  | Type.encodeLength(1).concat(UIntType.DEFAULT.encode(BigInteger.TWO.pow(64))).toHex()
+        'int8[]'    | Type.encodeLength(1).concat(UIntType.DEFAULT.encode(BigInteger.valueOf(255))).toHex()
+    }
+
+    def "should reject non-canonical padding accepted by generic decoder"() {
+        def obj = CachingRepository.getDefault().search('uint8[]').get() as DynamicArrayType
+        def data = Type.encodeLength(1).concat(
+                Hex32.from('0xffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff05'))
+
+        expect:
+        obj.decode(data) == [BigInteger.valueOf(5)] as BigInteger[]
+
+        when:
+        obj.decodeLongs(data)
+
+        then:
+        thrown IllegalArgumentException
+
+        when:
+        obj.decodeNumbers(data)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should catch wrong type for primitive values"() {
+        when:
+        DEFAULT.decodeLongs(Type.encodeLength(0))
+
+        then:
+        thrown IllegalStateException
+    }
+
     def "should catch empty data to decode"() {
         when:
         DEFAULT.decode(HexData.empty())
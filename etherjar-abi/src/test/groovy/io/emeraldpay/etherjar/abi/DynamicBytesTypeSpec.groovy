@@ -86,6 +86,22 @@ class DynamicBytesTypeSpec extends Specification {
         [0x12] * 123                | Type.encodeLength(123).concat(HexData.from('0x' + '12' * 123 + '00' * 5))
     }
 
+    def "should decode from array range"() {
+        def data = HexData.from('0xff').concat(DynamicBytesType.DEFAULT.encode([1, 2, 3] as byte[]), HexData.from('0xff')).bytes
+
+        when:
+        def res = DynamicBytesType.DEFAULT.decode(data, 1, data.length - 2)
+
+        then:
+        res == [1, 2, 3] as byte[]
+
+        when:
+        DynamicBytesType.DEFAULT.decode(data, 1, data.length - 1)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
     def "should catch wrong data to decode"() {
         when:
         DynamicBytesType.DEFAULT.decode hex
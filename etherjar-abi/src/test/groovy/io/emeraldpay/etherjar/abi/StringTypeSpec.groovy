@@ -86,6 +86,51 @@ class StringTypeSpec extends Specification {
         '𦈘'    | Type.encodeLength(4).concat(Hex32.from('0xf0a6889800000000000000000000000000000000000000000000000000000000'))
     }
 
+    def "should encode same as java utf-8 encoder"() {
+        when:
+        def data = StringType.DEFAULT.encode(str as CharSequence)
+
+        then:
+        data == DynamicBytesType.DEFAULT.encode(str.toString().getBytes('UTF-8'))
+        StringType.DEFAULT.getEncodedSize(str as CharSequence) == data.size
+
+        where:
+        _ | str
+        _ | new StringBuilder('abc')
+        _ | 'x' * 32
+        _ | 'Привет, мир! ' * 10
+        _ | '\u007f\u0080\u07ff\u0800\uffff'
+        _ | '\ud83d\ude00 \ud83d'
+        _ | '\ude00 unpaired \ud800'
+    }
+
+    def "should encode into array at offset"() {
+        def buf = new byte[100]
+        Arrays.fill(buf, (byte) 0xff)
+
+        when:
+        def len = StringType.DEFAULT.encodeTo('ABC', buf, 4)
+
+        then:
+        len == 64
+        new HexData(Arrays.copyOfRange(buf, 4, 68)) == StringType.DEFAULT.encode('ABC')
+        buf[3] == (byte) 0xff
+        buf[68] == (byte) 0xff
+    }
+
+    def "should decode from array range"() {
+        def data = HexData.from('0xffff').concat(StringType.DEFAULT.encode(str), HexData.from('0xff')).bytes
+
+        expect:
+        StringType.DEFAULT.decode(data, 2, data.length - 3) == str
+
+        where:
+        _ | str
+        _ | ''
+        _ | 'ABC'
+        _ | '௵ 𦈘'
+    }
+
     def "should catch incorrect utf-8 encoded data"() {
         when:
         StringType.DEFAULT.decode hex
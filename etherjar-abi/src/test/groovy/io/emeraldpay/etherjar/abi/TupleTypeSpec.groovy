@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.abi
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.hex.HexData
+import spock.lang.Shared
+import spock.lang.Specification
+
+class TupleTypeSpec extends Specification {
+
+    @Shared Type.Repository repo = new CachingRepository()
+
+    @Shared Address ADDRESS = Address.from('0x1111111111111111111111111111111111111111')
+
+    def "should parse string representation"() {
+        when:
+        def opt = TupleType.from(repo, input)
+
+        then:
+        opt.present
+        opt.get().canonicalName == canonical
+        opt.get().class == type
+
+        where:
+        input                       | canonical                         | type
+        '(uint,bool)'               | '(uint256,bool)'                  | StaticTupleType
+        '(address,bytes)'           | '(address,bytes)'                 | DynamicTupleType
+        '(uint8,(address,uint)[])'  | '(uint8,(address,uint256)[])'     | DynamicTupleType
+        '((uint8,bool),int16)'      | '((uint8,bool),int16)'            | StaticTupleType
+    }
+
+    def "should ignore wrong string representation"() {
+        expect:
+        !TupleType.from(repo, input).present
+
+        where:
+        _ | input
+        _ | 'uint256'
+        _ | '(uint256,bool)[]'
+        _ | 'uint256)'
+    }
+
+    def "should detect wrong inputs in string representation"() {
+        when:
+        TupleType.from(repo, input)
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        _ | input
+        _ | '()'
+        _ | '(uint256,)'
+        _ | '(uint256))'
+        _ | '(foo,bool)'
+    }
+
+    def "should split types ignoring nested commas"() {
+        expect:
+        TupleType.splitTypes(input) == exp
+
+        where:
+        input                           | exp
+        ''                              | []
+        'uint256'                       | ['uint256']
+        'address,(uint256,bytes)[],bool'| ['address', '(uint256,bytes)[]', 'bool']
+        '((a,b),c),d'                   | ['((a,b),c)', 'd']
+    }
+
+    def "should parse arrays of tuples"() {
+        expect:
+        repo.search('(address,bytes)[]').get() == [TupleType.of(AddressType.DEFAULT, DynamicBytesType.DEFAULT)] as DynamicArrayType
+        repo.search('(uint256,bool)[2]').get().fixedSize == 128
+    }
+
+    def "should encode & decode static tuple"() {
+        def obj = TupleType.of(UIntType.DEFAULT, BoolType.DEFAULT)
+        def values = [BigInteger.valueOf(69), BoolType.TRUE] as Object[]
+        def hex = HexData.from('0x' +
+                '0000000000000000000000000000000000000000000000000000000000000045' +
+                '0000000000000000000000000000000000000000000000000000000000000001')
+
+        when:
+        def data = obj.encode(values)
+        def res = obj.decode(data)
+
+        then:
+        obj.static
+        obj.fixedSize == 64
+        data == hex
+        res == values
+    }
+
+    def "should encode & decode dynamic tuple"() {
+        def obj = TupleType.of(AddressType.DEFAULT, DynamicBytesType.DEFAULT, UIntType.DEFAULT)
+        def values = [ADDRESS, [0x12, 0x34] as byte[], BigInteger.ONE] as Object[]
+        def hex = HexData.from('0x' +
+                '0000000000000000000000001111111111111111111111111111111111111111' +
+                '0000000000000000000000000000000000000000000000000000000000000060' +
+                '0000000000000000000000000000000000000000000000000000000000000001' +
+                '0000000000000000000000000000000000000000000000000000000000000002' +
+                '1234000000000000000000000000000000000000000000000000000000000000')
+
+        when:
+        def data = obj.encode(values)
+        def res = obj.decode(data)
+
+        then:
+        obj.dynamic
+        obj.fixedSize == 32
+        obj.getEncodedSize(values) == hex.size
+        data == hex
+        res[0] == ADDRESS
+        res[1] == [0x12, 0x34] as byte[]
+        res[2] == BigInteger.ONE
+    }
+
+    def "should encode & decode array of dynamic tuples"() {
+        def obj = repo.search('(address,bytes)[]').get() as DynamicArrayType
+        def values = [[ADDRESS, [0x12, 0x34] as byte[]] as Object[]] as Object[]
+        def hex = HexData.from('0x' +
+                '0000000000000000000000000000000000000000000000000000000000000001' +
+                '0000000000000000000000000000000000000000000000000000000000000020' +
+                '0000000000000000000000001111111111111111111111111111111111111111' +
+                '0000000000000000000000000000000000000000000000000000000000000040' +
+                '0000000000000000000000000000000000000000000000000000000000000002' +
+                '1234000000000000000000000000000000000000000000000000000000000000')
+
+        when:
+        def data = obj.encode(values)
+        def res = obj.decode(data)
+
+        then:
+        data == hex
+        res.length == 1
+        res[0][0] == ADDRESS
+        res[0][1] == [0x12, 0x34] as byte[]
+    }
+
+    def "should catch wrong number of values"() {
+        def obj = TupleType.of(UIntType.DEFAULT, BoolType.DEFAULT)
+
+        when:
+        obj.encode([BigInteger.ONE] as Object[])
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should catch wrong data to decode"() {
+        def obj = TupleType.of(AddressType.DEFAULT, DynamicBytesType.DEFAULT)
+
+        when:
+        obj.decode(HexData.from(hex))
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        _ | hex
+        _ | '0x0000000000000000000000001111111111111111111111111111111111111111'
+        _ | '0x0000000000000000000000001111111111111111111111111111111111111111' +
+                '0000000000000000000000000000000000000000000000000000000000000020' +
+                '0000000000000000000000000000000000000000000000000000000000000000'
+    }
+
+    def "should be equal"() {
+        expect:
+        TupleType.of(UIntType.DEFAULT, BoolType.DEFAULT) == new StaticTupleType(UIntType.DEFAULT, BoolType.DEFAULT)
+        TupleType.of(UIntType.DEFAULT, BoolType.DEFAULT).hashCode() == new StaticTupleType(UIntType.DEFAULT, BoolType.DEFAULT).hashCode()
+        TupleType.of(UIntType.DEFAULT, BoolType.DEFAULT) != TupleType.of(BoolType.DEFAULT, UIntType.DEFAULT)
+    }
+}
@@ -1,13 +1,23 @@
 package io.emeraldpay.etherjar.contract;
 
 import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.Keccak256;
 import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
-import io.emeraldpay.etherjar.rlp.RlpWriter;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 public class AddressGenerator {
 
+    /**
+     * Number of addresses generated with the same buffer by a single worker when producing a stream
+     */
+    private static final int CHUNK_SIZE = 4096;
+
     /**
      * Base contract address generation available in Ethereum from the beginning
      * as <code>CREATE (0xf0)</code> opcode
@@ -17,21 +27,7 @@ public class AddressGenerator {
      * @return address of a contract created after the execution of the tx
      */
     public Address create(Address from, Long nonce) {
-        byte[] rlp = new RlpWriter()
-            .startList()
-            .write(from.getBytes())
-            .write(nonce)
-            .closeList()
-            .toByteArray();
-
-        Keccak.Digest256 keccak = new Keccak.Digest256();
-        keccak.update(rlp);
-        byte[] digest = keccak.digest();
-
-        byte[] address = new byte[Address.SIZE_BYTES];
-        System.arraycopy(digest, digest.length - address.length, address, 0, address.length);
-
-        return Address.from(address);
+        return forCreate(from).generate(nonce);
     }
 
     /**
@@ -49,22 +45,289 @@ public class AddressGenerator {
         // see https://eips.ethereum.org/EIPS/eip-1014
         // keccak256( 0xff ++ address ++ salt ++ keccak256(init_code))[12:]
         //
+        return forCreate2(from, initCode).generate(salt);
+    }
+
+    /**
+     * Same as {@link #create2(Address, Hex32, HexData)} but with an already calculated hash of the init code.
+     *
+     * @param from contract creator
+     * @param salt user provided randomization value
+     * @param initCodeHash <code>keccak256(init_code)</code>
+     * @return address of a contract created after the execution of the tx
+     */
+    public Address create2WithHash(Address from, Hex32 salt, Hex32 initCodeHash) {
+        return forCreate2WithHash(from, initCodeHash).generate(salt);
+    }
 
-        Keccak.Digest256 keccak = new Keccak.Digest256();
+    /**
+     * Prepare a generator of <code>CREATE</code> addresses for multiple nonces of the same creator.
+     *
+     * @param from contract creator
+     * @return generator
+     */
+    public CreateGenerator forCreate(Address from) {
+        return new CreateGenerator(from);
+    }
 
-        keccak.update(initCode.getBytes());
-        byte[] initCodeHash = keccak.digest();
+    /**
+     * Prepare a generator of <code>CREATE2</code> addresses for multiple salts with the same creator and init code.
+     * Useful to predict counterfactual addresses or to search for a vanity address.
+     *
+     * @param from contract creator
+     * @param initCode contract init code
+     * @return generator
+     */
+    public Create2Generator forCreate2(Address from, HexData initCode) {
+        return new Create2Generator(from, Hex32.from(Keccak256.hash(initCode.getBytes())));
+    }
 
-        keccak.reset();
-        keccak.update((byte)0xff);
-        keccak.update(from.getBytes());
-        keccak.update(salt.getBytes());
-        keccak.update(initCodeHash);
-        byte[] digest = keccak.digest();
+    /**
+     * Prepare a generator of <code>CREATE2</code> addresses for multiple salts with the same creator and init code.
+     *
+     * @param from contract creator
+     * @param initCodeHash <code>keccak256(init_code)</code>
+     * @return generator
+     */
+    public Create2Generator forCreate2WithHash(Address from, Hex32 initCodeHash) {
+        return new Create2Generator(from, initCodeHash);
+    }
 
+    private static Address extractAddress(byte[] digest) {
         byte[] address = new byte[Address.SIZE_BYTES];
         System.arraycopy(digest, digest.length - address.length, address, 0, address.length);
-
         return Address.from(address);
     }
+
+    /**
+     * Split the range into chunks, each processed with its own buffer, so the resulting stream can be executed
+     * in parallel without sharing the state between threads.
+     */
+    private static Stream<GeneratedAddress> chunked(long start, long count, boolean parallel, ChunkGenerator generator) {
+        if (start < 0 || count < 0) {
+            throw new IllegalArgumentException("Negative range: " + start + " + " + count);
+        }
+        if (count == 0) {
+            return Stream.empty();
+        }
+        long end = Math.addExact(start, count);
+        long chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        LongStream ids = LongStream.range(0, chunks);
+        if (parallel) {
+            ids = ids.parallel();
+        }
+        return ids.mapToObj(chunk -> {
+            long chunkStart = start + chunk * CHUNK_SIZE;
+            return generator.generate(chunkStart, Math.min(end, chunkStart + CHUNK_SIZE));
+        }).flatMap(List::stream);
+    }
+
+    private interface ChunkGenerator {
+        List<GeneratedAddress> generate(long start, long end);
+    }
+
+    /**
+     * A generated address with the value it was generated from.
+     */
+    public static class GeneratedAddress {
+        private final long index;
+        private final Hex32 salt;
+        private final Address address;
+
+        public GeneratedAddress(long index, Hex32 salt, Address address) {
+            this.index = index;
+            this.salt = salt;
+            this.address = address;
+        }
+
+        /**
+         *
+         * @return nonce for <code>CREATE</code>, or offset from the base salt for <code>CREATE2</code>
+         */
+        public long getIndex() {
+            return index;
+        }
+
+        /**
+         *
+         * @return salt used for <code>CREATE2</code>, or null for <code>CREATE</code>
+         */
+        public Hex32 getSalt() {
+            return salt;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof GeneratedAddress)) return false;
+            GeneratedAddress that = (GeneratedAddress) o;
+            return index == that.index && Objects.equals(salt, that.salt) && Objects.equals(address, that.address);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, address);
+        }
+
+        @Override
+        public String toString() {
+            return "GeneratedAddress{" +
+                "index=" + index +
+                ", salt=" + salt +
+                ", address=" + address +
+                '}';
+        }
+    }
+
+    /**
+     * Generator of <code>CREATE</code> addresses for a single creator. Instead of building the RLP for each nonce
+     * it lays out <code>rlp([from, nonce])</code> once and patches only the nonce part.
+     */
+    public static class CreateGenerator {
+        // list prefix, address prefix, address, up to 9 bytes of nonce
+        private static final int BUFFER_SIZE = 1 + 1 + Address.SIZE_BYTES + 9;
+        private static final int NONCE_POS = 2 + Address.SIZE_BYTES;
+
+        private final byte[] template;
+
+        public CreateGenerator(Address from) {
+            this.template = new byte[BUFFER_SIZE];
+            this.template[1] = (byte) (0x80 + Address.SIZE_BYTES);
+            System.arraycopy(from.getBytes(), 0, template, 2, Address.SIZE_BYTES);
+        }
+
+        /**
+         *
+         * @param nonce transaction nonce
+         * @return address of a contract created at that nonce
+         */
+        public Address generate(long nonce) {
+            return generate(template.clone(), new byte[Keccak256.SIZE_BYTES], nonce);
+        }
+
+        /**
+         * Generate addresses for <code>count</code> nonces starting from <code>start</code>.
+         *
+         * @param start first nonce
+         * @param count number of nonces
+         * @param parallel true to produce a parallel stream
+         * @return stream of addresses ordered by nonce
+         */
+        public Stream<GeneratedAddress> stream(long start, long count, boolean parallel) {
+            return chunked(start, count, parallel, (from, to) -> {
+                byte[] buffer = template.clone();
+                byte[] digest = new byte[Keccak256.SIZE_BYTES];
+                List<GeneratedAddress> result = new ArrayList<>((int) (to - from));
+                for (long nonce = from; nonce < to; nonce++) {
+                    result.add(new GeneratedAddress(nonce, null, generate(buffer, digest, nonce)));
+                }
+                return result;
+            });
+        }
+
+        private Address generate(byte[] buffer, byte[] digest, long nonce) {
+            if (nonce < 0) {
+                throw new IllegalArgumentException("Negative nonce: " + nonce);
+            }
+            int pos = NONCE_POS;
+            if (nonce == 0) {
+                buffer[pos++] = (byte) 0x80;
+            } else if (nonce <= 0x7f) {
+                buffer[pos++] = (byte) nonce;
+            } else {
+                int size = (Long.SIZE - Long.numberOfLeadingZeros(nonce) + 7) / 8;
+                buffer[pos++] = (byte) (0x80 + size);
+                for (int i = size - 1; i >= 0; i--) {
+                    buffer[pos++] = (byte) (nonce >>> (i * 8));
+                }
+            }
+            buffer[0] = (byte) (0xc0 + pos - 1);
+            Keccak256.hashInto(buffer, 0, pos, digest, 0);
+            return extractAddress(digest);
+        }
+    }
+
+    /**
+     * Generator of <code>CREATE2</code> addresses for a single creator and init code. It keeps
+     * <code>0xff ++ address ++ salt ++ keccak256(init_code)</code> laid out in a buffer and patches only the salt,
+     * so the init code is hashed only once.
+     */
+    public static class Create2Generator {
+        private static final int SALT_POS = 1 + Address.SIZE_BYTES;
+        private static final int BUFFER_SIZE = SALT_POS + Hex32.SIZE_BYTES + Keccak256.SIZE_BYTES;
+
+        private final byte[] template;
+
+        public Create2Generator(Address from, Hex32 initCodeHash) {
+            this.template = new byte[BUFFER_SIZE];
+            this.template[0] = (byte) 0xff;
+            System.arraycopy(from.getBytes(), 0, template, 1, Address.SIZE_BYTES);
+            System.arraycopy(initCodeHash.getBytes(), 0, template, SALT_POS + Hex32.SIZE_BYTES, Keccak256.SIZE_BYTES);
+        }
+
+        /**
+         *
+         * @param salt user provided randomization value
+         * @return address of a contract created with that salt
+         */
+        public Address generate(Hex32 salt) {
+            byte[] buffer = template.clone();
+            System.arraycopy(salt.getBytes(), 0, buffer, SALT_POS, Hex32.SIZE_BYTES);
+            byte[] digest = new byte[Keccak256.SIZE_BYTES];
+            Keccak256.hashInto(buffer, digest);
+            return extractAddress(digest);
+        }
+
+        /**
+         * Generate addresses for salts <code>baseSalt + start</code> ... <code>baseSalt + start + count - 1</code>,
+         * where the salt is treated as an unsigned 256-bit number.
+         *
+         * @param baseSalt initial salt
+         * @param start first offset added to the base salt
+         * @param count number of salts
+         * @param parallel true to produce a parallel stream
+         * @return stream of addresses ordered by salt
+         */
+        public Stream<GeneratedAddress> stream(Hex32 baseSalt, long start, long count, boolean parallel) {
+            byte[] base = baseSalt.getBytes();
+            return chunked(start, count, parallel, (from, to) -> {
+                byte[] buffer = template.clone();
+                byte[] digest = new byte[Keccak256.SIZE_BYTES];
+                List<GeneratedAddress> result = new ArrayList<>((int) (to - from));
+                for (long i = from; i < to; i++) {
+                    System.arraycopy(base, 0, buffer, SALT_POS, Hex32.SIZE_BYTES);
+                    addTo(buffer, SALT_POS + Hex32.SIZE_BYTES, i);
+                    Keccak256.hashInto(buffer, digest);
+                    byte[] salt = new byte[Hex32.SIZE_BYTES];
+                    System.arraycopy(buffer, SALT_POS, salt, 0, Hex32.SIZE_BYTES);
+                    result.add(new GeneratedAddress(i, Hex32.from(salt), extractAddress(digest)));
+                }
+                return result;
+            });
+        }
+
+        /**
+         * Add a non-negative value to a 32-byte big-endian number, wrapping on overflow
+         *
+         * @param buffer buffer with the number
+         * @param end position right after the last (least significant) byte of the number
+         * @param value value to add
+         */
+        private static void addTo(byte[] buffer, int end, long value) {
+            int carry = 0;
+            for (int pos = end - 1; pos >= end - Hex32.SIZE_BYTES; pos--) {
+                if (value == 0 && carry == 0) {
+                    break;
+                }
+                int sum = (buffer[pos] & 0xff) + (int) (value & 0xff) + carry;
+                buffer[pos] = (byte) sum;
+                carry = sum >>> 8;
+                value >>>= 8;
+            }
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package io.emeraldpay.etherjar.contract;
+
+import io.emeraldpay.etherjar.hex.HexData;
+import io.emeraldpay.etherjar.rpc.FuturesRpcClient;
+import io.emeraldpay.etherjar.rpc.ReactorRpcClient;
+import io.emeraldpay.etherjar.rpc.RpcCall;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Executes an <code>eth_call</code> through either a Futures or a Reactor based RPC client
+ */
+interface CallDispatcher {
+
+    CompletableFuture<HexData> execute(RpcCall<String, HexData> call);
+
+    static CallDispatcher of(FuturesRpcClient client) {
+        return new FuturesDispatcher(client);
+    }
+
+    static CallDispatcher of(ReactorRpcClient client) {
+        return new ReactorDispatcher(client);
+    }
+
+    class FuturesDispatcher implements CallDispatcher {
+        private final FuturesRpcClient client;
+
+        FuturesDispatcher(FuturesRpcClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public CompletableFuture<HexData> execute(RpcCall<String, HexData> call) {
+            return client.execute(call);
+        }
+    }
+
+    class ReactorDispatcher implements CallDispatcher {
+        private final ReactorRpcClient client;
+
+        ReactorDispatcher(ReactorRpcClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public CompletableFuture<HexData> execute(RpcCall<String, HexData> call) {
+            return client.execute(call).toFuture();
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package io.emeraldpay.etherjar.contract;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.MethodId;
+import io.emeraldpay.etherjar.hex.HexData;
+import io.emeraldpay.etherjar.rpc.Commands;
+import io.emeraldpay.etherjar.rpc.FuturesRpcClient;
+import io.emeraldpay.etherjar.rpc.ReactorRpcClient;
+import io.emeraldpay.etherjar.rpc.RpcCall;
+import io.emeraldpay.etherjar.rpc.json.BlockTag;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Executes read calls with caching of their results. For how long a result is kept is defined by a {@link Policy}
+ * of the called method, ex. <code>decimals()</code> of a token never changes, so it can be cached forever, and any
+ * call made on a particular block height gives the same result.
+ *
+ * <p>Concurrent identical calls (i.e. the same contract, call data and block) share the same RPC request, even for
+ * methods which are not cached. A failed call is never cached.</p>
+ *
+ * <p>The cache keeps raw call results, so calls with different result processors share the same cached value.
+ * The size of the cache is bounded, and the oldest entries are evicted first.</p>
+ *
+ * <pre><code class="java">
+ * ContractCallCache cache = ContractCallCache.newBuilder()
+ *     .client(client)
+ *     .policy(ERC20Method.DECIMALS.getMethodId(), ContractCallCache.Policy.FOREVER)
+ *     .policy(ERC20Method.BALANCE_OF.getMethodId(), ContractCallCache.Policy.ttl(Duration.ofSeconds(12)))
+ *     .defaultPolicy(ContractCallCache.Policy.BLOCK)
+ *     .build();
+ * Integer decimals = cache.read(token.readDecimals()).get();
+ * </code></pre>
+ */
+public class ContractCallCache {
+
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final CallDispatcher dispatcher;
+    private final Map<MethodId, Policy> policies;
+    private final Policy defaultPolicy;
+    private final int maxSize;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> order = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger ordered = new AtomicInteger();
+
+    private ContractCallCache(CallDispatcher dispatcher, Map<MethodId, Policy> policies, Policy defaultPolicy, int maxSize, LongSupplier clock) {
+        this.dispatcher = dispatcher;
+        this.policies = new HashMap<>(policies);
+        this.defaultPolicy = defaultPolicy;
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Execute a call on the latest block, or get its result from the cache
+     *
+     * @param call read call
+     * @param <T>  type of the result
+     * @return result of the call
+     */
+    public <T> CompletableFuture<T> read(ContractReadCall<T> call) {
+        return read(call, BlockTag.LATEST);
+    }
+
+    /**
+     * Execute a call on the specified block, or get its result from the cache. Note that a block tag refers to different
+     * blocks over time, so the result is cached only for methods with {@link Policy#FOREVER} or a time-based policy.
+     *
+     * @param call  read call
+     * @param block target block
+     * @param <T>   type of the result
+     * @return result of the call
+     */
+    public <T> CompletableFuture<T> read(ContractReadCall<T> call, BlockTag block) {
+        Policy policy = policyOf(call);
+        Key key = new Key(call, policy.kind == Kind.FOREVER ? null : block.getCode());
+        return read(key, policy, policy.kind == Kind.BLOCK,
+            () -> Commands.eth().call(call.toJson(), block))
+            .thenApply(call::processResult);
+    }
+
+    /**
+     * Execute a call on the block with the specified height, or get its result from the cache
+     *
+     * @param call   read call
+     * @param height target block height
+     * @param <T>    type of the result
+     * @return result of the call
+     */
+    public <T> CompletableFuture<T> read(ContractReadCall<T> call, long height) {
+        Policy policy = policyOf(call);
+        Key key = new Key(call, policy.kind == Kind.FOREVER ? null : height);
+        return read(key, policy, false,
+            () -> Commands.eth().call(call.toJson(), height))
+            .thenApply(call::processResult);
+    }
+
+    private Policy policyOf(ContractReadCall<?> call) {
+        return policies.getOrDefault(call.getData().getMethod(), defaultPolicy);
+    }
+
+    private CompletableFuture<HexData> read(Key key, Policy policy, boolean inFlightOnly, RpcCallFactory rpc) {
+        long now = clock.getAsLong();
+        boolean keep = !inFlightOnly && policy.kind != Kind.NONE;
+        long expiresAt = policy.kind == Kind.TTL ? now + policy.ttl.toNanos() : Long.MAX_VALUE;
+        Entry created = new Entry(key, expiresAt);
+        Entry entry = entries.compute(key, (k, current) ->
+            current != null && !current.isExpired(now) ? current : created
+        );
+        if (entry != created) {
+            return entry.result;
+        }
+        if (keep) {
+            order.add(created);
+            ordered.incrementAndGet();
+            evict();
+        }
+        CompletableFuture<HexData> execution;
+        try {
+            execution = dispatcher.execute(rpc.create());
+        } catch (RuntimeException e) {
+            // the entry is already visible to other readers, so it must be completed anyway
+            execution = CompletableFuture.failedFuture(e);
+        }
+        execution.whenComplete((value, err) -> {
+            if (err != null || !keep) {
+                // a not cached entry was needed only to share the request
+                entries.remove(key, created);
+            }
+            if (err != null) {
+                created.result.completeExceptionally(err);
+            } else {
+                created.result.complete(value);
+            }
+        });
+        return created.result;
+    }
+
+    private void evict() {
+        // the queue also keeps entries which were already replaced or removed, so it's bounded separately
+        while (entries.size() > maxSize || ordered.get() > maxSize * 2) {
+            Entry eldest = order.poll();
+            if (eldest == null) {
+                return;
+            }
+            ordered.decrementAndGet();
+            entries.remove(eldest.key, eldest);
+        }
+    }
+
+    /**
+     * @return current number of entries in the cache, including calls in progress
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove all cached results
+     */
+    public void clear() {
+        entries.clear();
+        order.clear();
+        ordered.set(0);
+    }
+
+    /**
+     * Defines for how long a result is cached
+     */
+    public static final class Policy {
+
+        /**
+         * Don't cache, only share the requests in progress
+         */
+        public static final Policy NONE = new Policy(Kind.NONE, null);
+
+        /**
+         * Cache forever, for a method which always returns the same value, like <code>decimals()</code>. The result
+         * is shared between all blocks.
+         */
+        public static final Policy FOREVER = new Policy(Kind.FOREVER, null);
+
+        /**
+         * Cache the result for a block height. A call on a block tag (ex. <code>latest</code>) is not cached.
+         */
+        public static final Policy BLOCK = new Policy(Kind.BLOCK, null);
+
+        private final Kind kind;
+        private final Duration ttl;
+
+        private Policy(Kind kind, Duration ttl) {
+            this.kind = kind;
+            this.ttl = ttl;
+        }
+
+        /**
+         * Cache the result for the specified time, for each block height or tag separately
+         *
+         * @param ttl time to keep the result
+         * @return policy
+         */
+        public static Policy ttl(Duration ttl) {
+            if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("TTL must be positive: " + ttl);
+            }
+            return new Policy(Kind.TTL, ttl);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Policy)) return false;
+            Policy policy = (Policy) o;
+            return kind == policy.kind && Objects.equals(ttl, policy.ttl);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, ttl);
+        }
+
+        @Override
+        public String toString() {
+            return ttl == null ? kind.name() : kind.name() + "(" + ttl + ")";
+        }
+    }
+
+    private enum Kind {
+        NONE, FOREVER, BLOCK, TTL
+    }
+
+    private static class Key {
+        private final Address contract;
+        private final HexData input;
+        private final Object block;
+
+        Key(ContractReadCall<?> call, Object block) {
+            this.contract = call.getContract();
+            this.input = call.getData().toData();
+            this.block = block;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(contract, key.contract) &&
+                input.equals(key.input) &&
+                Objects.equals(block, key.block);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contract, input, block);
+        }
+    }
+
+    private static class Entry {
+        private final Key key;
+        private final long expiresAt;
+        private final CompletableFuture<HexData> result = new CompletableFuture<>();
+
+        Entry(Key key, long expiresAt) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+        }
+    }
+
+    public static class Builder {
+        private CallDispatcher dispatcher;
+        private final Map<MethodId, Policy> policies = new HashMap<>();
+        private Policy defaultPolicy = Policy.BLOCK;
+        private int maxSize = DEFAULT_MAX_SIZE;
+        private LongSupplier clock = System::nanoTime;
+
+        public Builder client(FuturesRpcClient client) {
+            this.dispatcher = CallDispatcher.of(client);
+            return this;
+        }
+
+        public Builder client(ReactorRpcClient client) {
+            this.dispatcher = CallDispatcher.of(client);
+            return this;
+        }
+
+        /**
+         * @param method method id
+         * @param policy caching policy for calls of the method
+         * @return builder
+         */
+        public Builder policy(MethodId method, Policy policy) {
+            if (method == null || policy == null) {
+                throw new NullPointerException("Method and policy must be set");
+            }
+            this.policies.put(method, policy);
+            return this;
+        }
+
+        /**
+         * @param policy caching policy for methods without their own policy, {@link Policy#BLOCK} by default
+         * @return builder
+         */
+        public Builder defaultPolicy(Policy policy) {
+            if (policy == null) {
+                throw new NullPointerException("Policy is not set");
+            }
+            this.defaultPolicy = policy;
+            return this;
+        }
+
+        /**
+         * @param maxSize max number of cached results
+         * @return builder
+         */
+        public Builder maxSize(int maxSize) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("Max size must be positive: " + maxSize);
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public ContractCallCache build() {
+            if (dispatcher == null) {
+                throw new NullPointerException("RPC client is not set");
+            }
+            return new ContractCallCache(dispatcher, policies, defaultPolicy, maxSize, clock);
+        }
+    }
+
+    private interface RpcCallFactory {
+        RpcCall<String, HexData> create();
+    }
+}
@@ -12,11 +12,17 @@ import java.util.*;
 /**
  * Operates data field of a transaction with regard to Smart Contract calls. Allows to prepare data for a call, or parse call details
  * from an existing transaction.
+ *
+ * <p>
+ * The call is kept in its encoded form, and when it's extracted from an existing data it's a view over the original bytes,
+ * i.e., the arguments are read only when accessed. So checking the method with {@link #isMethod(MethodId)} and reading a few
+ * arguments with {@link #getArgument(int)} doesn't copy the whole data.
+ * </p>
  */
 public class ContractData {
 
     private final MethodId method;
-    private final Hex32[] arguments;
+    private final HexData data;
 
     /**
      * Prepare a call without any arguments
@@ -49,15 +55,22 @@ public class ContractData {
         }
         this.method = method;
         if (arguments == null) {
-            this.arguments = new Hex32[0];
-        } else {
-            for (Hex32 argument : arguments) {
-                if (argument == null) {
-                    throw new NullPointerException("Argument values cannot be null");
-                }
+            arguments = new Hex32[0];
+        }
+        byte[] result = new byte[MethodId.SIZE_BYTES + arguments.length * Hex32.SIZE_BYTES];
+        method.copyTo(result, 0);
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i] == null) {
+                throw new NullPointerException("Argument values cannot be null");
             }
-            this.arguments = arguments;
+            arguments[i].copyTo(result, MethodId.SIZE_BYTES + i * Hex32.SIZE_BYTES);
         }
+        this.data = new HexData(result);
+    }
+
+    private ContractData(MethodId method, HexData data) {
+        this.method = method;
+        this.data = data;
     }
 
     /**
@@ -70,7 +83,7 @@ public class ContractData {
     }
 
     /**
-     * Extract call details from existing data
+     * Extract call details from existing data. The result is a view over the input, without copying the arguments.
      *
      * @param input existing data
      * @return call details, or null if input is null or empty
@@ -83,14 +96,8 @@ public class ContractData {
         if (input.getSize() < MethodId.SIZE_BYTES || (input.getSize() - MethodId.SIZE_BYTES) % Hex32.SIZE_BYTES != 0) {
             throw new IllegalArgumentException("Invalid size: " + input.getSize());
         }
-        MethodId method = MethodId.fromInput(input);
-        HexData[] rawArguments = input.split(Hex32.SIZE_BYTES, MethodId.SIZE_BYTES);
-        Hex32[] arguments = new Hex32[rawArguments.length];
-        for (int i = 0; i < rawArguments.length; i++) {
-            HexData arg = rawArguments[i];
-            arguments[i] = Hex32.from(arg);
-        }
-        return new ContractData(method, arguments);
+        MethodId method = new MethodId(input.getBytes(0, MethodId.SIZE_BYTES));
+        return new ContractData(method, input);
     }
 
     /**
@@ -101,24 +108,53 @@ public class ContractData {
     }
 
     /**
-     * @return call arguments
+     * Check the method without making any copy of the data
+     *
+     * @param method expected method id
+     * @return true if it's a call of the specified method
+     */
+    public boolean isMethod(MethodId method) {
+        return this.method.equals(method);
+    }
+
+    /**
+     * @return number of 32 bytes arguments words in the call, including the encoded dynamic values
+     */
+    public int getArgumentsCount() {
+        return (data.getSize() - MethodId.SIZE_BYTES) / Hex32.SIZE_BYTES;
+    }
+
+    /**
+     * Read a single argument, copying only its 32 bytes
+     *
+     * @param index argument index
+     * @return argument value
+     * @throws IndexOutOfBoundsException if there is no such argument
+     */
+    public Hex32 getArgument(int index) {
+        Objects.checkIndex(index, getArgumentsCount());
+        return new Hex32(data.getBytes(MethodId.SIZE_BYTES + index * Hex32.SIZE_BYTES, Hex32.SIZE_BYTES));
+    }
+
+    /**
+     * @return call arguments, as a new array on each call
+     * @see #getArgument(int)
      */
     public Hex32[] getArguments() {
+        Hex32[] arguments = new Hex32[getArgumentsCount()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = getArgument(i);
+        }
         return arguments;
     }
 
     /**
-     * Encode call to a data suitable to pass into a transaction
+     * Encode call to a data suitable to pass into a transaction. The call is already kept encoded, so it doesn't make a copy.
      *
      * @return encoded call
      */
     public HexData toData() {
-        byte[] result = new byte[MethodId.SIZE_BYTES + arguments.length * Hex32.SIZE_BYTES];
-        System.arraycopy(method.getBytes(), 0, result, 0, MethodId.SIZE_BYTES);
-        for (int i = 0; i < arguments.length; i++) {
-            System.arraycopy(arguments[i].getBytes(), 0, result, MethodId.SIZE_BYTES + i * Hex32.SIZE_BYTES, Hex32.SIZE_BYTES);
-        }
-        return new HexData(result);
+        return data;
     }
 
     @Override
@@ -127,14 +163,12 @@ public class ContractData {
         if (!(o instanceof ContractData)) return false;
         ContractData that = (ContractData) o;
         return method.equals(that.method) &&
-            Arrays.equals(arguments, that.arguments);
+            data.equals(that.data);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(method);
-        result = 31 * result + Arrays.hashCode(arguments);
-        return result;
+        return Objects.hash(method, data);
     }
 
     private static class Argument {
@@ -277,23 +311,45 @@ public class ContractData {
             if (method == null) {
                 throw new NullPointerException("MethodId is not set");
             }
-            List<Hex32> base = new ArrayList<>(arguments.size());
-            List<Hex32> structs = new ArrayList<>();
-            long position = arguments.size();
+            int words = arguments.size();
             for (Argument arg: arguments) {
                 if (arg.struct) {
-                    base.add(Hex32.extendFrom(position * 32));
-                    structs.add(Hex32.extendFrom(Integer.toUnsignedLong(arg.value.size())));
-                    structs.addAll(arg.value);
-                    position += 1 + arg.value.size();
+                    words += 1 + arg.value.size();
+                }
+            }
+            byte[] result = new byte[MethodId.SIZE_BYTES + words * Hex32.SIZE_BYTES];
+            method.copyTo(result, 0);
+            int head = MethodId.SIZE_BYTES;
+            int tail = MethodId.SIZE_BYTES + arguments.size() * Hex32.SIZE_BYTES;
+            for (Argument arg: arguments) {
+                if (arg.struct) {
+                    writeNumber(result, head, tail - MethodId.SIZE_BYTES);
+                    writeNumber(result, tail, Integer.toUnsignedLong(arg.value.size()));
+                    tail += Hex32.SIZE_BYTES;
+                    for (Hex32 item: arg.value) {
+                        write(result, tail, item);
+                        tail += Hex32.SIZE_BYTES;
+                    }
                 } else {
-                    base.add(arg.value.get(0));
+                    write(result, head, arg.value.get(0));
                 }
+                head += Hex32.SIZE_BYTES;
             }
-            if (!structs.isEmpty()) {
-                base.addAll(structs);
+            return new ContractData(method, new HexData(result));
+        }
+
+        private static void write(byte[] target, int offset, Hex32 value) {
+            if (value == null) {
+                throw new NullPointerException("Argument values cannot be null");
+            }
+            value.copyTo(target, offset);
+        }
+
+        private static void writeNumber(byte[] target, int offset, long value) {
+            for (int i = offset + Hex32.SIZE_BYTES - 1; value != 0; i--) {
+                target[i] = (byte) value;
+                value >>>= 8;
             }
-            return new ContractData(method, base);
         }
     }
 }
@@ -0,0 +1,121 @@
+package io.emeraldpay.etherjar.contract;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.EventId;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An event decoded from a log by its {@link EventDefinition}. Keeps the original topics and data along with
+ * the decoded values of the parameters, in the declaration order.
+ *
+ * @see EventDefinition#readFrom(io.emeraldpay.etherjar.rpc.json.TransactionLogJson)
+ * @see EventDecoder
+ */
+public class DecodedEvent extends AbstractContractEvent {
+
+    private final EventDefinition definition;
+    private final Address address;
+    private final List<Hex32> arguments;
+    private final HexData data;
+    private final Object[] values;
+
+    DecodedEvent(EventDefinition definition, Address address, List<Hex32> arguments, HexData data, Object[] values) {
+        this.definition = definition;
+        this.address = address;
+        this.arguments = arguments;
+        this.data = data;
+        this.values = values;
+    }
+
+    /**
+     * @return definition of the event
+     */
+    public EventDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * @return event name
+     */
+    public String getName() {
+        return definition.getName();
+    }
+
+    /**
+     * @return address of the contract produced the log, may be null if the log doesn't have it
+     */
+    public Address getAddress() {
+        return address;
+    }
+
+    /**
+     * @return decoded values of all parameters in the declaration order
+     */
+    public List<Object> getValues() {
+        return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    /**
+     * @param index parameter index
+     * @return decoded value of the parameter
+     * @throws IndexOutOfBoundsException if there is no such parameter
+     */
+    public Object get(int index) {
+        return values[index];
+    }
+
+    /**
+     * @param name parameter name
+     * @return decoded value of the parameter
+     * @throws IllegalArgumentException if there is no parameter with such name
+     */
+    public Object get(String name) {
+        int index = definition.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("No parameter " + name + " in event " + definition.getName());
+        }
+        return values[index];
+    }
+
+    @Override
+    public EventId getEventId() {
+        return definition.getId();
+    }
+
+    @Override
+    public List<Hex32> getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public HexData getData() {
+        return data;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DecodedEvent)) return false;
+        DecodedEvent that = (DecodedEvent) o;
+        return definition.equals(that.definition) &&
+            Objects.equals(address, that.address) &&
+            arguments.equals(that.arguments) &&
+            data.equals(that.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(definition, address, arguments, data);
+    }
+
+    @Override
+    public String toString() {
+        return definition.getName() + Arrays.toString(values);
+    }
+}
@@ -0,0 +1,155 @@
+package io.emeraldpay.etherjar.contract;
+
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.rpc.json.TransactionLogJson;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Decodes transaction logs of a set of events, defined by their ABI signatures. Each event has a precompiled layout,
+ * and a log is matched to the event with a single hash lookup by its first topic and the number of topics.
+ *
+ * <p>
+ * The decoder is immutable and thread-safe, so one instance can be shared to process logs in parallel.
+ * </p>
+ *
+ * <pre><code>
+ * EventDecoder decoder = EventDecoder.from(
+ *     "Transfer(address indexed from, address indexed to, uint256 indexed tokenId)",
+ *     "TransferSingle(address indexed operator, address indexed from, address indexed to, uint256 id, uint256 value)",
+ *     "Swap(address indexed sender, uint256 amount0In, uint256 amount1In, uint256 amount0Out, uint256 amount1Out, address indexed to)"
+ * );
+ *
+ * for (DecodedEvent event: decoder.decodeAllParallel(logs)) {
+ *     System.out.println(event.getName() + " at " + event.getAddress() + ": " + event.getValues());
+ * }
+ * </code></pre>
+ *
+ * @see EventDefinition
+ */
+public class EventDecoder {
+
+    private final List<EventDefinition> events;
+
+    /**
+     * Definitions by event id, each is an array indexed by the number of topics
+     */
+    private final Map<Hex32, EventDefinition[]> index;
+
+    /**
+     * @param events definitions of events to decode
+     * @throws IllegalArgumentException if there are two events with the same id and number of topics
+     */
+    public EventDecoder(Collection<EventDefinition> events) {
+        this.events = Collections.unmodifiableList(new ArrayList<>(events));
+        this.index = new HashMap<>(this.events.size() * 2);
+        for (EventDefinition event : this.events) {
+            EventDefinition[] byTopics = index.computeIfAbsent(event.getId(),
+                (id) -> new EventDefinition[EventDefinition.MAX_INDEXED + 2]);
+            if (byTopics[event.getTopicsCount()] != null) {
+                throw new IllegalArgumentException("Duplicate event " + event);
+            }
+            byTopics[event.getTopicsCount()] = event;
+        }
+    }
+
+    /**
+     * Create a decoder for the specified signatures using the default types repository
+     *
+     * @param signatures event signatures, like <code>Transfer(address indexed from, address indexed to, uint256 value)</code>
+     * @return decoder
+     * @throws IllegalArgumentException if a signature is invalid
+     * @see EventDefinition#from(String)
+     */
+    public static EventDecoder from(String... signatures) {
+        List<EventDefinition> events = new ArrayList<>(signatures.length);
+        for (String signature : signatures) {
+            events.add(EventDefinition.from(signature));
+        }
+        return new EventDecoder(events);
+    }
+
+    /**
+     * @return all supported events
+     */
+    public List<EventDefinition> getEvents() {
+        return events;
+    }
+
+    /**
+     * Find an event which produces the log
+     *
+     * @param log transaction log
+     * @return event definition, or empty if the log is not for a known event
+     */
+    public Optional<EventDefinition> find(TransactionLogJson log) {
+        return Optional.ofNullable(lookup(log));
+    }
+
+    private EventDefinition lookup(TransactionLogJson log) {
+        List<Hex32> topics = log.getTopics();
+        if (topics == null || topics.isEmpty() || topics.size() > EventDefinition.MAX_INDEXED + 1) {
+            return null;
+        }
+        EventDefinition[] byTopics = index.get(topics.get(0));
+        return byTopics == null ? null : byTopics[topics.size()];
+    }
+
+    /**
+     * Decode a log
+     *
+     * @param log transaction log
+     * @return decoded event, or empty if the log is not for a known event
+     * @throws IllegalArgumentException if the log data doesn't match the event definition
+     */
+    public Optional<DecodedEvent> decode(TransactionLogJson log) {
+        EventDefinition event = lookup(log);
+        if (event == null) {
+            return Optional.empty();
+        }
+        return Optional.of(event.readFrom(log));
+    }
+
+    /**
+     * Decode a batch of logs, skipping logs of unknown events and logs with data not matching the event definition
+     * (ex. produced by a non-standard contract with an event of the same signature).
+     *
+     * @param logs transaction logs
+     * @return decoded events in the original order
+     */
+    public List<DecodedEvent> decodeAll(Collection<TransactionLogJson> logs) {
+        return decodeAll(logs.stream());
+    }
+
+    /**
+     * Decode a batch of logs using the common fork-join pool, skipping logs of unknown events and logs with data not
+     * matching the event definition. Suitable for large batches, like all logs of a range of blocks.
+     *
+     * @param logs transaction logs
+     * @return decoded events in the original order
+     */
+    public List<DecodedEvent> decodeAllParallel(Collection<TransactionLogJson> logs) {
+        return decodeAll(logs.parallelStream());
+    }
+
+    private List<DecodedEvent> decodeAll(Stream<TransactionLogJson> logs) {
+        return logs
+            .map(this::decodeOrNull)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    private DecodedEvent decodeOrNull(TransactionLogJson log) {
+        EventDefinition event = lookup(log);
+        if (event == null) {
+            return null;
+        }
+        try {
+            return event.readFrom(log);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package io.emeraldpay.etherjar.contract;
+
+import io.emeraldpay.etherjar.abi.CachingRepository;
+import io.emeraldpay.etherjar.abi.SimpleType;
+import io.emeraldpay.etherjar.abi.TupleType;
+import io.emeraldpay.etherjar.abi.Type;
+import io.emeraldpay.etherjar.domain.EventId;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+import io.emeraldpay.etherjar.rpc.json.TransactionLogJson;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Definition of a Smart Contract event, with a layout of its parameters precompiled for decoding a log.
+ * I.e. the types of parameters stored in topics and a tuple type of parameters stored in the log data.
+ *
+ * <p>
+ * A definition is created from an event signature, where indexed parameters are marked with <code>indexed</code>
+ * and names are optional:
+ * </p>
+ *
+ * <pre><code>
+ * EventDefinition transfer = EventDefinition.from("Transfer(address indexed from, address indexed to, uint256 value)");
+ * DecodedEvent event = transfer.readFrom(log);
+ * BigInteger value = (BigInteger) event.get("value");
+ * </code></pre>
+ *
+ * <p>
+ * An indexed parameter of a dynamic or a composite type (<code>string</code>, <code>bytes</code>, arrays and tuples)
+ * is stored as a Keccak hash of its value, so it's decoded as a {@link Hex32}.
+ * Anonymous events are not supported.
+ * </p>
+ *
+ * @see EventDecoder
+ * @see DecodedEvent
+ */
+public class EventDefinition implements ContractEvent.Factory<DecodedEvent> {
+
+    private static final Pattern SIGNATURE_PATTERN = Pattern.compile("\\s*([_a-zA-Z]\\w*)\\s*\\((.*)\\)\\s*");
+
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    private static final String INDEXED = "indexed";
+
+    /**
+     * Max number of indexed parameters, since the first of four topics is the event id.
+     */
+    public static final int MAX_INDEXED = 3;
+
+    private final EventId id;
+    private final String name;
+    private final List<Type> types;
+    private final List<String> names;
+    private final boolean[] indexed;
+
+    // precompiled layout
+    private final Type[] topicTypes;
+    private final int[] topicPositions;
+    private final TupleType dataType;
+    private final int[] dataPositions;
+
+    /**
+     * Create definition from a signature using the default types repository
+     *
+     * @param signature event signature, like <code>Transfer(address indexed from, address indexed to, uint256 value)</code>
+     * @return event definition
+     * @throws IllegalArgumentException if signature is invalid
+     */
+    public static EventDefinition from(String signature) {
+        return from(CachingRepository.getDefault(), signature);
+    }
+
+    /**
+     * Create definition from a signature
+     *
+     * @param repo      types repository
+     * @param signature event signature, like <code>Transfer(address indexed from, address indexed to, uint256 value)</code>
+     * @return event definition
+     * @throws IllegalArgumentException if signature is invalid
+     */
+    public static EventDefinition from(Type.Repository repo, String signature) {
+        Matcher matcher = SIGNATURE_PATTERN.matcher(signature);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid event signature: " + signature);
+        }
+        String params = matcher.group(2).trim();
+        List<Type> types = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Boolean> indexed = new ArrayList<>();
+        for (String param : TupleType.splitTypes(params)) {
+            String trimmed = param.trim();
+            int typeEnd = findTypeEnd(trimmed);
+            String typeName = WHITESPACE_PATTERN.matcher(trimmed.substring(0, typeEnd)).replaceAll("");
+            String modifiers = trimmed.substring(typeEnd).trim();
+            String[] parts = modifiers.isEmpty() ? new String[0] : WHITESPACE_PATTERN.split(modifiers);
+            if (typeName.isEmpty() || parts.length > 2 || (parts.length == 2 && !INDEXED.equals(parts[0]))) {
+                throw new IllegalArgumentException("Invalid event parameter: " + param);
+            }
+            Type type = repo.search(typeName)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown event parameter type: " + typeName));
+            boolean isIndexed = parts.length > 0 && INDEXED.equals(parts[0]);
+            String paramName = parts.length == 2 || (parts.length == 1 && !isIndexed) ? parts[parts.length - 1] : null;
+            types.add(type);
+            names.add(paramName);
+            indexed.add(isIndexed);
+        }
+        boolean[] flags = new boolean[indexed.size()];
+        for (int i = 0; i < flags.length; i++) {
+            flags[i] = indexed.get(i);
+        }
+        return new EventDefinition(matcher.group(1), types, names, flags);
+    }
+
+    /**
+     * Find where the type of a parameter declaration ends, i.e. the first whitespace outside of parentheses,
+     * so a tuple type may contain spaces, like <code>(uint256, address) indexed data</code>
+     *
+     * @param param a trimmed parameter declaration
+     * @return position after the type
+     */
+    private static int findTypeEnd(String param) {
+        int depth = 0;
+        for (int i = 0; i < param.length(); i++) {
+            char c = param.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && Character.isWhitespace(c)) {
+                return i;
+            }
+        }
+        return param.length();
+    }
+
+    /**
+     * @param name    event name
+     * @param types   types of parameters in the declaration order
+     * @param names   names of parameters, an element may be null for an unnamed parameter
+     * @param indexed flags of parameters stored in topics
+     */
+    public EventDefinition(String name, List<Type> types, List<String> names, boolean[] indexed) {
+        if (name == null) {
+            throw new NullPointerException("Event name is not provided");
+        }
+        if (types.size() != names.size() || types.size() != indexed.length) {
+            throw new IllegalArgumentException("Inconsistent number of event parameters");
+        }
+        this.name = name;
+        this.types = Collections.unmodifiableList(new ArrayList<>(types));
+        this.names = Collections.unmodifiableList(new ArrayList<>(names));
+        this.indexed = indexed.clone();
+
+        int topicsCount = 0;
+        for (boolean flag : indexed) {
+            if (flag) {
+                topicsCount++;
+            }
+        }
+        if (topicsCount > MAX_INDEXED) {
+            throw new IllegalArgumentException("Too many indexed parameters of event " + name + ": " + topicsCount);
+        }
+
+        this.topicTypes = new Type[topicsCount];
+        this.topicPositions = new int[topicsCount];
+        this.dataPositions = new int[types.size() - topicsCount];
+        List<Type> dataTypes = new ArrayList<>(dataPositions.length);
+        int topic = 0;
+        for (int i = 0; i < indexed.length; i++) {
+            if (indexed[i]) {
+                topicTypes[topic] = types.get(i);
+                topicPositions[topic++] = i;
+            } else {
+                dataPositions[dataTypes.size()] = i;
+                dataTypes.add(types.get(i));
+            }
+        }
+        this.dataType = dataTypes.isEmpty() ? null : TupleType.of(dataTypes);
+
+        List<String> canonical = new ArrayList<>(types.size());
+        for (Type type : types) {
+            canonical.add(type.getCanonicalName());
+        }
+        this.id = EventId.fromSignature(name, canonical);
+    }
+
+    /**
+     * @return event id, i.e. the first topic of a log
+     */
+    public EventId getId() {
+        return id;
+    }
+
+    /**
+     * @return event name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return types of parameters in the declaration order
+     */
+    public List<Type> getTypes() {
+        return types;
+    }
+
+    /**
+     * @return names of parameters in the declaration order, an element is null for an unnamed parameter
+     */
+    public List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * @param index parameter index
+     * @return true if parameter is stored in a topic
+     */
+    public boolean isIndexed(int index) {
+        return indexed[index];
+    }
+
+    /**
+     * @return number of topics in a log of the event, including the event id
+     */
+    public int getTopicsCount() {
+        return 1 + topicTypes.length;
+    }
+
+    /**
+     * @param name parameter name
+     * @return parameter index, or -1 if there is no such parameter
+     */
+    public int indexOf(String name) {
+        return names.indexOf(name);
+    }
+
+    /**
+     * Check if the log is produced by the event, i.e. it has the event id and the expected number of topics.
+     * Note that ERC-20 and ERC-721 <code>Transfer</code> events have the same id and differ only by the number of topics.
+     *
+     * @param log transaction log
+     * @return true if log matches the event
+     */
+    public boolean matches(TransactionLogJson log) {
+        List<Hex32> topics = log.getTopics();
+        return topics != null && topics.size() == getTopicsCount() && id.equals(topics.get(0));
+    }
+
+    /**
+     * Decode a log of the event
+     *
+     * @param log transaction log
+     * @return decoded event
+     * @throws IllegalArgumentException if the log is not produced by the event or has invalid data
+     */
+    @Override
+    public DecodedEvent readFrom(TransactionLogJson log) {
+        if (!matches(log)) {
+            throw new IllegalArgumentException("Log is not an event " + toAbi());
+        }
+        List<Hex32> topics = log.getTopics();
+        HexData data = log.getData() == null ? HexData.empty() : log.getData();
+        Object[] values = new Object[types.size()];
+        for (int i = 0; i < topicTypes.length; i++) {
+            values[topicPositions[i]] = decodeTopic(topicTypes[i], topics.get(i + 1));
+        }
+        if (dataType == null) {
+            if (data.getSize() != 0) {
+                throw new IllegalArgumentException("Unexpected data for event " + toAbi() + ": " + data.getSize());
+            }
+        } else {
+            Object[] decoded = dataType.decode(data);
+            for (int i = 0; i < dataPositions.length; i++) {
+                values[dataPositions[i]] = decoded[i];
+            }
+        }
+        return new DecodedEvent(this, log.getAddress(), topics.subList(1, topics.size()), data, values);
+    }
+
+    /**
+     * Only a value type is stored in a topic as is, others are stored as a hash of the value.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object decodeTopic(Type type, Hex32 topic) {
+        if (type instanceof SimpleType) {
+            return ((SimpleType) type).decodeSimple(topic);
+        }
+        return topic;
+    }
+
+    /**
+     * @return canonical event signature, like <code>Transfer(address,address,uint256)</code>
+     */
+    public String toAbi() {
+        StringJoiner joiner = new StringJoiner(",", name + "(", ")");
+        for (Type type : types) {
+            joiner.add(type.getCanonicalName());
+        }
+        return joiner.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EventDefinition)) return false;
+        EventDefinition that = (EventDefinition) o;
+        return id.equals(that.id) &&
+            Arrays.equals(indexed, that.indexed);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(id);
+        result = 31 * result + Arrays.hashCode(indexed);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", name + "(", ")");
+        for (int i = 0; i < types.size(); i++) {
+            StringBuilder param = new StringBuilder(types.get(i).getCanonicalName());
+            if (indexed[i]) {
+                param.append(' ').append(INDEXED);
+            }
+            if (names.get(i) != null) {
+                param.append(' ').append(names.get(i));
+            }
+            joiner.add(param);
+        }
+        return joiner.toString();
+    }
+}
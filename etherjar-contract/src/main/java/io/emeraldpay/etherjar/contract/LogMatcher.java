@@ -0,0 +1,522 @@
+package io.emeraldpay.etherjar.contract;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.Bloom;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+import io.emeraldpay.etherjar.rpc.json.BlockJson;
+import io.emeraldpay.etherjar.rpc.json.TransactionLogJson;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Matches logs against a large set of subscriptions, each defined by a {@link Filter} with addresses and topics, in the same
+ * way as <code>eth_getLogs</code> filters them.
+ *
+ * <p>
+ * Each subscription is indexed by its most selective condition: the addresses, or else the values of a topic other than
+ * the event id, and the event id only if it's the sole condition. So thousands of subscriptions to the same event with
+ * different participants (ex. <code>Transfer</code> to a watched address) don't share a single bucket.
+ * </p>
+ *
+ * <p>
+ * All subscriptions are compiled into a combined bloom check by the same condition, so a block (or a receipt) which cannot
+ * have any matching log is skipped by its <code>logsBloom</code> with {@link #mayMatch(Bloom)}, without fetching its logs.
+ * The check goes only through the values having their first bit set in the bloom, i.e. it takes about the number of
+ * subscriptions multiplied by the share of the bloom bits set. Then each log is matched with a hash lookup by its address
+ * and topics, and only the found subscriptions are checked completely.
+ * </p>
+ *
+ * <p>
+ * The matcher is immutable and thread-safe, so one instance can be shared to process blocks in parallel.
+ * </p>
+ *
+ * <pre><code>
+ * LogMatcher&lt;String&gt; matcher = LogMatcher.&lt;String&gt;newBuilder()
+ *     .add("alice", LogMatcher.Filter.newBuilder().topic(0, transferId).topic(2, Hex32.extendFrom(alice)).build())
+ *     .add("usdt", LogMatcher.Filter.newBuilder().address(usdt).build())
+ *     .build();
+ *
+ * for (BlockJson&lt;?&gt; block: matcher.filterBlocksParallel(blocks)) {
+ *     for (LogMatcher.Match&lt;String&gt; match: matcher.matchAll(fetchLogs(block))) {
+ *         notify(match.getKey(), match.getLog());
+ *     }
+ * }
+ * </code></pre>
+ *
+ * @param <K> type of the subscription key
+ * @see Filter
+ */
+public class LogMatcher<K> {
+
+    private static final int BLOOM_BITS = Bloom.SIZE_BYTES * 8;
+    private static final int[] NONE = new int[0];
+
+    private final List<K> keys;
+    private final Filter[] filters;
+
+    /**
+     * Subscriptions by an address, for those which have addresses
+     */
+    private final Map<Address, int[]> byAddress;
+    /**
+     * Subscriptions by a topic value at each position, for those which have no addresses
+     */
+    private final List<Map<Hex32, int[]>> byTopic;
+    /**
+     * Subscriptions without addresses and topics, checked for each log
+     */
+    private final int[] others;
+
+    /**
+     * Bloom values by the first bit index of a value, each pointing to the position of the value bits in the <code>bloomBits</code>
+     */
+    private final int[][] bloomIndex;
+    private final int[] bloomBits;
+    /**
+     * True if there is a subscription which cannot be checked with a bloom (i.e., matches any log)
+     */
+    private final boolean unconditional;
+
+    private LogMatcher(List<K> keys, List<Filter> filters) {
+        this.keys = Collections.unmodifiableList(new ArrayList<>(keys));
+        this.filters = filters.toArray(new Filter[0]);
+
+        Map<Address, List<Integer>> byAddress = new HashMap<>();
+        List<Map<Hex32, List<Integer>>> byTopic = new ArrayList<>(Filter.MAX_TOPICS);
+        for (int i = 0; i < Filter.MAX_TOPICS; i++) {
+            byTopic.add(new HashMap<>());
+        }
+        List<Integer> others = new ArrayList<>();
+        Set<HexData> bloomValues = new LinkedHashSet<>();
+        boolean unconditional = false;
+        for (int i = 0; i < this.filters.length; i++) {
+            Filter filter = this.filters[i];
+            int position = filter.getSelectivePosition();
+            if (position == Filter.ADDRESS) {
+                for (Address address : filter.addresses) {
+                    byAddress.computeIfAbsent(address, (a) -> new ArrayList<>(1)).add(i);
+                }
+                bloomValues.addAll(filter.addresses);
+            } else if (position != Filter.NONE) {
+                for (Hex32 topic : filter.topics[position]) {
+                    byTopic.get(position).computeIfAbsent(topic, (t) -> new ArrayList<>(1)).add(i);
+                }
+                bloomValues.addAll(filter.topics[position]);
+            } else {
+                others.add(i);
+                unconditional = true;
+            }
+        }
+        this.byAddress = toIndex(byAddress);
+        List<Map<Hex32, int[]>> topicIndex = new ArrayList<>(Filter.MAX_TOPICS);
+        for (Map<Hex32, List<Integer>> index : byTopic) {
+            topicIndex.add(toIndex(index));
+        }
+        this.byTopic = Collections.unmodifiableList(topicIndex);
+        this.others = toArray(others);
+        this.unconditional = unconditional;
+
+        List<List<Integer>> bloomIndex = new ArrayList<>(BLOOM_BITS);
+        for (int i = 0; i < BLOOM_BITS; i++) {
+            bloomIndex.add(null);
+        }
+        this.bloomBits = new int[bloomValues.size() * 3];
+        int pos = 0;
+        for (HexData value : bloomValues) {
+            int[] bits = Bloom.bitIndexes(value);
+            System.arraycopy(bits, 0, bloomBits, pos, 3);
+            if (bloomIndex.get(bits[0]) == null) {
+                bloomIndex.set(bits[0], new ArrayList<>(1));
+            }
+            bloomIndex.get(bits[0]).add(pos);
+            pos += 3;
+        }
+        this.bloomIndex = new int[BLOOM_BITS][];
+        for (int i = 0; i < BLOOM_BITS; i++) {
+            this.bloomIndex[i] = bloomIndex.get(i) == null ? NONE : toArray(bloomIndex.get(i));
+        }
+    }
+
+    private static <T> Map<T, int[]> toIndex(Map<T, List<Integer>> source) {
+        Map<T, int[]> result = new HashMap<>(source.size() * 2);
+        source.forEach((key, value) -> result.put(key, toArray(value)));
+        return result;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public static <K> Builder<K> newBuilder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return number of subscriptions
+     */
+    public int size() {
+        return filters.length;
+    }
+
+    /**
+     * Check if a block or a receipt may have a matching log. If it returns false there is definitely no matching log, and the
+     * logs may be skipped. If it returns true the logs should be checked, as a bloom can give false positives.
+     *
+     * @param bloom <code>logsBloom</code> of a block or a receipt, if null it's considered as unknown
+     * @return false if there cannot be a matching log
+     */
+    public boolean mayMatch(Bloom bloom) {
+        if (bloom == null || unconditional) {
+            return true;
+        }
+        for (int i = 0; i < Bloom.SIZE_BYTES; i++) {
+            int value = bloom.get(i) & 0xff;
+            while (value != 0) {
+                int bit = Integer.numberOfTrailingZeros(value);
+                value &= value - 1;
+                for (int pos : bloomIndex[(i << 3) + bit]) {
+                    if (bloom.isSet(bloomBits[pos + 1]) && bloom.isSet(bloomBits[pos + 2])) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Select blocks which may have matching logs, by their <code>logsBloom</code>
+     *
+     * @param blocks blocks to check
+     * @param <B> block type
+     * @return blocks which may have matching logs, in the original order
+     * @see #mayMatch(Bloom)
+     */
+    public <B extends BlockJson<?>> List<B> filterBlocks(Collection<B> blocks) {
+        return filterBlocks(blocks.stream());
+    }
+
+    /**
+     * Select blocks which may have matching logs using the common fork-join pool. Suitable for large batches, like a range of
+     * blocks fetched to catch up.
+     *
+     * @param blocks blocks to check
+     * @param <B> block type
+     * @return blocks which may have matching logs, in the original order
+     * @see #mayMatch(Bloom)
+     */
+    public <B extends BlockJson<?>> List<B> filterBlocksParallel(Collection<B> blocks) {
+        return filterBlocks(blocks.parallelStream());
+    }
+
+    private <B extends BlockJson<?>> List<B> filterBlocks(Stream<B> blocks) {
+        return blocks
+            .filter((block) -> mayMatch(block.getLogsBloom()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Find subscriptions matching the log
+     *
+     * @param log transaction log
+     * @return keys of the matching subscriptions, empty if nothing matches
+     */
+    public List<K> match(TransactionLogJson log) {
+        List<K> result = new ArrayList<>(1);
+        lookup(log, (i) -> result.add(keys.get(i)));
+        return result;
+    }
+
+    /**
+     * Match a batch of logs
+     *
+     * @param logs transaction logs
+     * @return all matches, ordered by the logs
+     */
+    public List<Match<K>> matchAll(Collection<TransactionLogJson> logs) {
+        return matchAll(logs.stream());
+    }
+
+    /**
+     * Match a batch of logs using the common fork-join pool. Suitable for large batches, like all logs of a range of blocks.
+     *
+     * @param logs transaction logs
+     * @return all matches, ordered by the logs
+     */
+    public List<Match<K>> matchAllParallel(Collection<TransactionLogJson> logs) {
+        return matchAll(logs.parallelStream());
+    }
+
+    private List<Match<K>> matchAll(Stream<TransactionLogJson> logs) {
+        return logs
+            .flatMap((log) -> {
+                List<Match<K>> matches = new ArrayList<>(1);
+                lookup(log, (i) -> matches.add(new Match<>(keys.get(i), log)));
+                return matches.stream();
+            })
+            .collect(Collectors.toList());
+    }
+
+    private void lookup(TransactionLogJson log, IntConsumer consumer) {
+        if (log.getAddress() != null) {
+            check(byAddress.get(log.getAddress()), log, consumer);
+        }
+        List<Hex32> topics = log.getTopics();
+        if (topics != null) {
+            for (int i = 0; i < Math.min(topics.size(), Filter.MAX_TOPICS); i++) {
+                Map<Hex32, int[]> index = byTopic.get(i);
+                if (!index.isEmpty()) {
+                    check(index.get(topics.get(i)), log, consumer);
+                }
+            }
+        }
+        check(others, log, consumer);
+    }
+
+    private void check(int[] candidates, TransactionLogJson log, IntConsumer consumer) {
+        if (candidates == null) {
+            return;
+        }
+        for (int i : candidates) {
+            if (filters[i].matches(log)) {
+                consumer.accept(i);
+            }
+        }
+    }
+
+    public static class Builder<K> {
+        private final List<K> keys = new ArrayList<>();
+        private final List<Filter> filters = new ArrayList<>();
+
+        /**
+         * Add a subscription
+         *
+         * @param key key of the subscription, returned for the matching logs
+         * @param filter logs filter
+         * @return builder
+         */
+        public Builder<K> add(K key, Filter filter) {
+            if (key == null) {
+                throw new NullPointerException("Key is null");
+            }
+            if (filter == null) {
+                throw new NullPointerException("Filter is null");
+            }
+            keys.add(key);
+            filters.add(filter);
+            return this;
+        }
+
+        public LogMatcher<K> build() {
+            return new LogMatcher<>(keys, filters);
+        }
+    }
+
+    /**
+     * A logs filter with the same rules as <code>eth_getLogs</code>: a log must be produced by one of the addresses, and
+     * for each topic position it must have one of the specified values. An empty list of addresses, or a position without
+     * values matches any log.
+     */
+    public static class Filter {
+
+        /**
+         * Max number of topics in a log
+         */
+        public static final int MAX_TOPICS = 4;
+
+        private static final int ADDRESS = -1;
+        private static final int NONE = -2;
+
+        private final Set<Address> addresses;
+        private final Set<Hex32>[] topics;
+
+        private Filter(Set<Address> addresses, Set<Hex32>[] topics) {
+            this.addresses = addresses;
+            this.topics = topics;
+        }
+
+        public static Builder newBuilder() {
+            return new Builder();
+        }
+
+        /**
+         * @return addresses to match, empty for any address
+         */
+        public Set<Address> getAddresses() {
+            return addresses;
+        }
+
+        /**
+         * @param position topic position
+         * @return topic values to match at the position, or null for any value
+         */
+        public Set<Hex32> getTopics(int position) {
+            Objects.checkIndex(position, MAX_TOPICS);
+            return topics[position];
+        }
+
+        /**
+         * Find the condition a filter is indexed by. An address is the most selective, then a topic after the event id
+         * (ex. a sender or a recipient) with the fewest values, and the event id is the least selective because many
+         * subscriptions share the same event.
+         *
+         * @return {@link #ADDRESS}, a topic position, or {@link #NONE} if the filter matches any log
+         */
+        private int getSelectivePosition() {
+            if (!addresses.isEmpty()) {
+                return ADDRESS;
+            }
+            int result = NONE;
+            for (int i = 1; i < MAX_TOPICS; i++) {
+                if (topics[i] != null && (result == NONE || topics[i].size() < topics[result].size())) {
+                    result = i;
+                }
+            }
+            if (result == NONE && topics[0] != null) {
+                result = 0;
+            }
+            return result;
+        }
+
+        /**
+         * @param log transaction log
+         * @return true if the log matches the filter
+         */
+        public boolean matches(TransactionLogJson log) {
+            if (!addresses.isEmpty() && (log.getAddress() == null || !addresses.contains(log.getAddress()))) {
+                return false;
+            }
+            List<Hex32> logTopics = log.getTopics();
+            for (int i = 0; i < MAX_TOPICS; i++) {
+                if (topics[i] == null) {
+                    continue;
+                }
+                if (logTopics == null || logTopics.size() <= i || !topics[i].contains(logTopics.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "Filter{addresses=" + addresses + ", topics=" + Arrays.toString(topics) + "}";
+        }
+
+        public static class Builder {
+            private final Set<Address> addresses = new HashSet<>();
+            @SuppressWarnings("unchecked")
+            private final Set<Hex32>[] topics = new Set[MAX_TOPICS];
+
+            /**
+             * Match logs produced by one of the addresses. Can be called multiple times to add more addresses.
+             *
+             * @param addresses contract addresses
+             * @return builder
+             */
+            public Builder address(Address... addresses) {
+                return addresses(Arrays.asList(addresses));
+            }
+
+            public Builder addresses(Collection<Address> addresses) {
+                for (Address address : addresses) {
+                    if (address == null) {
+                        throw new NullPointerException("Address is null");
+                    }
+                    this.addresses.add(address);
+                }
+                return this;
+            }
+
+            /**
+             * Match logs having one of the values at the topic position. Can be called multiple times to add more values.
+             *
+             * @param position topic position, where 0 is the event id
+             * @param values topic values
+             * @return builder
+             */
+            public Builder topic(int position, Hex32... values) {
+                return topics(position, Arrays.asList(values));
+            }
+
+            public Builder topics(int position, Collection<Hex32> values) {
+                if (position < 0 || position >= MAX_TOPICS) {
+                    throw new IllegalArgumentException("Invalid topic position: " + position);
+                }
+                if (values.isEmpty()) {
+                    throw new IllegalArgumentException("No values for topic " + position);
+                }
+                if (topics[position] == null) {
+                    topics[position] = new HashSet<>();
+                }
+                for (Hex32 value : values) {
+                    if (value == null) {
+                        throw new NullPointerException("Topic is null");
+                    }
+                    topics[position].add(value);
+                }
+                return this;
+            }
+
+            public Filter build() {
+                @SuppressWarnings("unchecked")
+                Set<Hex32>[] copy = new Set[MAX_TOPICS];
+                for (int i = 0; i < MAX_TOPICS; i++) {
+                    copy[i] = topics[i] == null ? null : Collections.unmodifiableSet(new HashSet<>(topics[i]));
+                }
+                return new Filter(Collections.unmodifiableSet(new HashSet<>(addresses)), copy);
+            }
+        }
+    }
+
+    /**
+     * A log matched by a subscription
+     *
+     * @param <K> type of the subscription key
+     */
+    public static class Match<K> {
+        private final K key;
+        private final TransactionLogJson log;
+
+        public Match(K key, TransactionLogJson log) {
+            this.key = key;
+            this.log = log;
+        }
+
+        /**
+         * @return key of the subscription
+         */
+        public K getKey() {
+            return key;
+        }
+
+        /**
+         * @return matched log
+         */
+        public TransactionLogJson getLog() {
+            return log;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Match)) return false;
+            Match<?> match = (Match<?>) o;
+            return Objects.equals(key, match.key) && Objects.equals(log, match.log);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, log);
+        }
+
+        @Override
+        public String toString() {
+            return "Match{" + key + ": " + log + "}";
+        }
+    }
+}
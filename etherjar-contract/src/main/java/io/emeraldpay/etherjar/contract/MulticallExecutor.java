@@ -0,0 +1,347 @@
+package io.emeraldpay.etherjar.contract;
+
+import io.emeraldpay.etherjar.abi.AddressType;
+import io.emeraldpay.etherjar.abi.ArrayReader;
+import io.emeraldpay.etherjar.abi.BoolType;
+import io.emeraldpay.etherjar.abi.DynamicArrayType;
+import io.emeraldpay.etherjar.abi.DynamicBytesType;
+import io.emeraldpay.etherjar.abi.TupleType;
+import io.emeraldpay.etherjar.abi.Type;
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.MethodId;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+import io.emeraldpay.etherjar.rpc.Commands;
+import io.emeraldpay.etherjar.rpc.FuturesRpcClient;
+import io.emeraldpay.etherjar.rpc.ReactorRpcClient;
+import io.emeraldpay.etherjar.rpc.RpcCall;
+import io.emeraldpay.etherjar.rpc.json.BlockTag;
+import io.emeraldpay.etherjar.rpc.json.TransactionCallJson;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Executes many read calls through the <a href="https://github.com/mds1/multicall">Multicall3</a> contract, so instead
+ * of an <code>eth_call</code> per {@link ContractReadCall} it makes a single <code>aggregate3</code> call per chunk
+ * of calls. Each sub-result is routed back to {@link ContractReadCall#processResult(HexData)} of the original call.
+ *
+ * <p>Sub-calls are made with <code>allowFailure</code> flag, so a reverted call doesn't affect other calls and is
+ * returned as a failed {@link Result}. A failure of the whole RPC call (ex. a timeout or the gas limit) fails the
+ * returned future.</p>
+ *
+ * <pre><code class="java">
+ * MulticallExecutor multicall = MulticallExecutor.newBuilder()
+ *     .client(client)
+ *     .chunkSize(1000)
+ *     .build();
+ * List&lt;ContractReadCall&lt;BigInteger&gt;&gt; calls = ...;
+ * for (MulticallExecutor.Result&lt;BigInteger&gt; result: multicall.execute(calls).get()) {
+ *     if (result.isSuccess()) {
+ *         System.out.println(result.getValue());
+ *     }
+ * }
+ * </code></pre>
+ */
+public class MulticallExecutor {
+
+    /**
+     * Address of Multicall3, which is the same on most of the EVM chains
+     */
+    public static final Address MULTICALL3 = Address.from("0xcA11bde05977b3631167028862bE2a173976CA11");
+
+    /**
+     * <code>aggregate3((address target, bool allowFailure, bytes callData)[] calls)</code>
+     */
+    public static final MethodId AGGREGATE3 = MethodId.fromSignature("aggregate3", "(address,bool,bytes)[]");
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    private static final DynamicArrayType<Object[]> CALLS_TYPE = new DynamicArrayType<>(
+        TupleType.of(AddressType.DEFAULT, BoolType.DEFAULT, DynamicBytesType.DEFAULT)
+    );
+    private static final DynamicArrayType<Object[]> RESULTS_TYPE = new DynamicArrayType<>(
+        TupleType.of(BoolType.DEFAULT, DynamicBytesType.DEFAULT)
+    );
+
+    private final CallDispatcher dispatcher;
+    private final Address address;
+    private final int chunkSize;
+    private final Long gasLimit;
+    private final int concurrency;
+
+    public MulticallExecutor(FuturesRpcClient client) {
+        this(CallDispatcher.of(client), MULTICALL3, DEFAULT_CHUNK_SIZE, null, DEFAULT_CONCURRENCY);
+    }
+
+    public MulticallExecutor(ReactorRpcClient client) {
+        this(CallDispatcher.of(client), MULTICALL3, DEFAULT_CHUNK_SIZE, null, DEFAULT_CONCURRENCY);
+    }
+
+    private MulticallExecutor(CallDispatcher dispatcher, Address address, int chunkSize, Long gasLimit, int concurrency) {
+        this.dispatcher = dispatcher;
+        this.address = address;
+        this.chunkSize = chunkSize;
+        this.gasLimit = gasLimit;
+        this.concurrency = concurrency;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Execute calls on the latest block
+     *
+     * @param calls read calls
+     * @param <T>   common type of the call results
+     * @return results in the same order as the calls
+     */
+    public <T> CompletableFuture<List<Result<T>>> execute(List<? extends ContractReadCall<? extends T>> calls) {
+        return execute(calls, BlockTag.LATEST);
+    }
+
+    /**
+     * Execute calls on the specified block
+     *
+     * @param calls read calls
+     * @param block target block
+     * @param <T>   common type of the call results
+     * @return results in the same order as the calls
+     */
+    public <T> CompletableFuture<List<Result<T>>> execute(List<? extends ContractReadCall<? extends T>> calls, BlockTag block) {
+        return execute(calls, (json) -> Commands.eth().call(json, block));
+    }
+
+    /**
+     * Execute calls on the block with the specified height. Since all chunks are executed on the same block the results
+     * are consistent with each other, which is not guaranteed for the <code>latest</code> block.
+     *
+     * @param calls  read calls
+     * @param height target block height
+     * @param <T>    common type of the call results
+     * @return results in the same order as the calls
+     */
+    public <T> CompletableFuture<List<Result<T>>> execute(List<? extends ContractReadCall<? extends T>> calls, long height) {
+        return execute(calls, (json) -> Commands.eth().call(json, height));
+    }
+
+    private <T> CompletableFuture<List<Result<T>>> execute(List<? extends ContractReadCall<? extends T>> calls,
+                                                          Function<TransactionCallJson, RpcCall<String, HexData>> rpc) {
+        int chunks = (calls.size() + chunkSize - 1) / chunkSize;
+        List<CompletableFuture<List<Result<T>>>> results = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            results.add(null);
+        }
+        // each lane executes its chunks one after another, so there are at most `concurrency` requests in flight
+        List<CompletableFuture<?>> lanes = new ArrayList<>();
+        for (int lane = 0; lane < Math.min(concurrency, chunks); lane++) {
+            CompletableFuture<?> prev = CompletableFuture.completedFuture(null);
+            for (int i = lane; i < chunks; i += concurrency) {
+                List<? extends ContractReadCall<? extends T>> chunk =
+                    calls.subList(i * chunkSize, Math.min(calls.size(), (i + 1) * chunkSize));
+                CompletableFuture<List<Result<T>>> current = prev.thenCompose((ignore) ->
+                    dispatcher.execute(rpc.apply(toJson(chunk))).thenApply((data) -> decode(chunk, data))
+                );
+                results.set(i, current);
+                prev = current;
+            }
+            lanes.add(prev);
+        }
+        return CompletableFuture.allOf(lanes.toArray(new CompletableFuture[0]))
+            .thenApply((ignore) -> {
+                List<Result<T>> all = new ArrayList<>(calls.size());
+                for (CompletableFuture<List<Result<T>>> chunk : results) {
+                    all.addAll(chunk.join());
+                }
+                return all;
+            });
+    }
+
+    TransactionCallJson toJson(List<? extends ContractReadCall<?>> chunk) {
+        Object[][] items = new Object[chunk.size()][];
+        for (int i = 0; i < items.length; i++) {
+            ContractReadCall<?> call = chunk.get(i);
+            items[i] = new Object[]{call.getContract(), BoolType.TRUE, call.getData().toData().getBytes()};
+        }
+        // the only argument is a dynamic array, so the head is just an offset to it
+        byte[] input = new byte[MethodId.SIZE_BYTES + Hex32.SIZE_BYTES + CALLS_TYPE.getEncodedSize(items)];
+        System.arraycopy(AGGREGATE3.getBytes(), 0, input, 0, MethodId.SIZE_BYTES);
+        input[MethodId.SIZE_BYTES + Hex32.SIZE_BYTES - 1] = Hex32.SIZE_BYTES;
+        CALLS_TYPE.encodeTo(items, input, MethodId.SIZE_BYTES + Hex32.SIZE_BYTES);
+
+        TransactionCallJson json = new TransactionCallJson();
+        json.setTo(address);
+        json.setInput(new HexData(input));
+        json.setGas(gasLimit);
+        return json;
+    }
+
+    static <T> List<Result<T>> decode(List<? extends ContractReadCall<? extends T>> chunk, HexData data) {
+        if (data == null || data.getSize() < Hex32.SIZE_BYTES) {
+            throw new IllegalArgumentException("Invalid aggregate3 result: " + data);
+        }
+        byte[] bytes = data.getBytes();
+        int offset = Type.decodeLength(data.extract(Hex32.SIZE_BYTES, Hex32::from)).intValueExact();
+        ArrayReader<Object[]> reader = RESULTS_TYPE.read(bytes, offset, bytes.length - offset);
+        if (reader.size() != chunk.size()) {
+            throw new IllegalStateException("Expected " + chunk.size() + " results, received " + reader.size());
+        }
+        List<Result<T>> results = new ArrayList<>(chunk.size());
+        for (ContractReadCall<? extends T> call : chunk) {
+            Object[] item = reader.next();
+            HexData returnData = new HexData((byte[]) item[1]);
+            if (!BoolType.TRUE.equals(item[0])) {
+                results.add(new Result<>(call, false, returnData, null, null));
+                continue;
+            }
+            try {
+                results.add(new Result<>(call, true, returnData, call.processResult(returnData), null));
+            } catch (RuntimeException e) {
+                // ex. a call to an address without the contract succeeds with an empty result
+                results.add(new Result<>(call, false, returnData, null, e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Result of a single call made through Multicall
+     *
+     * @param <T> type of the call result
+     */
+    public static class Result<T> {
+        private final ContractReadCall<? extends T> call;
+        private final boolean success;
+        private final HexData returnData;
+        private final T value;
+        private final RuntimeException error;
+
+        Result(ContractReadCall<? extends T> call, boolean success, HexData returnData, T value, RuntimeException error) {
+            this.call = call;
+            this.success = success;
+            this.returnData = returnData;
+            this.value = value;
+            this.error = error;
+        }
+
+        /**
+         * @return the original call
+         */
+        public ContractReadCall<? extends T> getCall() {
+            return call;
+        }
+
+        /**
+         * @return true if the call succeeded and its result was processed
+         */
+        public boolean isSuccess() {
+            return success;
+        }
+
+        /**
+         * @return raw data returned by the call, i.e. a revert reason for a failed call
+         */
+        public HexData getReturnData() {
+            return returnData;
+        }
+
+        /**
+         * @return processed result, or null if the call failed
+         */
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * @return an error thrown by the call processor, or null
+         */
+        public RuntimeException getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            return success ? "Result{" + value + "}" : "Result{failed " + returnData + "}";
+        }
+    }
+
+    public static class Builder {
+        private CallDispatcher dispatcher;
+        private Address address = MULTICALL3;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private Long gasLimit;
+        private int concurrency = DEFAULT_CONCURRENCY;
+
+        public Builder client(FuturesRpcClient client) {
+            this.dispatcher = CallDispatcher.of(client);
+            return this;
+        }
+
+        public Builder client(ReactorRpcClient client) {
+            this.dispatcher = CallDispatcher.of(client);
+            return this;
+        }
+
+        /**
+         * @param address address of a Multicall3 deployment, if it's not at the standard address
+         * @return builder
+         */
+        public Builder address(Address address) {
+            if (address == null) {
+                throw new NullPointerException("Address is not set");
+            }
+            this.address = address;
+            return this;
+        }
+
+        /**
+         * @param chunkSize max number of calls aggregated into a single RPC call
+         * @return builder
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Gas limit of each aggregated call. Note that a node limits the gas of <code>eth_call</code>, usually to 50M,
+         * so a chunk of heavy calls may exceed the limit
+         *
+         * @param gasLimit gas limit for a chunk, or null to use the node default
+         * @return builder
+         */
+        public Builder gasLimit(Long gasLimit) {
+            if (gasLimit != null && gasLimit <= 0) {
+                throw new IllegalArgumentException("Gas limit must be positive: " + gasLimit);
+            }
+            this.gasLimit = gasLimit;
+            return this;
+        }
+
+        /**
+         * @param concurrency max number of RPC calls executed at the same time
+         * @return builder
+         */
+        public Builder concurrency(int concurrency) {
+            if (concurrency <= 0) {
+                throw new IllegalArgumentException("Concurrency must be positive: " + concurrency);
+            }
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        public MulticallExecutor build() {
+            if (dispatcher == null) {
+                throw new NullPointerException("RPC client is not set");
+            }
+            return new MulticallExecutor(dispatcher, address, chunkSize, gasLimit, concurrency);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import io.emeraldpay.etherjar.hex.Hex32
 import io.emeraldpay.etherjar.hex.HexData
 import spock.lang.Specification
 
+import java.util.stream.Collectors
+
 class AddressGeneratorSpec extends Specification {
 
     def "CREATE at tx"() {
@@ -55,5 +57,68 @@ class AddressGeneratorSpec extends Specification {
         "0xE33C0C7F7df4809055C3ebA6c09CFe4BaF1BD9e0" | "0x0000000000000000000000000000000000000000" | "0x0000000000000000000000000000000000000000000000000000000000000000" | "0x"
     }
 
+    def "CREATE2 with init code hash"() {
+        setup:
+        def generator = new AddressGenerator()
+        def initCodeHash = Hex32.from("0xd4fd4e189132273036449fc9e11198c739161b4c0116a9a2dccdfa1c492006f1")
+        when:
+        def act = generator.create2WithHash(
+            Address.from("0x00000000000000000000000000000000deadbeef"),
+            Hex32.from("0x00000000000000000000000000000000000000000000000000000000cafebabe"),
+            initCodeHash
+        )
+        then:
+        act == Address.from("0x60f3f640a8508fC6a86d45DF051962668E1e8AC7")
+    }
+
+    def "CREATE generator produces same addresses as single call"() {
+        setup:
+        def generator = new AddressGenerator()
+        def from = Address.from("0x0536806df512d6cdde913cf95c9886f65b1d3462")
+        when:
+        def act = generator.forCreate(from).stream(35900, 10000, parallel).collect(Collectors.toList())
+        then:
+        act.size() == 10000
+        act[91].index == 35991
+        act[91].address == Address.from("0x9e8e587b71c38b2dec6d7d7c906c64864b75e005")
+        [0, 1, 127, 128, 255, 256, 65535, 65536, 1L << 40].every { nonce ->
+            generator.forCreate(from).generate(nonce) == generator.create(from, nonce)
+        }
+        where:
+        parallel << [false, true]
+    }
+
+    def "CREATE2 generator iterates salts"() {
+        setup:
+        def generator = new AddressGenerator()
+        def gen = generator.forCreate2(Address.from("0x00000000000000000000000000000000deadbeef"), HexData.from("0xdeadbeef"))
+        def base = Hex32.from("0x00000000000000000000000000000000000000000000000000000000cafeba00")
+        when:
+        def act = gen.stream(base, 0xb0, 10000, parallel).collect(Collectors.toList())
+        then:
+        act.size() == 10000
+        act[0].index == 0xb0
+        act[0x0e].salt == Hex32.from("0x00000000000000000000000000000000000000000000000000000000cafebabe")
+        act[0x0e].address == Address.from("0x60f3f640a8508fC6a86d45DF051962668E1e8AC7")
+        act.every { it.address == gen.generate(it.salt) }
+        where:
+        parallel << [false, true]
+    }
+
+    def "CREATE2 generator carries salt overflow"() {
+        setup:
+        def generator = new AddressGenerator()
+        def gen = generator.forCreate2(Address.empty(), HexData.from("0x00"))
+        when:
+        def act = gen.stream(Hex32.from("0x00000000000000000000000000000000000000000000000000000000ffffffff"), 1, 1, false)
+            .findFirst().get()
+        then:
+        act.salt == Hex32.from("0x0000000000000000000000000000000000000000000000000000000100000000")
 
+        when:
+        act = gen.stream(Hex32.full(), 1, 1, false).findFirst().get()
+        then:
+        act.salt == Hex32.empty()
+        act.address == Address.from("0x4D1A2e2bB4F88F0250f26Ffff098B0b30B26BF38")
+    }
 }
@@ -0,0 +1,188 @@
+package io.emeraldpay.etherjar.contract
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.MethodId
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.rpc.AbstractFuturesRpcClient
+import io.emeraldpay.etherjar.rpc.DefaultBatch
+import io.emeraldpay.etherjar.rpc.RpcException
+import io.emeraldpay.etherjar.rpc.json.BlockTag
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+
+class ContractCallCacheSpec extends Specification {
+
+    static final Address CONTRACT = Address.from("0xdac17f958d2ee523a2206206994597c13d831ec7")
+    static final MethodId DECIMALS = MethodId.fromSignature("decimals")
+    static final MethodId BALANCE_OF = MethodId.fromSignature("balanceOf", "address")
+
+    TestClient client = new TestClient()
+    long now = 0
+    ContractCallCache cache = ContractCallCache.newBuilder()
+        .client(client)
+        .policy(DECIMALS, ContractCallCache.Policy.FOREVER)
+        .policy(BALANCE_OF, ContractCallCache.Policy.ttl(Duration.ofSeconds(10)))
+        .clock({ now })
+        .build()
+
+    def "Cache forever on any block"() {
+        when:
+        def act = [
+            cache.read(readCall(DECIMALS)).get(),
+            cache.read(readCall(DECIMALS), 100L).get(),
+            cache.read(readCall(DECIMALS), BlockTag.PENDING).get(),
+        ]
+        then:
+        act == [1L, 1L, 1L]
+        client.requests == 1
+    }
+
+    def "Cache per block height"() {
+        setup:
+        def call = readCall(MethodId.fromSignature("totalSupply"))
+        when:
+        cache.read(call, 100L).get()
+        cache.read(call, 100L).get()
+        cache.read(call, 101L).get()
+        then:
+        client.requests == 2
+        when:
+        cache.read(call).get()
+        cache.read(call).get()
+        then:
+        client.requests == 4
+    }
+
+    def "Cache for time"() {
+        setup:
+        def call = readCall(BALANCE_OF)
+        when:
+        cache.read(call).get()
+        now += Duration.ofSeconds(9).toNanos()
+        cache.read(call).get()
+        then:
+        client.requests == 1
+        when:
+        now += Duration.ofSeconds(1).toNanos()
+        cache.read(call).get()
+        then:
+        client.requests == 2
+    }
+
+    def "Share request in progress"() {
+        setup:
+        client.manual = true
+        def cache = ContractCallCache.newBuilder()
+            .client(client)
+            .defaultPolicy(ContractCallCache.Policy.NONE)
+            .build()
+        def call = readCall(DECIMALS)
+        when:
+        def first = cache.read(call)
+        def second = cache.read(call)
+        then:
+        client.requests == 1
+        !first.isDone()
+        when:
+        client.pending.each { it.onResult(Hex32.extendFrom(5L)) }
+        then:
+        first.get() == 5L
+        second.get() == 5L
+        cache.size() == 0
+        when:
+        cache.read(call)
+        then:
+        client.requests == 2
+    }
+
+    def "Don't cache errors"() {
+        setup:
+        client.fail = true
+        when:
+        cache.read(readCall(DECIMALS)).get()
+        then:
+        def t = thrown(ExecutionException)
+        t.cause instanceof RpcException
+        when:
+        client.fail = false
+        def act = cache.read(readCall(DECIMALS)).get()
+        then:
+        act == 2L
+        client.requests == 2
+    }
+
+    def "Don't keep a request failed before it's sent"() {
+        setup:
+        client.broken = true
+        when:
+        def failed = cache.read(readCall(DECIMALS))
+        then:
+        failed.isCompletedExceptionally()
+        cache.size() == 0
+        when:
+        client.broken = false
+        def act = cache.read(readCall(DECIMALS)).get()
+        then:
+        act == 1L
+    }
+
+    def "Evict oldest entries"() {
+        setup:
+        def cache = ContractCallCache.newBuilder()
+            .client(client)
+            .defaultPolicy(ContractCallCache.Policy.FOREVER)
+            .maxSize(2)
+            .build()
+        when:
+        (1..3).each { cache.read(readCall(MethodId.fromSignature("get" + it))).get() }
+        then:
+        cache.size() == 2
+        when:
+        cache.read(readCall(MethodId.fromSignature("get3"))).get()
+        then:
+        client.requests == 3
+        when:
+        cache.read(readCall(MethodId.fromSignature("get1"))).get()
+        then:
+        client.requests == 4
+    }
+
+    static ContractReadCall<Long> readCall(MethodId method) {
+        return new ContractReadCall<Long>(CONTRACT, new ContractData(method), { HexData result ->
+            Hex32.from(result).asUInt().longValueExact()
+        })
+    }
+
+    /**
+     * Returns a number of the request as a result
+     */
+    static class TestClient extends AbstractFuturesRpcClient {
+        int requests = 0
+        boolean fail = false
+        boolean broken = false
+        boolean manual = false
+        List<DefaultBatch.FutureBatchItem> pending = []
+
+        @Override
+        List<CompletableFuture> execute(DefaultBatch batch) {
+            if (broken) {
+                throw new IllegalStateException("Client is closed")
+            }
+            batch.items.each { DefaultBatch.FutureBatchItem item ->
+                requests++
+                if (manual) {
+                    pending.add(item)
+                } else if (fail) {
+                    item.onError(new RpcException(-32000, "unavailable"))
+                } else {
+                    item.onResult(Hex32.extendFrom(requests.longValue()))
+                }
+            }
+            return batch.items*.result
+        }
+    }
+}
@@ -307,11 +307,45 @@ class ContractDataSpec extends Specification {
             "00000000000000000000000000000000000000000000000000000000000000a4"
     }
 
+    def "Extract as a view over input"() {
+        setup:
+        def input = HexData.from("0xa9059cbb000000000000000000000000c7dc5c95728d9ca387239af0a49b7bce8927d3090000000000000000000000000000000000000000000000000000005700ad9290")
+        when:
+        def act = ContractData.extract(input)
+        then:
+        act.toData().is(input)
+        act.isMethod(MethodId.from("0xa9059cbb"))
+        !act.isMethod(MethodId.from("0x23b872dd"))
+        act.argumentsCount == 2
+        act.getArgument(1) == Hex32.from("0x0000000000000000000000000000000000000000000000000000005700ad9290")
+        act == new ContractData(MethodId.from("0xa9059cbb"), act.arguments)
+        act.hashCode() == new ContractData(MethodId.from("0xa9059cbb"), act.arguments).hashCode()
+    }
+
+    def "Fail to read missing argument"() {
+        setup:
+        def act = ContractData.extract(HexData.from("0x9979ef450000000000000000000000000000000000000000000000000000000000008f5c"))
+        when:
+        act.getArgument(1)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "Fail to build with null argument"() {
+        when:
+        ContractData.newBuilder()
+            .method("0x23b872dd")
+            .argumentArray([Hex32.from("0x00000000000000000000000000000000000000000000000000000000000000a1"), null])
+            .build()
+        then:
+        thrown(NullPointerException)
+    }
+
     def "should meet equals and hashCode contract"() {
         expect:
         EqualsVerifier.forClass(ContractData.class)
             .suppress(Warning.STRICT_INHERITANCE)
-            .withNonnullFields("method", "arguments")
+            .withNonnullFields("method", "data")
             .verify()
     }
 }
@@ -0,0 +1,121 @@
+package io.emeraldpay.etherjar.contract
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.EventId
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.rpc.json.TransactionLogJson
+import spock.lang.Specification
+
+class EventDecoderSpec extends Specification {
+
+    static final Hex32 FROM = Hex32.from("0x0000000000000000000000001111111111111111111111111111111111111111")
+    static final Hex32 TO = Hex32.from("0x0000000000000000000000002222222222222222222222222222222222222222")
+    static final EventId TRANSFER = EventId.from("0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef")
+
+    EventDecoder decoder = EventDecoder.from(
+        "Transfer(address indexed from, address indexed to, uint256 value)",
+        "Transfer(address indexed from, address indexed to, uint256 indexed tokenId)",
+        "TransferSingle(address indexed operator, address indexed from, address indexed to, uint256 id, uint256 value)",
+        "Swap(address indexed sender, uint256 amount0In, uint256 amount1In, uint256 amount0Out, uint256 amount1Out, address indexed to)"
+    )
+
+    def "Decode ERC-20 and ERC-721 transfers by number of topics"() {
+        when:
+        def erc20 = decoder.decode(new TransactionLogJson(topics: [TRANSFER, FROM, TO], data: Hex32.extendFrom(BigInteger.TEN)))
+        def erc721 = decoder.decode(new TransactionLogJson(topics: [TRANSFER, FROM, TO, Hex32.extendFrom(BigInteger.TWO)], data: HexData.empty()))
+        then:
+        erc20.isPresent()
+        erc20.get().definition.names == ["from", "to", "value"]
+        erc20.get().get("value") == BigInteger.TEN
+        erc721.isPresent()
+        erc721.get().definition.names == ["from", "to", "tokenId"]
+        erc721.get().get("tokenId") == BigInteger.TWO
+    }
+
+    def "Decode ERC-1155 transfer"() {
+        setup:
+        def log = new TransactionLogJson(
+            topics: [EventId.fromSignature("TransferSingle", "address", "address", "address", "uint256", "uint256"), TO, FROM, TO],
+            data: HexData.combine(Hex32.extendFrom(BigInteger.valueOf(5)), Hex32.extendFrom(BigInteger.valueOf(100)))
+        )
+        when:
+        def act = decoder.decode(log)
+        then:
+        act.isPresent()
+        act.get().values == [
+            Address.from("0x2222222222222222222222222222222222222222"),
+            Address.from("0x1111111111111111111111111111111111111111"),
+            Address.from("0x2222222222222222222222222222222222222222"),
+            BigInteger.valueOf(5), BigInteger.valueOf(100)
+        ]
+    }
+
+    def "Decode swap with indexed parameter after data"() {
+        setup:
+        def log = new TransactionLogJson(
+            topics: [EventId.from("0xd78ad95fa46c994b6551d0da85fc275fe613ce37657fb8d5e3d130840159d822"), FROM, TO],
+            data: HexData.combine(
+                Hex32.extendFrom(BigInteger.ZERO), Hex32.extendFrom(BigInteger.valueOf(1000)),
+                Hex32.extendFrom(BigInteger.valueOf(2000)), Hex32.extendFrom(BigInteger.ZERO))
+        )
+        when:
+        def act = decoder.decode(log)
+        then:
+        act.isPresent()
+        act.get().name == "Swap"
+        act.get().get("amount1In") == BigInteger.valueOf(1000)
+        act.get().get("amount0Out") == BigInteger.valueOf(2000)
+        act.get().get("to") == Address.from("0x2222222222222222222222222222222222222222")
+    }
+
+    def "Ignore unknown logs"() {
+        expect:
+        !decoder.decode(new TransactionLogJson(topics: topics, data: HexData.empty())).isPresent()
+        !decoder.find(new TransactionLogJson(topics: topics, data: HexData.empty())).isPresent()
+        where:
+        topics << [
+            [],
+            [TRANSFER],
+            [EventId.fromSignature("Approval", "address", "address", "uint256"), FROM, TO],
+            [TRANSFER, FROM, TO, FROM, TO]
+        ]
+    }
+
+    def "Fail on invalid data of a known event"() {
+        when:
+        decoder.decode(new TransactionLogJson(topics: [TRANSFER, FROM, TO], data: HexData.empty()))
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "Decode batch skipping unknown and invalid logs"() {
+        setup:
+        def logs = (0..<1000).collect { i ->
+            if (i % 10 == 0) {
+                return new TransactionLogJson(topics: [TRANSFER, FROM, TO], data: HexData.empty())
+            }
+            if (i % 10 == 1) {
+                return new TransactionLogJson(topics: [Hex32.extendFrom(BigInteger.ONE)], data: HexData.empty())
+            }
+            return new TransactionLogJson(topics: [TRANSFER, FROM, TO], data: Hex32.extendFrom(BigInteger.valueOf(i)))
+        }
+        when:
+        def seq = decoder.decodeAll(logs)
+        def par = decoder.decodeAllParallel(logs)
+        then:
+        seq.size() == 800
+        seq.collect { it.get("value") } == (0..<1000).findAll { it % 10 > 1 }.collect { BigInteger.valueOf(it) }
+        par == seq
+    }
+
+    def "Fail on duplicate events"() {
+        when:
+        EventDecoder.from(
+            "Transfer(address indexed from, address indexed to, uint256 value)",
+            "Transfer(address indexed, address indexed, uint256)"
+        )
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
@@ -0,0 +1,149 @@
+package io.emeraldpay.etherjar.contract
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.EventId
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.rpc.json.TransactionLogJson
+import spock.lang.Specification
+
+class EventDefinitionSpec extends Specification {
+
+    static final Hex32 FROM = Hex32.from("0x0000000000000000000000001111111111111111111111111111111111111111")
+    static final Hex32 TO = Hex32.from("0x0000000000000000000000002222222222222222222222222222222222222222")
+
+    def "Parse signature"() {
+        when:
+        def act = EventDefinition.from("Transfer(address indexed from, address indexed to, uint256 value)")
+        then:
+        act.name == "Transfer"
+        act.id == EventId.from("0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef")
+        act.types*.canonicalName == ["address", "address", "uint256"]
+        act.names == ["from", "to", "value"]
+        act.isIndexed(0)
+        act.isIndexed(1)
+        !act.isIndexed(2)
+        act.topicsCount == 3
+        act.toAbi() == "Transfer(address,address,uint256)"
+        act.toString() == "Transfer(address indexed from, address indexed to, uint256 value)"
+    }
+
+    def "Parse signature without names"() {
+        when:
+        def act = EventDefinition.from(signature)
+        then:
+        act.toAbi() == abi
+        act.names == names
+        act.topicsCount == topics
+        where:
+        signature                                | abi                         | names          | topics
+        "Paused()"                               | "Paused()"                  | []             | 1
+        "Foo(uint8 indexed,bytes)"               | "Foo(uint8,bytes)"          | [null, null]   | 2
+        "Foo(uint8 indexed, bytes data)"         | "Foo(uint8,bytes)"          | [null, "data"] | 2
+        "Foo((address,uint256)[] items, string)" | "Foo((address,uint256)[],string)" | ["items", null] | 1
+    }
+
+    def "Parse tuple parameter with spaces"() {
+        when:
+        def act = EventDefinition.from(signature)
+        then:
+        act.toAbi() == abi
+        act.names == names
+        act.topicsCount == topics
+        where:
+        signature                                          | abi                                 | names          | topics
+        "Transfer((uint256, address) indexed data)"        | "Transfer((uint256,address))"       | ["data"]       | 2
+        "Transfer((uint256, address) data, uint8 indexed)" | "Transfer((uint256,address),uint8)" | ["data", null] | 2
+        "Foo( ( uint256 , (address, bool) )[] indexed )"   | "Foo((uint256,(address,bool))[])"   | [null]         | 2
+    }
+
+    def "Fail on invalid signature"() {
+        when:
+        EventDefinition.from(signature)
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        signature << [
+            "Transfer",
+            "Transfer(address,",
+            "Transfer(foo)",
+            "Transfer(address foo indexed)",
+            "Transfer((uint256, address) foo indexed)",
+            "Transfer((uint256, address) indexed a b)",
+            "Transfer(address indexed a, address indexed b, address indexed c, address indexed d)",
+        ]
+    }
+
+    def "Decode ERC-20 transfer"() {
+        setup:
+        def event = EventDefinition.from("Transfer(address indexed from, address indexed to, uint256 value)")
+        def log = new TransactionLogJson(
+            address: Address.from("0xdac17f958d2ee523a2206206994597c13d831ec7"),
+            topics: [event.id, FROM, TO],
+            data: Hex32.extendFrom(BigInteger.valueOf(1000))
+        )
+        when:
+        def act = event.readFrom(log)
+        then:
+        act.name == "Transfer"
+        act.address == Address.from("0xdac17f958d2ee523a2206206994597c13d831ec7")
+        act.values == [Address.from("0x1111111111111111111111111111111111111111"), Address.from("0x2222222222222222222222222222222222222222"), BigInteger.valueOf(1000)]
+        act.get("value") == BigInteger.valueOf(1000)
+        act.get(0) == Address.from("0x1111111111111111111111111111111111111111")
+        act.eventId == event.id
+        act.arguments == [FROM, TO]
+        act.data == log.data
+    }
+
+    def "Decode indexed dynamic parameter as hash"() {
+        setup:
+        def event = EventDefinition.from("Named(string indexed key, string value)")
+        def hash = Hex32.from("0xe1629b9dda060bb30c7908346f6af189c16773fa148d3366701fbaa35d54f3c8")
+        def log = new TransactionLogJson(
+            topics: [event.id, hash],
+            data: HexData.from("0x0000000000000000000000000000000000000000000000000000000000000020" +
+                "0000000000000000000000000000000000000000000000000000000000000003" +
+                "6162630000000000000000000000000000000000000000000000000000000000")
+        )
+        when:
+        def act = event.readFrom(log)
+        then:
+        act.values == [hash, "abc"]
+    }
+
+    def "Write decoded event back to log"() {
+        setup:
+        def event = EventDefinition.from("Transfer(address indexed from, address indexed to, uint256 indexed tokenId)")
+        def log = new TransactionLogJson(
+            topics: [event.id, FROM, TO, Hex32.extendFrom(BigInteger.TWO)],
+            data: HexData.empty()
+        )
+        def act = new TransactionLogJson()
+        when:
+        event.readFrom(log).writeTo(act)
+        then:
+        act.topics == log.topics
+        act.data == log.data
+    }
+
+    def "Fail to decode not matching log"() {
+        setup:
+        def event = EventDefinition.from("Transfer(address indexed from, address indexed to, uint256 value)")
+        when:
+        event.readFrom(new TransactionLogJson(topics: topics, data: data))
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        topics                                                       | data
+        [EventId.fromSignature("Approval", "address", "address", "uint256"), FROM, TO] | Hex32.extendFrom(BigInteger.ONE)
+        [EventId.fromSignature("Transfer", "address", "address", "uint256"), FROM] | Hex32.extendFrom(BigInteger.ONE)
+        [EventId.fromSignature("Transfer", "address", "address", "uint256"), FROM, TO] | HexData.empty()
+        [EventId.fromSignature("Transfer", "address", "address", "uint256"), FROM, TO] | HexData.from("0x00")
+    }
+
+    def "Same id with different indexes is not equal"() {
+        expect:
+        EventDefinition.from("Transfer(address indexed,address indexed,uint256)") == EventDefinition.from("Transfer(address indexed from,address indexed to,uint256 value)")
+        EventDefinition.from("Transfer(address indexed,address indexed,uint256)") != EventDefinition.from("Transfer(address indexed,address indexed,uint256 indexed)")
+    }
+}
@@ -0,0 +1,152 @@
+package io.emeraldpay.etherjar.contract
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.Bloom
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.rpc.json.BlockJson
+import io.emeraldpay.etherjar.rpc.json.TransactionLogJson
+import spock.lang.Specification
+
+class LogMatcherSpec extends Specification {
+
+    static final Address USDT = Address.from("0xdac17f958d2ee523a2206206994597c13d831ec7")
+    static final Address WETH = Address.from("0xc02aaa39b223fe8d0a0e5c4f27ead9083c756cc2")
+    static final Address ALICE = Address.from("0x3cd751e6b0078be393132286c442345e5dc49699")
+    static final Address BOB = Address.from("0x65968e42789eb8b257c34eb7dd66059708c791b0")
+    static final Hex32 TRANSFER = Hex32.from("0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef")
+    static final Hex32 APPROVAL = Hex32.from("0x8c5be1e5ebec7d5bd14f71427d1e84f3dd0314c0f7b2291e5b200ac8c7c3b925")
+
+    LogMatcher<String> matcher = LogMatcher.<String>newBuilder()
+        .add("usdt", LogMatcher.Filter.newBuilder().address(USDT).build())
+        .add("weth-transfer", LogMatcher.Filter.newBuilder().address(WETH).topic(0, TRANSFER).build())
+        .add("to-alice", LogMatcher.Filter.newBuilder().topic(0, TRANSFER).topic(2, Hex32.extendFrom(ALICE)).build())
+        .add("from-bob", LogMatcher.Filter.newBuilder().topic(1, Hex32.extendFrom(BOB)).build())
+        .build()
+
+    static TransactionLogJson log(Address address, Hex32... topics) {
+        return new TransactionLogJson(address: address, topics: topics.toList())
+    }
+
+    static Bloom bloom(TransactionLogJson... logs) {
+        def builder = Bloom.newBuilder()
+        logs.each { log ->
+            builder.add(log.address)
+            log.topics.each { builder.add(it) }
+        }
+        return builder.build()
+    }
+
+    def "Match logs"() {
+        expect:
+        matcher.match(item) as Set == exp as Set
+        where:
+        item                                                                                 | exp
+        log(USDT, APPROVAL)                                                                  | ["usdt"]
+        log(WETH, TRANSFER, Hex32.extendFrom(ALICE), Hex32.extendFrom(BOB))                  | ["weth-transfer"]
+        log(WETH, APPROVAL, Hex32.extendFrom(ALICE), Hex32.extendFrom(BOB))                  | []
+        log(USDT, TRANSFER, Hex32.extendFrom(BOB), Hex32.extendFrom(ALICE))                  | ["usdt", "to-alice", "from-bob"]
+        log(ALICE, APPROVAL, Hex32.extendFrom(BOB))                                          | ["from-bob"]
+        log(ALICE, TRANSFER, Hex32.extendFrom(ALICE))                                        | []
+        log(ALICE)                                                                           | []
+    }
+
+    def "Match all logs in order"() {
+        setup:
+        def logs = [
+            log(USDT, APPROVAL),
+            log(ALICE, APPROVAL),
+            log(WETH, TRANSFER, Hex32.extendFrom(BOB), Hex32.extendFrom(ALICE)),
+        ]
+        when:
+        def act = matcher.matchAll(logs)
+        def actParallel = matcher.matchAllParallel(logs)
+        then:
+        act*.log == [logs[0], logs[2], logs[2], logs[2]]
+        act[0].key == "usdt"
+        act[1..3]*.key as Set == ["weth-transfer", "to-alice", "from-bob"] as Set
+        actParallel == act
+    }
+
+    def "Check bloom"() {
+        expect:
+        matcher.mayMatch(bloom(log(USDT)))
+        matcher.mayMatch(bloom(log(ALICE, TRANSFER, Hex32.extendFrom(BOB), Hex32.extendFrom(ALICE))))
+        !matcher.mayMatch(bloom(log(ALICE, TRANSFER)))
+        matcher.mayMatch(bloom(log(ALICE, APPROVAL, Hex32.extendFrom(BOB))))
+        !matcher.mayMatch(bloom(log(ALICE, APPROVAL)))
+        !matcher.mayMatch(Bloom.empty())
+        matcher.mayMatch(null)
+    }
+
+    def "Check bloom for a large set of addresses"() {
+        setup:
+        def random = new Random(1)
+        def builder = LogMatcher.<Integer>newBuilder()
+        def addresses = (0..<10000).collect {
+            byte[] value = new byte[20]
+            random.nextBytes(value)
+            Address.from(value)
+        }
+        addresses.eachWithIndex { address, i -> builder.add(i, LogMatcher.Filter.newBuilder().address(address).build()) }
+        def matcher = builder.build()
+        expect:
+        matcher.size() == 10000
+        addresses.every { matcher.mayMatch(bloom(log(it))) }
+        !matcher.mayMatch(Bloom.empty())
+    }
+
+    def "Check bloom by recipient for many transfer subscriptions"() {
+        setup:
+        def random = new Random(1)
+        def builder = LogMatcher.<Integer>newBuilder()
+        def recipients = (0..<1000).collect {
+            byte[] value = new byte[20]
+            random.nextBytes(value)
+            Hex32.extendFrom(Address.from(value))
+        }
+        recipients.eachWithIndex { recipient, i ->
+            builder.add(i, LogMatcher.Filter.newBuilder().topic(0, TRANSFER).topic(2, recipient).build())
+        }
+        def matcher = builder.build()
+        def transfer = log(USDT, TRANSFER, Hex32.extendFrom(BOB), recipients[42])
+        expect:
+        !matcher.mayMatch(Bloom.newBuilder().add(TRANSFER).build())
+        !matcher.mayMatch(bloom(log(USDT, TRANSFER, Hex32.extendFrom(BOB), Hex32.extendFrom(ALICE))))
+        matcher.mayMatch(bloom(transfer))
+        matcher.match(transfer) == [42]
+        matcher.match(log(USDT, TRANSFER, Hex32.extendFrom(BOB), Hex32.extendFrom(ALICE))) == []
+    }
+
+    def "Always match a filter without conditions"() {
+        setup:
+        def matcher = LogMatcher.<String>newBuilder()
+            .add("all", LogMatcher.Filter.newBuilder().build())
+            .build()
+        expect:
+        matcher.mayMatch(Bloom.empty())
+        matcher.match(log(ALICE)) == ["all"]
+    }
+
+    def "Filter blocks"() {
+        setup:
+        def blocks = [
+            new BlockJson(number: 1L, logsBloom: bloom(log(ALICE, APPROVAL))),
+            new BlockJson(number: 2L, logsBloom: bloom(log(USDT, APPROVAL))),
+            new BlockJson(number: 3L, logsBloom: Bloom.empty()),
+            new BlockJson(number: 4L, logsBloom: bloom(log(ALICE, TRANSFER, Hex32.extendFrom(BOB)))),
+        ]
+        when:
+        def act = matcher.filterBlocks(blocks)
+        def actParallel = matcher.filterBlocksParallel(blocks)
+        then:
+        act*.number == [2L, 4L]
+        actParallel*.number == [2L, 4L]
+    }
+
+    def "Invalid topic position"() {
+        when:
+        LogMatcher.Filter.newBuilder().topic(4, TRANSFER)
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
@@ -0,0 +1,156 @@
+package io.emeraldpay.etherjar.contract
+
+import io.emeraldpay.etherjar.abi.CachingRepository
+import io.emeraldpay.etherjar.abi.TupleType
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.MethodId
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.rpc.AbstractFuturesRpcClient
+import io.emeraldpay.etherjar.rpc.DefaultBatch
+import io.emeraldpay.etherjar.rpc.RpcException
+import io.emeraldpay.etherjar.rpc.json.TransactionCallJson
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+
+class MulticallExecutorSpec extends Specification {
+
+    static final TupleType CALLS = TupleType.from(CachingRepository.getDefault(), "((address,bool,bytes)[])").get()
+    static final TupleType RESULTS = TupleType.from(CachingRepository.getDefault(), "((bool,bytes)[])").get()
+    static final Address REVERTED = Address.from("0x0000000000000000000000000000000000000bad")
+    static final Address EMPTY = Address.from("0x0000000000000000000000000000000000000000")
+
+    def "Aggregate3 method id"() {
+        expect:
+        MulticallExecutor.AGGREGATE3 == MethodId.from("0x82ad56cb")
+    }
+
+    def "Encode calls"() {
+        setup:
+        def executor = new MulticallExecutor(new TestClient())
+        def calls = [readCall(Address.from("0x1111111111111111111111111111111111111111"), 1), readCall(EMPTY, 2)]
+        when:
+        def act = executor.toJson(calls)
+        then:
+        act.to == MulticallExecutor.MULTICALL3
+        act.gas == null
+        act.input == MulticallExecutor.AGGREGATE3.concat(CALLS.encode([[
+            [calls[0].contract, BigInteger.ONE, calls[0].data.toData().bytes] as Object[],
+            [calls[1].contract, BigInteger.ONE, calls[1].data.toData().bytes] as Object[],
+        ] as Object[][]] as Object[]))
+    }
+
+    def "Execute calls in chunks"() {
+        setup:
+        def client = new TestClient()
+        def executor = MulticallExecutor.newBuilder()
+            .client(client)
+            .chunkSize(2)
+            .gasLimit(1_000_000L)
+            .concurrency(2)
+            .build()
+        def calls = (1..5).collect { readCall(Address.from("0x111111111111111111111111111111111111111" + it), it) }
+        when:
+        def act = executor.execute(calls).get()
+        then:
+        client.requests.size() == 3
+        client.requests*.gas == [1_000_000L] * 3
+        act.size() == 5
+        act*.success == [true] * 5
+        act*.value == [1L, 2L, 3L, 4L, 5L]
+        act*.call == calls
+    }
+
+    def "Return failed results"() {
+        setup:
+        def executor = new MulticallExecutor(new TestClient())
+        def calls = [readCall(REVERTED, 1), readCall(EMPTY, 2), readCall(Address.from("0x1111111111111111111111111111111111111111"), 3)]
+        when:
+        def act = executor.execute(calls).get()
+        then:
+        act*.success == [false, false, true]
+        act[0].returnData == HexData.from("0x08c379a0")
+        act[0].error == null
+        act[1].value == null
+        act[1].error instanceof IllegalArgumentException
+        act[2].value == 3L
+    }
+
+    def "Execute empty list"() {
+        setup:
+        def client = new TestClient()
+        def executor = new MulticallExecutor(client)
+        when:
+        def act = executor.execute([]).get()
+        then:
+        act.isEmpty()
+        client.requests.isEmpty()
+    }
+
+    def "Fail on RPC error"() {
+        setup:
+        def client = new TestClient(error: true)
+        def executor = new MulticallExecutor(client)
+        when:
+        executor.execute([readCall(EMPTY, 1)]).get()
+        then:
+        def t = thrown(ExecutionException)
+        t.cause instanceof RpcException
+    }
+
+    def "Reject wrong number of results"() {
+        when:
+        MulticallExecutor.decode([readCall(EMPTY, 1)], RESULTS.encode([[] as Object[][]] as Object[]))
+        then:
+        thrown(IllegalStateException)
+    }
+
+    static ContractReadCall<Long> readCall(Address contract, long value) {
+        def data = ContractData.newBuilder()
+            .method("get", "uint256")
+            .argument(value)
+            .build()
+        return new ContractReadCall<Long>(contract, data, { HexData result ->
+            if (result.size != Hex32.SIZE_BYTES) {
+                throw new IllegalArgumentException("Invalid result")
+            }
+            return Hex32.from(result).asUInt().longValueExact()
+        })
+    }
+
+    /**
+     * Emulates Multicall3, where each call returns its argument, except calls to a contract which reverts and to an address
+     * without a contract.
+     */
+    static class TestClient extends AbstractFuturesRpcClient {
+        List<TransactionCallJson> requests = []
+        boolean error = false
+
+        @Override
+        List<CompletableFuture> execute(DefaultBatch batch) {
+            batch.items.each { DefaultBatch.FutureBatchItem item ->
+                TransactionCallJson json = item.call.params[0]
+                requests.add(json)
+                if (error) {
+                    item.onError(new RpcException(-32000, "out of gas"))
+                    return
+                }
+                def calls = CALLS.decode(json.input.skip(MethodId.SIZE_BYTES))[0] as List
+                def results = calls.collect { Object[] call ->
+                    if (call[0] == REVERTED) {
+                        return [BigInteger.ZERO, HexData.from("0x08c379a0").bytes] as Object[]
+                    }
+                    if (call[0] == EMPTY) {
+                        return [BigInteger.ONE, new byte[0]] as Object[]
+                    }
+                    def data = ContractData.extract(new HexData(call[2] as byte[]))
+                    return [BigInteger.ONE, data.arguments[0].bytes] as Object[]
+                }
+                item.onResult(RESULTS.encode([results as Object[][]] as Object[]))
+            }
+            return batch.items*.result
+        }
+    }
+}
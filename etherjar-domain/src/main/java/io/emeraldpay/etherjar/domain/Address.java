@@ -19,7 +19,6 @@ package io.emeraldpay.etherjar.domain;
 
 import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 import org.bouncycastle.util.encoders.Hex;
 
 import java.util.Arrays;
@@ -125,15 +124,12 @@ public class Address extends HexData implements Comparable<Address> {
     }
 
     public String toChecksumString() {
-        Keccak.Digest256 digest256 = new Keccak.Digest256();
-
         byte[] hex = new byte[value.length * 2];
         for(int i = 0, j = 0; i < value.length; i++){
             hex[j++] = HEX_BYTES[(0xF0 & value[i]) >>> 4];
             hex[j++] = HEX_BYTES[0x0F & value[i]];
         }
-        digest256.update(hex);
-        String hash = Hex.toHexString(digest256.digest());
+        String hash = Hex.toHexString(Keccak256.hash(hex));
 
         char[] plain = toHex().toCharArray();
         char[] str = new char[hex.length + 2];
@@ -165,12 +161,8 @@ public class Address extends HexData implements Comparable<Address> {
      * @return {@code true} if address with checksum
      */
     static boolean isValidChecksum(String address) {
-        Keccak.Digest256 digest256 = new Keccak.Digest256();
-
-        digest256.update(
-                address.substring(2).toLowerCase().getBytes());
-
-        String hash = Hex.toHexString(digest256.digest());
+        String hash = Hex.toHexString(
+                Keccak256.hash(address.substring(2).toLowerCase().getBytes()));
 
         for (int i = 0; i < 40; i++) {
             char ch = address.charAt(i + 2);
@@ -1,7 +1,6 @@
 package io.emeraldpay.etherjar.domain;
 
 import io.emeraldpay.etherjar.hex.HexData;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -52,6 +51,38 @@ public class Bloom extends HexData {
         return new Builder();
     }
 
+    /**
+     * Get the bits set in a bloom for the value, as <code>byte index * 8 + bit index in the byte</code>, i.e. suitable
+     * for {@link #isSet(int)}. Allows to index a large set of values by their bits, instead of making a {@link Filter} per value.
+     *
+     * @param value value to add to a bloom, i.e. an address or a topic
+     * @return 3 bit indexes
+     */
+    public static int[] bitIndexes(HexData value) {
+        byte[] hash = Keccak256.hash(value.getBytes());
+        int[] result = new int[3];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bitIndex(hash, i * 2);
+        }
+        return result;
+    }
+
+    private static int bitIndex(byte[] hash, int i) {
+        int high = hash[i] & 0x7;
+        int low  = hash[i + 1] & 0xff;
+        int bitpos = (high << 8) + low;
+        int bytepos = bytePosition(bitpos);
+        return ((SIZE_BYTES - bytepos - 1) << 3) + (bitpos - (bytepos << 3));
+    }
+
+    /**
+     * @param bitIndex bit index, as produced by {@link #bitIndexes(HexData)}
+     * @return true if the bit is set
+     */
+    public boolean isSet(int bitIndex) {
+        return (value[bitIndex >> 3] & (1 << (bitIndex & 7))) != 0;
+    }
+
     public static int bytePosition(int bitpos) {
         return bitpos >> 3;
     }
@@ -63,19 +94,14 @@ public class Bloom extends HexData {
 
     public static class Builder {
         private final byte[] current = new byte[SIZE_BYTES];
-        private final Keccak.Digest256 keccak = new Keccak.Digest256();
+        private final byte[] hash = new byte[Keccak256.SIZE_BYTES];
 
         public Builder add(HexData value) {
-            keccak.update(value.getBytes());
-            byte[] hash = keccak.digest();
+            Keccak256.hashInto(value.getBytes(), hash);
 
             for (int i = 0; i < 6; i+= 2) {
-                int high = hash[i] & 0x7;
-                int low  = hash[i + 1] & 0xff;
-                int bitpos = (high << 8) + low;
-                int bytepos = bytePosition(bitpos);
-                int bytemask = byteMask(bytepos, bitpos);
-                current[SIZE_BYTES - bytepos - 1] |= bytemask & 0xff;
+                int index = bitIndex(hash, i);
+                current[index >> 3] |= (byte) (1 << (index & 7));
             }
             return this;
         }
@@ -17,7 +17,6 @@ package io.emeraldpay.etherjar.domain;
 
 import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -67,9 +66,7 @@ public class EventId extends Hex32 implements Comparable<EventId> {
     public static EventId fromSignature(String name, Collection<String> types) {
         String sign = Objects.requireNonNull(name) +
             '(' + String.join(",", Objects.requireNonNull(types)) + ')';
-        Keccak.Digest256 digest256 = new Keccak.Digest256();
-        digest256.update(sign.getBytes());
-        return from(digest256.digest());
+        return from(Keccak256.hash(sign.getBytes()));
     }
 
     @Override
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.domain;
+
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+import org.bouncycastle.crypto.digests.KeccakDigest;
+
+/**
+ * Keccak-256 hashing backed by a reusable per-thread digest.
+ *
+ * <p>All methods are one-shot: the digest is reset after each call, so it's safe to call them from any code
+ * on the same thread without coordination. Use it instead of creating a new digest instance per hash.</p>
+ */
+public final class Keccak256 {
+
+    /**
+     * Size of the resulting hash
+     */
+    public static final int SIZE_BYTES = 32;
+
+    private static final ThreadLocal<KeccakDigest> DIGEST = ThreadLocal.withInitial(() -> new KeccakDigest(256));
+
+    private Keccak256() {
+    }
+
+    /**
+     * @param data data to hash
+     * @return Keccak-256 of the data
+     */
+    public static byte[] hash(byte[] data) {
+        return hash(data, 0, data.length);
+    }
+
+    /**
+     * @param data source array
+     * @param offset position of the first byte to hash
+     * @param length number of bytes to hash
+     * @return Keccak-256 of the specified part of the array
+     */
+    public static byte[] hash(byte[] data, int offset, int length) {
+        byte[] out = new byte[SIZE_BYTES];
+        hashInto(data, offset, length, out, 0);
+        return out;
+    }
+
+    /**
+     * @param data data to hash
+     * @return Keccak-256 of the data
+     */
+    public static Hex32 hash(HexData data) {
+        return Hex32.from(hash(data.getBytes()));
+    }
+
+    /**
+     * Hash a concatenation of the provided parts without building the concatenated array.
+     *
+     * @param parts data to hash, in order
+     * @return Keccak-256 of the concatenated parts
+     */
+    public static byte[] hashConcat(byte[]... parts) {
+        KeccakDigest digest = DIGEST.get();
+        digest.reset();
+        for (byte[] part : parts) {
+            digest.update(part, 0, part.length);
+        }
+        byte[] out = new byte[SIZE_BYTES];
+        digest.doFinal(out, 0);
+        return out;
+    }
+
+    /**
+     * Write Keccak-256 of the data into the provided array
+     *
+     * @param data data to hash
+     * @param out target array, must have at least {@link #SIZE_BYTES} bytes
+     */
+    public static void hashInto(byte[] data, byte[] out) {
+        hashInto(data, 0, data.length, out, 0);
+    }
+
+    /**
+     * Write Keccak-256 of the specified part of the source array into the target array
+     *
+     * @param data source array
+     * @param offset position of the first byte to hash
+     * @param length number of bytes to hash
+     * @param out target array
+     * @param outOffset position in the target array where the hash starts
+     */
+    public static void hashInto(byte[] data, int offset, int length, byte[] out, int outOffset) {
+        if (offset < 0 || length < 0 || offset + length > data.length) {
+            throw new IndexOutOfBoundsException("Invalid range " + offset + ".." + (offset + length) + " of " + data.length);
+        }
+        if (outOffset < 0 || outOffset + SIZE_BYTES > out.length) {
+            throw new IndexOutOfBoundsException("Not enough space for a hash at " + outOffset + " of " + out.length);
+        }
+        KeccakDigest digest = DIGEST.get();
+        digest.reset();
+        digest.update(data, offset, length);
+        digest.doFinal(out, outOffset);
+    }
+}
@@ -18,7 +18,6 @@
 package io.emeraldpay.etherjar.domain;
 
 import io.emeraldpay.etherjar.hex.HexData;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -46,10 +45,7 @@ public class MethodId extends HexData implements Comparable<MethodId> {
                 '(' + String.join(",", Objects.requireNonNull(types)) + ')';
 
         byte[] head = new byte[SIZE_BYTES];
-        Keccak.Digest256 digest256 = new Keccak.Digest256();
-
-        digest256.update(sign.getBytes());
-        System.arraycopy(digest256.digest(), 0, head, 0, SIZE_BYTES);
+        System.arraycopy(Keccak256.hash(sign.getBytes()), 0, head, 0, SIZE_BYTES);
 
         return from(head);
     }
@@ -0,0 +1,509 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.domain;
+
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A registry of known method and event signatures, to classify a transaction input by its 4-byte selector
+ * and a log by its first topic.
+ *
+ * <p>Signatures are kept in open-addressing tables keyed by a primitive {@code int} (a method selector) or {@code long}
+ * (the first 8 bytes of an event id), so a lookup reads the key directly from the input bytes and doesn't allocate.
+ * A registry is immutable and can be shared between threads.
+ *
+ * <p>Signatures are loaded in bulk from text files with one signature per line, optionally prefixed by its
+ * selector or event id (which is calculated otherwise). Empty lines and lines starting with {@code #} are ignored.
+ *
+ * <pre>{@code
+ * # methods.txt
+ * transfer(address,uint256)
+ * 0x095ea7b3 approve(address,uint256)
+ * }</pre>
+ *
+ * <pre>{@code
+ * SignatureRegistry registry = new SignatureRegistry.Builder()
+ *     .loadMethods(methodsReader)
+ *     .loadEvents(eventsReader)
+ *     .build();
+ *
+ * String method = registry.findMethodForInput(tx.getInput());
+ * }</pre>
+ *
+ * <p>Only the first signature is kept for a selector, since different signatures may have the same 4-byte selector.
+ */
+public class SignatureRegistry {
+
+    public static class Builder {
+
+        private final MethodTable methods = new MethodTable(16);
+
+        private final EventTable events = new EventTable(16);
+
+        /**
+         * Add a method signature, unless there is one with the same selector.
+         *
+         * @param signature a canonical method signature, like {@code transfer(address,uint256)}
+         * @return the current builder object
+         */
+        public Builder addMethod(String signature) {
+            return addMethod(MethodId.from(Arrays.copyOf(hash(signature), MethodId.SIZE_BYTES)), signature);
+        }
+
+        /**
+         * Add a method signature, unless there is one with the same selector.
+         *
+         * @param id a method selector
+         * @param signature a method signature
+         * @return the current builder object
+         */
+        public Builder addMethod(MethodId id, String signature) {
+            methods.putIfAbsent(readInt(id, 0), signature);
+
+            return this;
+        }
+
+        /**
+         * Add an event signature, unless there is one with the same id.
+         *
+         * @param signature a canonical event signature, like {@code Transfer(address,address,uint256)}
+         * @return the current builder object
+         */
+        public Builder addEvent(String signature) {
+            return addEvent(EventId.from(hash(signature)), signature);
+        }
+
+        /**
+         * Add an event signature, unless there is one with the same id.
+         *
+         * @param id an event id
+         * @param signature an event signature
+         * @return the current builder object
+         */
+        public Builder addEvent(EventId id, String signature) {
+            events.putIfAbsent(id.getBytes(), signature);
+
+            return this;
+        }
+
+        /**
+         * Load method signatures, one per line, optionally prefixed with a selector.
+         *
+         * @param reader a text source
+         * @return the current builder object
+         * @throws IOException if failed to read
+         * @throws IllegalArgumentException if a selector is invalid
+         */
+        public Builder loadMethods(Reader reader) throws IOException {
+            BufferedReader lines = new BufferedReader(reader);
+            String line;
+
+            while ((line = lines.readLine()) != null) {
+                String[] parts = parseLine(line);
+
+                if (parts == null)
+                    continue;
+
+                if (parts[0] == null) {
+                    addMethod(parts[1]);
+                } else {
+                    addMethod(MethodId.from(parts[0]), parts[1]);
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Load event signatures, one per line, optionally prefixed with an event id.
+         *
+         * @param reader a text source
+         * @return the current builder object
+         * @throws IOException if failed to read
+         * @throws IllegalArgumentException if an event id is invalid
+         */
+        public Builder loadEvents(Reader reader) throws IOException {
+            BufferedReader lines = new BufferedReader(reader);
+            String line;
+
+            while ((line = lines.readLine()) != null) {
+                String[] parts = parseLine(line);
+
+                if (parts == null)
+                    continue;
+
+                if (parts[0] == null) {
+                    addEvent(parts[1]);
+                } else {
+                    addEvent(EventId.from(parts[0]), parts[1]);
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Build a {@link SignatureRegistry} with the signatures added so far.
+         *
+         * @return a {@link SignatureRegistry} instance
+         */
+        public SignatureRegistry build() {
+            return new SignatureRegistry(methods.copy(), events.copy());
+        }
+
+        /**
+         * @return an optional hex id and a signature, or {@code null} for a line to skip
+         */
+        private static String[] parseLine(String line) {
+            String str = line.trim();
+
+            if (str.isEmpty() || str.startsWith("#"))
+                return null;
+
+            if (!str.startsWith("0x"))
+                return new String[] {null, str};
+
+            int split = indexOfWhitespace(str);
+
+            if (split < 0)
+                throw new IllegalArgumentException("No signature for " + str);
+
+            return new String[] {str.substring(0, split), str.substring(split).trim()};
+        }
+
+        private static int indexOfWhitespace(String str) {
+            for (int i = 0; i < str.length(); i++) {
+                if (Character.isWhitespace(str.charAt(i)))
+                    return i;
+            }
+
+            return -1;
+        }
+
+        private static byte[] hash(String signature) {
+            return Keccak256.hash(signature.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private final MethodTable methods;
+
+    private final EventTable events;
+
+    private SignatureRegistry(MethodTable methods, EventTable events) {
+        this.methods = methods;
+        this.events = events;
+    }
+
+    /**
+     * @return number of known method signatures
+     */
+    public int getMethodsCount() {
+        return methods.size;
+    }
+
+    /**
+     * @return number of known event signatures
+     */
+    public int getEventsCount() {
+        return events.size;
+    }
+
+    /**
+     * Find a method signature by its selector.
+     *
+     * @param id a method selector
+     * @return a signature, or {@code null} if unknown
+     */
+    public String findMethod(MethodId id) {
+        return methods.get(readInt(id, 0));
+    }
+
+    /**
+     * Find a method signature for a call data (i.e. a transaction input).
+     *
+     * @param input a call data
+     * @return a signature, or {@code null} if unknown or the input is shorter than a selector
+     */
+    public String findMethodForInput(HexData input) {
+        if (input == null || input.getSize() < MethodId.SIZE_BYTES)
+            return null;
+
+        return methods.get(readInt(input, 0));
+    }
+
+    /**
+     * Find a method signature for a call data in an array.
+     *
+     * @param data an array with a call data
+     * @param offset position of the selector
+     * @return a signature, or {@code null} if unknown
+     * @throws IndexOutOfBoundsException if there is no selector at the offset
+     */
+    public String findMethod(byte[] data, int offset) {
+        if (offset < 0 || offset + MethodId.SIZE_BYTES > data.length)
+            throw new IndexOutOfBoundsException("No selector at " + offset + " of " + data.length);
+
+        return methods.get(readInt(data, offset));
+    }
+
+    /**
+     * Find an event signature by its id, i.e. the first topic of a log.
+     *
+     * @param topic an event id
+     * @return a signature, or {@code null} if unknown
+     */
+    public String findEvent(Hex32 topic) {
+        return events.get(topic);
+    }
+
+    /**
+     * Find an event signature by its id in an array.
+     *
+     * @param data an array with an event id
+     * @param offset position of the event id
+     * @return a signature, or {@code null} if unknown
+     * @throws IndexOutOfBoundsException if there is no event id at the offset
+     */
+    public String findEvent(byte[] data, int offset) {
+        if (offset < 0 || offset + EventId.SIZE_BYTES > data.length)
+            throw new IndexOutOfBoundsException("No event id at " + offset + " of " + data.length);
+
+        return events.get(data, offset);
+    }
+
+    static int readInt(HexData data, int offset) {
+        return ((data.get(offset) & 0xff) << 24)
+                | ((data.get(offset + 1) & 0xff) << 16)
+                | ((data.get(offset + 2) & 0xff) << 8)
+                | (data.get(offset + 3) & 0xff);
+    }
+
+    static int readInt(byte[] data, int offset) {
+        return ((data[offset] & 0xff) << 24)
+                | ((data[offset + 1] & 0xff) << 16)
+                | ((data[offset + 2] & 0xff) << 8)
+                | (data[offset + 3] & 0xff);
+    }
+
+    static int mix(int key) {
+        return key ^ (key >>> 16);
+    }
+
+    /**
+     * Open-addressing table with linear probing of {@code int} keys, where a {@code null} value marks an empty slot.
+     * Kept at most half full.
+     */
+    static final class MethodTable {
+
+        private int[] keys;
+
+        private String[] values;
+
+        private int size = 0;
+
+        MethodTable(int capacity) {
+            this.keys = new int[capacity];
+            this.values = new String[capacity];
+        }
+
+        String get(int key) {
+            int mask = keys.length - 1;
+
+            for (int i = mix(key) & mask; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key)
+                    return values[i];
+            }
+
+            return null;
+        }
+
+        void putIfAbsent(int key, String value) {
+            if (get(key) != null)
+                return;
+
+            if ((size + 1) * 2 > keys.length)
+                resize(keys.length * 2);
+
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+
+            while (values[i] != null) {
+                i = (i + 1) & mask;
+            }
+
+            keys[i] = key;
+            values[i] = value;
+            size++;
+        }
+
+        private void resize(int capacity) {
+            int[] oldKeys = keys;
+            String[] oldValues = values;
+
+            keys = new int[capacity];
+            values = new String[capacity];
+            size = 0;
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != null)
+                    putIfAbsent(oldKeys[i], oldValues[i]);
+            }
+        }
+
+        MethodTable copy() {
+            MethodTable copy = new MethodTable(keys.length);
+
+            System.arraycopy(keys, 0, copy.keys, 0, keys.length);
+            System.arraycopy(values, 0, copy.values, 0, values.length);
+            copy.size = size;
+
+            return copy;
+        }
+    }
+
+    /**
+     * Open-addressing table with linear probing of 32-byte keys, hashed by their first 8 bytes. The full keys are
+     * stored in a single array to check a match. Kept at most half full.
+     */
+    static final class EventTable {
+
+        private long[] prefixes;
+
+        private byte[] keys;
+
+        private String[] values;
+
+        private int size = 0;
+
+        EventTable(int capacity) {
+            this.prefixes = new long[capacity];
+            this.keys = new byte[capacity * EventId.SIZE_BYTES];
+            this.values = new String[capacity];
+        }
+
+        String get(Hex32 key) {
+            long prefix = 0;
+
+            for (int i = 0; i < 8; i++) {
+                prefix = (prefix << 8) | (key.get(i) & 0xff);
+            }
+
+            int mask = prefixes.length - 1;
+
+            for (int i = mix(prefix) & mask; values[i] != null; i = (i + 1) & mask) {
+                if (prefixes[i] == prefix && matches(i, key))
+                    return values[i];
+            }
+
+            return null;
+        }
+
+        String get(byte[] data, int offset) {
+            long prefix = readLong(data, offset);
+            int mask = prefixes.length - 1;
+
+            for (int i = mix(prefix) & mask; values[i] != null; i = (i + 1) & mask) {
+                if (prefixes[i] == prefix
+                        && Arrays.equals(keys, i * EventId.SIZE_BYTES, (i + 1) * EventId.SIZE_BYTES,
+                        data, offset, offset + EventId.SIZE_BYTES))
+                    return values[i];
+            }
+
+            return null;
+        }
+
+        private boolean matches(int slot, Hex32 key) {
+            int pos = slot * EventId.SIZE_BYTES;
+
+            for (int j = 8; j < EventId.SIZE_BYTES; j++) {
+                if (keys[pos + j] != key.get(j))
+                    return false;
+            }
+
+            return true;
+        }
+
+        void putIfAbsent(byte[] key, String value) {
+            if (get(key, 0) != null)
+                return;
+
+            if ((size + 1) * 2 > prefixes.length)
+                resize(prefixes.length * 2);
+
+            long prefix = readLong(key, 0);
+            int mask = prefixes.length - 1;
+            int i = mix(prefix) & mask;
+
+            while (values[i] != null) {
+                i = (i + 1) & mask;
+            }
+
+            prefixes[i] = prefix;
+            System.arraycopy(key, 0, keys, i * EventId.SIZE_BYTES, EventId.SIZE_BYTES);
+            values[i] = value;
+            size++;
+        }
+
+        private void resize(int capacity) {
+            byte[] oldKeys = keys;
+            String[] oldValues = values;
+
+            prefixes = new long[capacity];
+            keys = new byte[capacity * EventId.SIZE_BYTES];
+            values = new String[capacity];
+            size = 0;
+
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null)
+                    putIfAbsent(Arrays.copyOfRange(oldKeys, i * EventId.SIZE_BYTES, (i + 1) * EventId.SIZE_BYTES),
+                            oldValues[i]);
+            }
+        }
+
+        EventTable copy() {
+            EventTable copy = new EventTable(prefixes.length);
+
+            System.arraycopy(prefixes, 0, copy.prefixes, 0, prefixes.length);
+            System.arraycopy(keys, 0, copy.keys, 0, keys.length);
+            System.arraycopy(values, 0, copy.values, 0, values.length);
+            copy.size = size;
+
+            return copy;
+        }
+
+        private static long readLong(byte[] data, int offset) {
+            long value = 0;
+
+            for (int i = offset; i < offset + 8; i++) {
+                value = (value << 8) | (data[i] & 0xff);
+            }
+
+            return value;
+        }
+
+        private static int mix(long key) {
+            return SignatureRegistry.mix((int) (key ^ (key >>> 32)));
+        }
+    }
+}
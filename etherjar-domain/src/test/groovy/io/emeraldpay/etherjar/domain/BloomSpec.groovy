@@ -187,4 +187,16 @@ class BloomSpec extends Specification {
         bloom1 != bloom2
     }
 
+
+    def "Bit indexes are same as bloom bits"() {
+        setup:
+        def value = Address.from("0xdac17f958d2ee523a2206206994597c13d831ec7")
+        def bloom = Bloom.newBuilder().add(value).build()
+        when:
+        def act = Bloom.bitIndexes(value)
+        then:
+        act.length == 3
+        act.every { bloom.isSet(it) }
+        (0..2047).count { bloom.isSet(it) } == (act as Set).size()
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.domain
+
+import io.emeraldpay.etherjar.hex.HexData
+import spock.lang.Specification
+
+class Keccak256Spec extends Specification {
+
+    def "hash empty data"() {
+        when:
+        def act = Keccak256.hash(new byte[0])
+        then:
+        new HexData(act).toHex() == "0xc5d2460186f7233c927e7db2dcc703c0e500b653ca82273b7bfad8045d85a470"
+    }
+
+    def "hash data"() {
+        when:
+        def act = Keccak256.hash("hello".getBytes())
+        then:
+        new HexData(act).toHex() == "0x1c8aff950685c2ed4bc3174f3472287b56d9517b9c948127319a09a7a36deac8"
+    }
+
+    def "hash hex data"() {
+        when:
+        def act = Keccak256.hash(new HexData("hello".getBytes()))
+        then:
+        act.toHex() == "0x1c8aff950685c2ed4bc3174f3472287b56d9517b9c948127319a09a7a36deac8"
+    }
+
+    def "hash part of array"() {
+        when:
+        def act = Keccak256.hash("__hello__".getBytes(), 2, 5)
+        then:
+        new HexData(act).toHex() == "0x1c8aff950685c2ed4bc3174f3472287b56d9517b9c948127319a09a7a36deac8"
+    }
+
+    def "hash into array with offset"() {
+        setup:
+        def out = new byte[36]
+        when:
+        Keccak256.hashInto("hello".getBytes(), 0, 5, out, 2)
+        then:
+        new HexData(out).toHex() == "0x00001c8aff950685c2ed4bc3174f3472287b56d9517b9c948127319a09a7a36deac80000"
+    }
+
+    def "fail to hash into small array"() {
+        when:
+        Keccak256.hashInto("hello".getBytes(), new byte[31])
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "hash concatenated parts"() {
+        when:
+        def act = Keccak256.hashConcat("\u0019Ethereum Signed Message:\n".getBytes(), "5".getBytes(), "hello".getBytes())
+        then:
+        new HexData(act).toHex() == "0x50b2c43fd39106bafbba0da34fc430e1f91e3c96ea2acee2bc34119f92b37750"
+    }
+
+    def "digest is reset between calls"() {
+        when:
+        Keccak256.hash("test".getBytes())
+        def act = Keccak256.hash("hello".getBytes())
+        then:
+        new HexData(act).toHex() == "0x1c8aff950685c2ed4bc3174f3472287b56d9517b9c948127319a09a7a36deac8"
+    }
+}
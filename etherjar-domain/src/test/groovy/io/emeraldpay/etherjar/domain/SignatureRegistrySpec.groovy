@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.domain
+
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import spock.lang.Shared
+import spock.lang.Specification
+
+class SignatureRegistrySpec extends Specification {
+
+    @Shared SignatureRegistry registry = new SignatureRegistry.Builder()
+            .loadMethods(new StringReader('''
+                # ERC-20
+                transfer(address,uint256)
+                0x095ea7b3 approve(address,uint256)
+                0x095ea7b3 sign_szabo_bytecode(bytes16,uint128)
+            '''))
+            .loadEvents(new StringReader('''
+                Transfer(address,address,uint256)
+                0x8c5be1e5ebec7d5bd14f71427d1e84f3dd0314c0f7b2291e5b200ac8c7c3b925 Approval(address,address,uint256)
+            '''))
+            .build()
+
+    def "should load signatures"() {
+        expect:
+        registry.methodsCount == 2
+        registry.eventsCount == 2
+    }
+
+    def "should find method"() {
+        expect:
+        registry.findMethod(MethodId.from(id)) == signature
+
+        where:
+        id              | signature
+        '0xa9059cbb'    | 'transfer(address,uint256)'
+        '0x095ea7b3'    | 'approve(address,uint256)'
+        '0x70a08231'    | null
+    }
+
+    def "should find method for input"() {
+        expect:
+        registry.findMethodForInput(input == null ? null : HexData.from(input)) == signature
+
+        where:
+        input                   | signature
+        '0xa9059cbb0000'        | 'transfer(address,uint256)'
+        '0xa9059cbb'            | 'transfer(address,uint256)'
+        '0xa90599'              | null
+        '0x'                    | null
+        null                    | null
+    }
+
+    def "should find method in array"() {
+        def data = HexData.from('0x00a9059cbb').bytes
+
+        expect:
+        registry.findMethod(data, 1) == 'transfer(address,uint256)'
+        registry.findMethod(data, 0) == null
+
+        when:
+        registry.findMethod(data, 2)
+
+        then:
+        thrown IndexOutOfBoundsException
+    }
+
+    def "should find event"() {
+        expect:
+        registry.findEvent(Hex32.from(topic)) == signature
+
+        where:
+        topic                                                                   | signature
+        '0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef'    | 'Transfer(address,address,uint256)'
+        '0x8c5be1e5ebec7d5bd14f71427d1e84f3dd0314c0f7b2291e5b200ac8c7c3b925'    | 'Approval(address,address,uint256)'
+        '0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ee'    | null
+    }
+
+    def "should find event in array"() {
+        def data = new byte[40]
+        EventId.fromSignature('Transfer', 'address', 'address', 'uint256').copyTo(data, 8)
+
+        expect:
+        registry.findEvent(data, 8) == 'Transfer(address,address,uint256)'
+        registry.findEvent(data, 0) == null
+
+        when:
+        registry.findEvent(data, 9)
+
+        then:
+        thrown IndexOutOfBoundsException
+    }
+
+    def "should keep all of many signatures"() {
+        def builder = new SignatureRegistry.Builder()
+
+        (0..<10000).each {
+            builder.addMethod("m${it}(uint256)".toString())
+            builder.addEvent("E${it}(uint256)".toString())
+        }
+
+        when:
+        def act = builder.build()
+
+        then:
+        act.eventsCount == 10000
+        (0..<10000).every { act.findEvent(EventId.fromSignature("E${it}", 'uint256')) == "E${it}(uint256)".toString() }
+        (0..<10000).every {
+            def found = act.findMethod(MethodId.fromSignature("m${it}", 'uint256'))
+            found != null && MethodId.fromSignature(found.substring(0, found.indexOf('(')), 'uint256') == MethodId.fromSignature("m${it}", 'uint256')
+        }
+    }
+
+    def "should not change built registry"() {
+        def builder = new SignatureRegistry.Builder().addMethod('transfer(address,uint256)')
+        def act = builder.build()
+
+        when:
+        builder.addMethod('approve(address,uint256)')
+
+        then:
+        act.methodsCount == 1
+        act.findMethod(MethodId.from('0x095ea7b3')) == null
+    }
+
+    def "should catch line without signature"() {
+        when:
+        new SignatureRegistry.Builder().loadMethods(new StringReader('0xa9059cbb'))
+
+        then:
+        thrown IllegalArgumentException
+    }
+}
@@ -0,0 +1,438 @@
+package io.emeraldpay.etherjar.erc20;
+
+import io.emeraldpay.etherjar.contract.ContractReadCall;
+import io.emeraldpay.etherjar.contract.MulticallExecutor;
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.rpc.ReactorBatch;
+import io.emeraldpay.etherjar.rpc.ReactorRpcClient;
+import io.emeraldpay.etherjar.rpc.RpcException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Reads ERC-20 balances and metadata in bulk. Instead of a separate request per call, the reads are grouped into
+ * chunks, and each chunk is executed as a single JSON RPC batch, or as a single <code>eth_call</code> if a
+ * {@link MulticallExecutor} is provided.
+ *
+ * <p>Token metadata (name, symbol and decimals) is immutable, so it's read once per token and kept in an LRU cache.
+ * Concurrent requests for the same token share the same read.</p>
+ *
+ * <pre><code class="java">
+ * ERC20Scanner scanner = ERC20Scanner.newBuilder()
+ *     .client(client)
+ *     .multicall(new MulticallExecutor(client))
+ *     .build();
+ * scanner.readBalances(tokens, holders)
+ *     .filter(ERC20Scanner.Balance::isSuccess)
+ *     .subscribe((balance) -&gt; store(balance.getToken(), balance.getHolder(), balance.getValue()));
+ * </code></pre>
+ */
+public class ERC20Scanner {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final int DEFAULT_CONCURRENCY = 4;
+    public static final int DEFAULT_METADATA_CACHE_SIZE = 10_000;
+
+    private final ReactorRpcClient client;
+    private final MulticallExecutor multicall;
+    private final int batchSize;
+    private final int concurrency;
+    private final Map<Address, CompletableFuture<Metadata>> metadata;
+
+    private ERC20Scanner(ReactorRpcClient client, MulticallExecutor multicall, int batchSize, int concurrency, int metadataCacheSize) {
+        this.client = client;
+        this.multicall = multicall;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.metadata = new LinkedHashMap<Address, CompletableFuture<Metadata>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Address, CompletableFuture<Metadata>> eldest) {
+                return size() > metadataCacheSize;
+            }
+        };
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Read balances of each holder for each token, i.e. of all <code>tokens x holders</code> pairs.
+     * The pairs are produced lazily, so the matrix is never kept in memory.
+     *
+     * @param tokens  token contracts
+     * @param holders holder addresses
+     * @return balances, in the order of tokens and then holders, or an error if a request failed
+     */
+    public Flux<Balance> readBalances(Collection<Address> tokens, Collection<Address> holders) {
+        return readBalances(
+            Flux.fromIterable(tokens)
+                .concatMap((token) -> {
+                    ERC20Token erc20 = new ERC20Token(token);
+                    return Flux.fromIterable(holders).map((holder) -> new BalanceCall(erc20, holder));
+                })
+        );
+    }
+
+    /**
+     * Read balances of holders of each token, when each token has its own set of holders.
+     *
+     * @param holders holders per token contract
+     * @return balances, in the order of the map, or an error if a request failed
+     */
+    public Flux<Balance> readBalances(Map<Address, ? extends Collection<Address>> holders) {
+        return readBalances(
+            Flux.fromIterable(holders.entrySet())
+                .concatMap((e) -> {
+                    ERC20Token erc20 = new ERC20Token(e.getKey());
+                    return Flux.fromIterable(e.getValue()).map((holder) -> new BalanceCall(erc20, holder));
+                })
+        );
+    }
+
+    private Flux<Balance> readBalances(Flux<BalanceCall> calls) {
+        return calls
+            .buffer(batchSize)
+            .flatMapSequential((chunk) -> {
+                List<ContractReadCall<?>> reads = new ArrayList<>(chunk.size());
+                for (BalanceCall call : chunk) {
+                    reads.add(call.token.readBalanceOf(call.holder));
+                }
+                return execute(reads).map((values) -> {
+                    List<Balance> balances = new ArrayList<>(chunk.size());
+                    for (int i = 0; i < chunk.size(); i++) {
+                        BalanceCall call = chunk.get(i);
+                        balances.add(new Balance(call.token.getContract(), call.holder, (BigInteger) values.get(i)));
+                    }
+                    return balances;
+                });
+            }, concurrency)
+            .flatMapIterable((balances) -> balances);
+    }
+
+    /**
+     * Read metadata of a token, or get it from the cache
+     *
+     * @param token token contract
+     * @return token metadata, or empty if the address doesn't respond to any of the metadata methods
+     */
+    public Mono<Metadata> readMetadata(Address token) {
+        return readMetadata(List.of(token)).next();
+    }
+
+    /**
+     * Read metadata of tokens. Only tokens which are not in the cache are read from the blockchain, and each of them
+     * only once even if it's requested multiple times. An address which doesn't respond to any of the metadata
+     * methods is skipped, same as a failed call gives a null balance, and it's not cached.
+     *
+     * @param tokens token contracts
+     * @return metadata of each distinct token, in the original order, or an error if a request failed
+     */
+    public Flux<Metadata> readMetadata(Collection<Address> tokens) {
+        return Flux.defer(() -> {
+            List<CompletableFuture<Metadata>> results = new ArrayList<>(tokens.size());
+            Map<Address, CompletableFuture<Metadata>> created = new LinkedHashMap<>();
+            synchronized (metadata) {
+                for (Address token : new LinkedHashSet<>(tokens)) {
+                    CompletableFuture<Metadata> result = metadata.get(token);
+                    if (result == null) {
+                        result = new CompletableFuture<>();
+                        metadata.put(token, result);
+                        created.put(token, result);
+                    }
+                    results.add(result);
+                }
+            }
+            if (!created.isEmpty()) {
+                load(created);
+            }
+            // the future is shared with other subscribers and the cache, so it must not be cancelled with this one
+            return Flux.fromIterable(results).concatMap((result) -> Mono.fromFuture(result, true));
+        });
+    }
+
+    private void load(Map<Address, CompletableFuture<Metadata>> targets) {
+        // each token needs 3 calls
+        int tokensPerChunk = Math.max(1, batchSize / 3);
+        Flux.fromIterable(targets.keySet())
+            .buffer(tokensPerChunk)
+            .flatMap(this::readMetadataChunk, concurrency)
+            .doOnNext((value) -> targets.get(value.getToken()).complete(value))
+            .then()
+            .toFuture()
+            .whenComplete((ignore, err) -> {
+                targets.forEach((token, target) -> {
+                    if (target.isDone()) {
+                        return;
+                    }
+                    // don't keep the failed state, so it can be retried on the next call
+                    synchronized (metadata) {
+                        metadata.remove(token, target);
+                    }
+                    if (err != null) {
+                        target.completeExceptionally(err);
+                    } else {
+                        // not a token, or all its calls failed
+                        target.complete(null);
+                    }
+                });
+            });
+    }
+
+    private Flux<Metadata> readMetadataChunk(List<Address> tokens) {
+        List<ContractReadCall<?>> reads = new ArrayList<>(tokens.size() * 3);
+        for (Address token : tokens) {
+            ERC20Token erc20 = new ERC20Token(token);
+            reads.add(erc20.readName());
+            reads.add(erc20.readSymbol());
+            reads.add(erc20.readDecimals());
+        }
+        return execute(reads).flatMapIterable((values) -> {
+            List<Metadata> result = new ArrayList<>(tokens.size());
+            for (int i = 0; i < tokens.size(); i++) {
+                String name = (String) values.get(i * 3);
+                String symbol = (String) values.get(i * 3 + 1);
+                Integer decimals = (Integer) values.get(i * 3 + 2);
+                // nothing is read, either it's not a token or the request failed, so it shouldn't be cached
+                if (name == null && symbol == null && decimals == null) {
+                    continue;
+                }
+                result.add(new Metadata(tokens.get(i), name, symbol, decimals));
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Execute a chunk of calls
+     *
+     * @return results in the same order, with null for a failed call, or an error if the whole chunk failed
+     */
+    private Mono<List<Object>> execute(List<ContractReadCall<?>> calls) {
+        if (multicall != null) {
+            return Mono.fromFuture(multicall.execute(calls))
+                .map((results) -> {
+                    List<Object> values = new ArrayList<>(results.size());
+                    for (MulticallExecutor.Result<Object> result : results) {
+                        values.add(result.getValue());
+                    }
+                    return values;
+                });
+        }
+        ReactorBatch batch = new ReactorBatch();
+        List<ReactorBatch.ReactorBatchItem<String, ?>> items = new ArrayList<>(calls.size());
+        for (ContractReadCall<?> call : calls) {
+            items.add(batch.add(call.toRpcCall()));
+        }
+        // a failure of the whole batch is propagated, same as a failed multicall, and only an error returned
+        // for an individual call means a null value
+        return client.execute(batch)
+            .then(
+                Flux.fromIterable(items)
+                    .concatMap((item) -> item.getResult()
+                        .map((value) -> Optional.<Object>of(value))
+                        .onErrorResume(RpcException.class, (t) -> Mono.just(Optional.empty()))
+                        .defaultIfEmpty(Optional.empty())
+                    )
+                    .map((value) -> value.orElse(null))
+                    .collectList()
+            );
+    }
+
+    private static class BalanceCall {
+        private final ERC20Token token;
+        private final Address holder;
+
+        BalanceCall(ERC20Token token, Address holder) {
+            this.token = token;
+            this.holder = holder;
+        }
+    }
+
+    /**
+     * Balance of a token holder
+     */
+    public static class Balance {
+        private final Address token;
+        private final Address holder;
+        private final BigInteger value;
+
+        public Balance(Address token, Address holder, BigInteger value) {
+            this.token = token;
+            this.holder = holder;
+            this.value = value;
+        }
+
+        public Address getToken() {
+            return token;
+        }
+
+        public Address getHolder() {
+            return holder;
+        }
+
+        /**
+         * @return balance, or null if the call failed
+         */
+        public BigInteger getValue() {
+            return value;
+        }
+
+        public boolean isSuccess() {
+            return value != null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Balance)) return false;
+            Balance that = (Balance) o;
+            return token.equals(that.token) &&
+                holder.equals(that.holder) &&
+                Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(token, holder, value);
+        }
+
+        @Override
+        public String toString() {
+            return "Balance{" + token + ", " + holder + ": " + value + "}";
+        }
+    }
+
+    /**
+     * Metadata of a token. A field is null if the token doesn't implement the corresponding optional method,
+     * or returns a value in a non-standard format (ex. <code>bytes32</code> symbol).
+     */
+    public static class Metadata {
+        private final Address token;
+        private final String name;
+        private final String symbol;
+        private final Integer decimals;
+
+        public Metadata(Address token, String name, String symbol, Integer decimals) {
+            this.token = token;
+            this.name = name;
+            this.symbol = symbol;
+            this.decimals = decimals;
+        }
+
+        public Address getToken() {
+            return token;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public Integer getDecimals() {
+            return decimals;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Metadata)) return false;
+            Metadata that = (Metadata) o;
+            return token.equals(that.token) &&
+                Objects.equals(name, that.name) &&
+                Objects.equals(symbol, that.symbol) &&
+                Objects.equals(decimals, that.decimals);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(token, name, symbol, decimals);
+        }
+
+        @Override
+        public String toString() {
+            return "Metadata{" + token + ", " + name + ", " + symbol + ", " + decimals + "}";
+        }
+    }
+
+    public static class Builder {
+        private ReactorRpcClient client;
+        private MulticallExecutor multicall;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private int concurrency = DEFAULT_CONCURRENCY;
+        private int metadataCacheSize = DEFAULT_METADATA_CACHE_SIZE;
+
+        public Builder client(ReactorRpcClient client) {
+            this.client = client;
+            return this;
+        }
+
+        /**
+         * Execute each chunk as a single Multicall instead of a JSON RPC batch
+         *
+         * @param multicall multicall executor
+         * @return builder
+         */
+        public Builder multicall(MulticallExecutor multicall) {
+            this.multicall = multicall;
+            return this;
+        }
+
+        /**
+         * @param batchSize max number of calls in a chunk
+         * @return builder
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param concurrency max number of chunks executed at the same time
+         * @return builder
+         */
+        public Builder concurrency(int concurrency) {
+            if (concurrency <= 0) {
+                throw new IllegalArgumentException("Concurrency must be positive: " + concurrency);
+            }
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * @param metadataCacheSize max number of tokens to keep metadata for
+         * @return builder
+         */
+        public Builder metadataCacheSize(int metadataCacheSize) {
+            if (metadataCacheSize <= 0) {
+                throw new IllegalArgumentException("Cache size must be positive: " + metadataCacheSize);
+            }
+            this.metadataCacheSize = metadataCacheSize;
+            return this;
+        }
+
+        public ERC20Scanner build() {
+            if (client == null && multicall == null) {
+                throw new NullPointerException("RPC client is not set");
+            }
+            return new ERC20Scanner(client, multicall, batchSize, concurrency, metadataCacheSize);
+        }
+    }
+}
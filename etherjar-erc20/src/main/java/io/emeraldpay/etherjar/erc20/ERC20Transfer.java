@@ -0,0 +1,132 @@
+package io.emeraldpay.etherjar.erc20;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.hex.Hex32;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static io.emeraldpay.etherjar.erc20.ERC20TransferExtractor.AMOUNT_OFFSET;
+import static io.emeraldpay.etherjar.erc20.ERC20TransferExtractor.FROM_OFFSET;
+import static io.emeraldpay.etherjar.erc20.ERC20TransferExtractor.TO_OFFSET;
+
+/**
+ * An ERC-20 transfer kept in a compact packed form, where the addresses and the amount are decoded only when requested.
+ *
+ * @see ERC20TransferExtractor
+ */
+public class ERC20Transfer {
+
+    private final Address token;
+    private final byte[] packed;
+
+    ERC20Transfer(Address token, byte[] packed) {
+        this.token = token;
+        this.packed = packed;
+    }
+
+    /**
+     * @return address of the token contract, may be null if the log doesn't have it
+     */
+    public Address getToken() {
+        return token;
+    }
+
+    /**
+     * @return sender address
+     */
+    public Address getFrom() {
+        return Address.from(Arrays.copyOfRange(packed, FROM_OFFSET, FROM_OFFSET + Address.SIZE_BYTES));
+    }
+
+    /**
+     * @return recipient address
+     */
+    public Address getTo() {
+        return Address.from(Arrays.copyOfRange(packed, TO_OFFSET, TO_OFFSET + Address.SIZE_BYTES));
+    }
+
+    /**
+     * @return amount transferred
+     */
+    public BigInteger getAmount() {
+        return new BigInteger(1, packed, AMOUNT_OFFSET, Hex32.SIZE_BYTES);
+    }
+
+    /**
+     * @return true if the amount fits into a <code>long</code>
+     * @see #getAmountLong()
+     */
+    public boolean isAmountLong() {
+        return isLong(packed, AMOUNT_OFFSET);
+    }
+
+    /**
+     * @return amount transferred
+     * @throws ArithmeticException if the amount doesn't fit into a <code>long</code>
+     * @see #isAmountLong()
+     */
+    public long getAmountLong() {
+        if (!isAmountLong()) {
+            throw new ArithmeticException("Amount is too large: " + getAmount());
+        }
+        return readLong(packed, AMOUNT_OFFSET);
+    }
+
+    /**
+     * @param data   array with an amount
+     * @param offset position of a big-endian 32 bytes amount in the array
+     * @return true if the amount fits into a <code>long</code>
+     */
+    static boolean isLong(byte[] data, int offset) {
+        int last = offset + Hex32.SIZE_BYTES - Long.BYTES;
+        for (int i = offset; i < last; i++) {
+            if (data[i] != 0) {
+                return false;
+            }
+        }
+        return data[last] >= 0;
+    }
+
+    /**
+     * @param data   array with an amount
+     * @param offset position of a big-endian 32 bytes amount in the array
+     * @return lowest 8 bytes of the amount
+     */
+    static long readLong(byte[] data, int offset) {
+        long value = 0;
+        for (int i = offset + Hex32.SIZE_BYTES - Long.BYTES; i < offset + Hex32.SIZE_BYTES; i++) {
+            value = (value << 8) | (data[i] & 0xff);
+        }
+        return value;
+    }
+
+    /**
+     * @return the same transfer as {@link ERC20Event.TransferDetails}
+     */
+    public ERC20Event.TransferDetails toDetails() {
+        return new ERC20Event.TransferDetails(getFrom(), getTo(), getAmount());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ERC20Transfer)) return false;
+        ERC20Transfer that = (ERC20Transfer) o;
+        return Objects.equals(token, that.token) &&
+            Arrays.equals(packed, that.packed);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(token);
+        result = 31 * result + Arrays.hashCode(packed);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ERC20Transfer{" + token + ": " + getFrom() + " -> " + getTo() + " " + getAmount() + "}";
+    }
+}
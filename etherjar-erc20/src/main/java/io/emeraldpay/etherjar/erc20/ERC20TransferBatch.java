@@ -0,0 +1,374 @@
+package io.emeraldpay.etherjar.erc20;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.rpc.json.TransactionLogJson;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.emeraldpay.etherjar.erc20.ERC20TransferExtractor.ADDRESS_POSITION;
+import static io.emeraldpay.etherjar.erc20.ERC20TransferExtractor.AMOUNT_OFFSET;
+import static io.emeraldpay.etherjar.erc20.ERC20TransferExtractor.FROM_OFFSET;
+import static io.emeraldpay.etherjar.erc20.ERC20TransferExtractor.PACKED_SIZE;
+import static io.emeraldpay.etherjar.erc20.ERC20TransferExtractor.TO_OFFSET;
+
+/**
+ * A columnar batch of ERC-20 transfers, where each field is kept in its own primitive array. Block number, transaction
+ * index and log index are stored as numbers, token, sender and recipient as packed 20 bytes addresses, and amount as
+ * a packed big-endian 32 bytes <code>uint256</code>. So a batch of any size is just a few arrays, without an object
+ * per transfer, and it's filled directly from the logs bytes.
+ *
+ * <p>
+ * Missing values (i.e., a pending log without a block number) are stored as <code>-1</code>. A missing token
+ * address is stored as zero bytes in the tokens column, and returned as <code>null</code>, same as by
+ * {@link ERC20TransferExtractor#extract(TransactionLogJson)}.
+ * </p>
+ *
+ * <pre><code>
+ * ERC20TransferBatch batch = new ERC20TransferBatch();
+ * for (TransactionReceiptJson receipt: receipts) {
+ *     batch.addAll(receipt.getLogs());
+ * }
+ * for (int i = 0; i &lt; batch.size(); i++) {
+ *     System.out.println(batch.getBlockNumber(i) + ": " + batch.getFrom(i) + " -&gt; " + batch.getTo(i));
+ * }
+ * </code></pre>
+ *
+ * <p>
+ * The class is not thread-safe.
+ * </p>
+ *
+ * @see ERC20TransferExtractor
+ */
+public class ERC20TransferBatch implements Iterable<ERC20Transfer> {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private int size = 0;
+    private long[] blockNumbers;
+    private int[] transactionIndexes;
+    private int[] logIndexes;
+    private byte[] tokens;
+    private byte[] froms;
+    private byte[] tos;
+    private byte[] amounts;
+    private final BitSet missingTokens = new BitSet();
+
+    public ERC20TransferBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity number of transfers to allocate the space for
+     */
+    public ERC20TransferBatch(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative: " + initialCapacity);
+        }
+        allocate(initialCapacity);
+    }
+
+    private void allocate(int capacity) {
+        blockNumbers = new long[capacity];
+        transactionIndexes = new int[capacity];
+        logIndexes = new int[capacity];
+        tokens = new byte[capacity * Address.SIZE_BYTES];
+        froms = new byte[capacity * Address.SIZE_BYTES];
+        tos = new byte[capacity * Address.SIZE_BYTES];
+        amounts = new byte[capacity * Hex32.SIZE_BYTES];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= blockNumbers.length) {
+            return;
+        }
+        int updated = Math.max(capacity, Math.max(DEFAULT_CAPACITY, blockNumbers.length * 2));
+        blockNumbers = Arrays.copyOf(blockNumbers, updated);
+        transactionIndexes = Arrays.copyOf(transactionIndexes, updated);
+        logIndexes = Arrays.copyOf(logIndexes, updated);
+        tokens = Arrays.copyOf(tokens, updated * Address.SIZE_BYTES);
+        froms = Arrays.copyOf(froms, updated * Address.SIZE_BYTES);
+        tos = Arrays.copyOf(tos, updated * Address.SIZE_BYTES);
+        amounts = Arrays.copyOf(amounts, updated * Hex32.SIZE_BYTES);
+    }
+
+    /**
+     * Append a transfer from the log, if it's an ERC-20 transfer
+     *
+     * @param log transaction log
+     * @return true if the log is a transfer and it was added, false otherwise
+     * @see ERC20TransferExtractor#isTransfer(TransactionLogJson)
+     */
+    public boolean add(TransactionLogJson log) {
+        if (!ERC20TransferExtractor.isTransfer(log)) {
+            return false;
+        }
+        ensureCapacity(size + 1);
+        int i = size;
+        blockNumbers[i] = log.getBlockNumber() != null ? log.getBlockNumber() : -1L;
+        transactionIndexes[i] = log.getTransactionIndex() != null ? log.getTransactionIndex().intValue() : -1;
+        logIndexes[i] = log.getLogIndex() != null ? log.getLogIndex().intValue() : -1;
+        int addressPos = i * Address.SIZE_BYTES;
+        if (log.getAddress() != null) {
+            log.getAddress().copyTo(tokens, addressPos);
+            missingTokens.clear(i);
+        } else {
+            Arrays.fill(tokens, addressPos, addressPos + Address.SIZE_BYTES, (byte) 0);
+            missingTokens.set(i);
+        }
+        List<Hex32> topics = log.getTopics();
+        topics.get(1).copyTo(ADDRESS_POSITION, froms, addressPos, Address.SIZE_BYTES);
+        topics.get(2).copyTo(ADDRESS_POSITION, tos, addressPos, Address.SIZE_BYTES);
+        log.getData().copyTo(amounts, i * Hex32.SIZE_BYTES);
+        size++;
+        return true;
+    }
+
+    /**
+     * Append all transfers from the logs, skipping other logs
+     *
+     * @param logs transaction logs
+     * @return number of transfers added
+     */
+    public int addAll(Collection<TransactionLogJson> logs) {
+        // the capacity grows only for actual transfers, the logs may have many other events
+        int added = 0;
+        for (TransactionLogJson log : logs) {
+            if (add(log)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * @return number of transfers in the batch
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the batch has no transfers
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all transfers, keeping the allocated space for reuse
+     */
+    public void clear() {
+        size = 0;
+        missingTokens.clear();
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " out of bounds for size " + size);
+        }
+    }
+
+    /**
+     * @param i index of the transfer
+     * @return block number, or -1 if unknown
+     */
+    public long getBlockNumber(int i) {
+        checkIndex(i);
+        return blockNumbers[i];
+    }
+
+    /**
+     * @param i index of the transfer
+     * @return index of the transaction in the block, or -1 if unknown
+     */
+    public int getTransactionIndex(int i) {
+        checkIndex(i);
+        return transactionIndexes[i];
+    }
+
+    /**
+     * @param i index of the transfer
+     * @return index of the log in the block, or -1 if unknown
+     */
+    public int getLogIndex(int i) {
+        checkIndex(i);
+        return logIndexes[i];
+    }
+
+    /**
+     * @param i index of the transfer
+     * @return address of the token contract, or null if the log doesn't have it
+     */
+    public Address getToken(int i) {
+        checkIndex(i);
+        if (missingTokens.get(i)) {
+            return null;
+        }
+        return readAddress(tokens, i);
+    }
+
+    /**
+     * @param i index of the transfer
+     * @return sender address
+     */
+    public Address getFrom(int i) {
+        checkIndex(i);
+        return readAddress(froms, i);
+    }
+
+    /**
+     * @param i index of the transfer
+     * @return recipient address
+     */
+    public Address getTo(int i) {
+        checkIndex(i);
+        return readAddress(tos, i);
+    }
+
+    private Address readAddress(byte[] column, int i) {
+        int pos = i * Address.SIZE_BYTES;
+        return Address.from(Arrays.copyOfRange(column, pos, pos + Address.SIZE_BYTES));
+    }
+
+    /**
+     * @param i index of the transfer
+     * @return amount transferred
+     */
+    public BigInteger getAmount(int i) {
+        checkIndex(i);
+        return new BigInteger(1, amounts, i * Hex32.SIZE_BYTES, Hex32.SIZE_BYTES);
+    }
+
+    /**
+     * @param i index of the transfer
+     * @return true if the amount fits into a <code>long</code>
+     * @see #getAmountLong(int)
+     */
+    public boolean isAmountLong(int i) {
+        checkIndex(i);
+        return ERC20Transfer.isLong(amounts, i * Hex32.SIZE_BYTES);
+    }
+
+    /**
+     * @param i index of the transfer
+     * @return amount transferred
+     * @throws ArithmeticException if the amount doesn't fit into a <code>long</code>
+     * @see #isAmountLong(int)
+     */
+    public long getAmountLong(int i) {
+        if (!isAmountLong(i)) {
+            throw new ArithmeticException("Amount is too large: " + getAmount(i));
+        }
+        return ERC20Transfer.readLong(amounts, i * Hex32.SIZE_BYTES);
+    }
+
+    /**
+     * @param i index of the transfer
+     * @return the transfer as a standalone object
+     */
+    public ERC20Transfer get(int i) {
+        checkIndex(i);
+        byte[] packed = new byte[PACKED_SIZE];
+        System.arraycopy(froms, i * Address.SIZE_BYTES, packed, FROM_OFFSET, Address.SIZE_BYTES);
+        System.arraycopy(tos, i * Address.SIZE_BYTES, packed, TO_OFFSET, Address.SIZE_BYTES);
+        System.arraycopy(amounts, i * Hex32.SIZE_BYTES, packed, AMOUNT_OFFSET, Hex32.SIZE_BYTES);
+        return new ERC20Transfer(getToken(i), packed);
+    }
+
+    @Override
+    public Iterator<ERC20Transfer> iterator() {
+        return new Iterator<ERC20Transfer>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public ERC20Transfer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    /**
+     * @return stream of the transfers in the batch
+     */
+    public Stream<ERC20Transfer> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * @return all transfers as {@link ERC20Event.TransferDetails}
+     */
+    public List<ERC20Event.TransferDetails> toDetails() {
+        List<ERC20Event.TransferDetails> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new ERC20Event.TransferDetails(getFrom(i), getTo(i), getAmount(i)));
+        }
+        return result;
+    }
+
+    /**
+     * @return copy of the block numbers column
+     */
+    public long[] getBlockNumbers() {
+        return Arrays.copyOf(blockNumbers, size);
+    }
+
+    /**
+     * @return copy of the transaction indexes column
+     */
+    public int[] getTransactionIndexes() {
+        return Arrays.copyOf(transactionIndexes, size);
+    }
+
+    /**
+     * @return copy of the log indexes column
+     */
+    public int[] getLogIndexes() {
+        return Arrays.copyOf(logIndexes, size);
+    }
+
+    /**
+     * @return copy of the token addresses column, as 20 bytes per transfer, with zero bytes for a missing token
+     */
+    public byte[] getTokens() {
+        return Arrays.copyOf(tokens, size * Address.SIZE_BYTES);
+    }
+
+    /**
+     * @return copy of the sender addresses column, as 20 bytes per transfer
+     */
+    public byte[] getFroms() {
+        return Arrays.copyOf(froms, size * Address.SIZE_BYTES);
+    }
+
+    /**
+     * @return copy of the recipient addresses column, as 20 bytes per transfer
+     */
+    public byte[] getTos() {
+        return Arrays.copyOf(tos, size * Address.SIZE_BYTES);
+    }
+
+    /**
+     * @return copy of the amounts column, as big-endian 32 bytes per transfer
+     */
+    public byte[] getAmounts() {
+        return Arrays.copyOf(amounts, size * Hex32.SIZE_BYTES);
+    }
+}
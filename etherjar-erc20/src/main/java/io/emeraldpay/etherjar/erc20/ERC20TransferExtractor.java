@@ -0,0 +1,124 @@
+package io.emeraldpay.etherjar.erc20;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+import io.emeraldpay.etherjar.rpc.json.TransactionLogJson;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Extracts ERC-20 transfers from logs directly from the topics and data bytes. Unlike {@link ERC20Event.TransferDetails#FACTORY}
+ * it doesn't make intermediate copies of the topics, or create addresses and numbers, and puts the transfer into
+ * a compact packed form instead:
+ *
+ * <ul>
+ *     <li><code>from</code> address, 20 bytes at {@link #FROM_OFFSET}</li>
+ *     <li><code>to</code> address, 20 bytes at {@link #TO_OFFSET}</li>
+ *     <li>amount as a big-endian <code>uint256</code>, 32 bytes at {@link #AMOUNT_OFFSET}</li>
+ * </ul>
+ *
+ * <p>
+ * A log is a transfer only if it has exactly 3 topics (which excludes ERC-721 transfers, having the same event id
+ * but with an indexed token id), the addresses are valid, and the data is a single 32 bytes value.
+ * </p>
+ *
+ * <pre><code>
+ * for (TransactionLogJson log: receipt.getLogs()) {
+ *     ERC20Transfer transfer = ERC20TransferExtractor.extract(log);
+ *     if (transfer != null) {
+ *         System.out.println(transfer.getFrom() + " -&gt; " + transfer.getTo() + ": " + transfer.getAmount());
+ *     }
+ * }
+ * </code></pre>
+ *
+ * @see ERC20Transfer
+ */
+public class ERC20TransferExtractor {
+
+    public static final int FROM_OFFSET = 0;
+    public static final int TO_OFFSET = FROM_OFFSET + Address.SIZE_BYTES;
+    public static final int AMOUNT_OFFSET = TO_OFFSET + Address.SIZE_BYTES;
+
+    /**
+     * Size of a packed transfer
+     */
+    public static final int PACKED_SIZE = AMOUNT_OFFSET + Hex32.SIZE_BYTES;
+
+    private static final byte[] TRANSFER_ID = ERC20Event.TRANSFER.getEventId().getBytes();
+    static final int ADDRESS_POSITION = Hex32.SIZE_BYTES - Address.SIZE_BYTES;
+    private static final byte[] ADDRESS_PREFIX = new byte[ADDRESS_POSITION];
+
+    /**
+     * @param log transaction log
+     * @return true if the log is a valid ERC-20 transfer
+     */
+    public static boolean isTransfer(TransactionLogJson log) {
+        List<Hex32> topics = log.getTopics();
+        if (topics == null || topics.size() != 3) {
+            return false;
+        }
+        // check the event id first since it rejects the most of other logs
+        if (!topics.get(0).matches(0, TRANSFER_ID)) {
+            return false;
+        }
+        HexData data = log.getData();
+        return data != null && data.getSize() == Hex32.SIZE_BYTES
+            && topics.get(1).matches(0, ADDRESS_PREFIX)
+            && topics.get(2).matches(0, ADDRESS_PREFIX);
+    }
+
+    /**
+     * Write a transfer in the packed form into the target array
+     *
+     * @param log    transaction log
+     * @param target target array
+     * @param offset position in the target array, there must be at least {@link #PACKED_SIZE} bytes after it
+     * @return true if the log is a transfer and it was written, false otherwise
+     * @throws IndexOutOfBoundsException if the target array is too small
+     */
+    public static boolean extractTo(TransactionLogJson log, byte[] target, int offset) {
+        if (!isTransfer(log)) {
+            return false;
+        }
+        List<Hex32> topics = log.getTopics();
+        topics.get(1).copyTo(ADDRESS_POSITION, target, offset + FROM_OFFSET, Address.SIZE_BYTES);
+        topics.get(2).copyTo(ADDRESS_POSITION, target, offset + TO_OFFSET, Address.SIZE_BYTES);
+        log.getData().copyTo(target, offset + AMOUNT_OFFSET);
+        return true;
+    }
+
+    /**
+     * Extract a transfer from a log
+     *
+     * @param log transaction log
+     * @return transfer, or null if the log is not an ERC-20 transfer
+     */
+    public static ERC20Transfer extract(TransactionLogJson log) {
+        if (!isTransfer(log)) {
+            return null;
+        }
+        byte[] packed = new byte[PACKED_SIZE];
+        extractTo(log, packed, 0);
+        return new ERC20Transfer(log.getAddress(), packed);
+    }
+
+    /**
+     * Extract all transfers from logs, skipping other logs
+     *
+     * @param logs transaction logs
+     * @return transfers in the original order
+     */
+    public static List<ERC20Transfer> extractAll(Collection<TransactionLogJson> logs) {
+        List<ERC20Transfer> result = new ArrayList<>();
+        for (TransactionLogJson log : logs) {
+            ERC20Transfer transfer = extract(log);
+            if (transfer != null) {
+                result.add(transfer);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,227 @@
+package io.emeraldpay.etherjar.erc20
+
+import io.emeraldpay.etherjar.abi.CachingRepository
+import io.emeraldpay.etherjar.abi.TupleType
+import io.emeraldpay.etherjar.contract.ContractData
+import io.emeraldpay.etherjar.contract.MulticallExecutor
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.MethodId
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.rpc.AbstractFuturesRpcClient
+import io.emeraldpay.etherjar.rpc.DefaultBatch
+import io.emeraldpay.etherjar.rpc.ReactorBatch
+import io.emeraldpay.etherjar.rpc.ReactorRpcClient
+import io.emeraldpay.etherjar.rpc.RpcException
+import io.emeraldpay.etherjar.rpc.json.TransactionCallJson
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+class ERC20ScannerSpec extends Specification {
+
+    static final TupleType CALLS = TupleType.from(CachingRepository.getDefault(), "((address,bool,bytes)[])").get()
+    static final TupleType RESULTS = TupleType.from(CachingRepository.getDefault(), "((bool,bytes)[])").get()
+    static final TupleType STRING = TupleType.from(CachingRepository.getDefault(), "(string)").get()
+
+    static final Address TOKEN_1 = Address.from("0xdac17f958d2ee523a2206206994597c13d831ec7")
+    static final Address TOKEN_2 = Address.from("0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48")
+    static final Address NOT_TOKEN = Address.from("0x0000000000000000000000000000000000000bad")
+    static final Address HOLDER_1 = Address.from("0x1111111111111111111111111111111111111111")
+    static final Address HOLDER_2 = Address.from("0x2222222222222222222222222222222222222222")
+    static final Address HOLDER_3 = Address.from("0x3333333333333333333333333333333333333333")
+
+    TestClient client = new TestClient()
+    ERC20Scanner scanner = ERC20Scanner.newBuilder()
+        .multicall(new MulticallExecutor(client))
+        .batchSize(4)
+        .build()
+
+    def "Read balances matrix"() {
+        when:
+        def act = scanner.readBalances([TOKEN_1, TOKEN_2], [HOLDER_1, HOLDER_2, HOLDER_3]).collectList().block()
+        then:
+        client.requests == 2
+        act.size() == 6
+        act*.token == [TOKEN_1] * 3 + [TOKEN_2] * 3
+        act*.holder == [HOLDER_1, HOLDER_2, HOLDER_3] * 2
+        act[0].value == client.balanceOf(TOKEN_1, HOLDER_1)
+        act[5].value == client.balanceOf(TOKEN_2, HOLDER_3)
+        act.every { it.success }
+    }
+
+    def "Read balances of holders per token"() {
+        when:
+        def act = scanner.readBalances([(TOKEN_1): [HOLDER_1], (NOT_TOKEN): [HOLDER_2]]).collectList().block()
+        then:
+        act.size() == 2
+        act[0] == new ERC20Scanner.Balance(TOKEN_1, HOLDER_1, client.balanceOf(TOKEN_1, HOLDER_1))
+        act[1] == new ERC20Scanner.Balance(NOT_TOKEN, HOLDER_2, null)
+        !act[1].success
+    }
+
+    def "Read metadata once per token"() {
+        when:
+        def act = scanner.readMetadata([TOKEN_1, TOKEN_2, TOKEN_1]).collectList().block()
+        then:
+        act == [
+            new ERC20Scanner.Metadata(TOKEN_1, "Token " + TOKEN_1, "T" + TOKEN_1.toHex().substring(2, 6), 6),
+            new ERC20Scanner.Metadata(TOKEN_2, "Token " + TOKEN_2, "T" + TOKEN_2.toHex().substring(2, 6), 6),
+        ]
+        client.requests == 2
+        when:
+        def cached = scanner.readMetadata(TOKEN_2).block()
+        then:
+        cached == act[1]
+        client.requests == 2
+    }
+
+    def "Don't cache failed metadata"() {
+        when:
+        def act = scanner.readMetadata(NOT_TOKEN).block()
+        then:
+        act == null
+        when:
+        act = scanner.readMetadata(NOT_TOKEN).block()
+        then:
+        act == null
+        client.requests == 2
+    }
+
+    def "Skip metadata of non-token addresses"() {
+        when:
+        def act = scanner.readMetadata([TOKEN_1, NOT_TOKEN, TOKEN_2]).collectList().block()
+        then:
+        act*.token == [TOKEN_1, TOKEN_2]
+    }
+
+    def "Keep shared metadata read when a subscriber cancels"() {
+        setup:
+        def client = new DelayedClient()
+        def scanner = ERC20Scanner.newBuilder()
+            .multicall(new MulticallExecutor(client))
+            .build()
+        when:
+        scanner.readMetadata(TOKEN_1).subscribe().dispose()
+        client.release()
+        def act = scanner.readMetadata(TOKEN_1).block()
+        then:
+        act == new ERC20Scanner.Metadata(TOKEN_1, "Token " + TOKEN_1, "T" + TOKEN_1.toHex().substring(2, 6), 6)
+        client.requests == 1
+    }
+
+    def "Evict metadata"() {
+        setup:
+        def scanner = ERC20Scanner.newBuilder()
+            .multicall(new MulticallExecutor(client))
+            .metadataCacheSize(1)
+            .build()
+        when:
+        scanner.readMetadata(TOKEN_1).block()
+        scanner.readMetadata(TOKEN_2).block()
+        scanner.readMetadata(TOKEN_1).block()
+        then:
+        client.requests == 3
+    }
+
+    def "Read null balance for a failed call in JSON batch"() {
+        setup:
+        def rpc = Stub(ReactorRpcClient) {
+            execute(_ as ReactorBatch) >> { ReactorBatch batch ->
+                def items = batch.items.collectList().block()
+                items[0].onResult(BigInteger.TEN)
+                items[1].onError(new RpcException(-32000, "execution reverted"))
+                return Flux.empty()
+            }
+        }
+        def scanner = ERC20Scanner.newBuilder().client(rpc).build()
+        when:
+        def act = scanner.readBalances([TOKEN_1], [HOLDER_1, HOLDER_2]).collectList().block()
+        then:
+        act == [
+            new ERC20Scanner.Balance(TOKEN_1, HOLDER_1, BigInteger.TEN),
+            new ERC20Scanner.Balance(TOKEN_1, HOLDER_2, null),
+        ]
+    }
+
+    def "Propagate failed JSON batch"() {
+        setup:
+        def rpc = Stub(ReactorRpcClient) {
+            execute(_ as ReactorBatch) >> Flux.error(new RpcException(-32001, "Connection error"))
+        }
+        def scanner = ERC20Scanner.newBuilder().client(rpc).build()
+        when:
+        scanner.readBalances([TOKEN_1], [HOLDER_1, HOLDER_2]).collectList().block()
+        then:
+        def t = thrown(RpcException)
+        t.rpcMessage == "Connection error"
+    }
+
+    /**
+     * Emulates Multicall3 and ERC-20 tokens, where a balance and metadata are derived from the addresses
+     */
+    static class TestClient extends AbstractFuturesRpcClient {
+        int requests = 0
+
+        BigInteger balanceOf(Address token, Address holder) {
+            return new BigInteger(token.toHex().substring(2, 10) + holder.toHex().substring(2, 10), 16)
+        }
+
+        @Override
+        synchronized List<CompletableFuture> execute(DefaultBatch batch) {
+            batch.items.each { DefaultBatch.FutureBatchItem item ->
+                requests++
+                TransactionCallJson json = item.call.params[0]
+                def calls = CALLS.decode(json.input.skip(MethodId.SIZE_BYTES))[0] as List
+                def results = calls.collect { Object[] call ->
+                    Address token = call[0]
+                    def data = ContractData.extract(new HexData(call[2] as byte[]))
+                    if (token == NOT_TOKEN) {
+                        return [BigInteger.ZERO, new byte[0]] as Object[]
+                    }
+                    def result
+                    switch (data.method) {
+                        case ERC20Method.BALANCE_OF.methodId:
+                            result = Hex32.extendFrom(balanceOf(token, Address.extract(data.arguments[0])))
+                            break
+                        case ERC20Method.NAME.methodId:
+                            result = STRING.encode(["Token " + token] as Object[])
+                            break
+                        case ERC20Method.SYMBOL.methodId:
+                            result = STRING.encode(["T" + token.toHex().substring(2, 6)] as Object[])
+                            break
+                        case ERC20Method.DECIMALS.methodId:
+                            result = Hex32.extendFrom(6L)
+                            break
+                        default:
+                            throw new IllegalStateException()
+                    }
+                    return [BigInteger.ONE, result.bytes] as Object[]
+                }
+                item.onResult(RESULTS.encode([results as Object[][]] as Object[]))
+            }
+            return batch.items*.result
+        }
+    }
+
+    /**
+     * Holds requests until released, to have a read in progress
+     */
+    static class DelayedClient extends TestClient {
+        List<DefaultBatch> pending = []
+
+        @Override
+        synchronized List<CompletableFuture> execute(DefaultBatch batch) {
+            pending.add(batch)
+            return batch.items*.result
+        }
+
+        void release() {
+            for (DefaultBatch batch : pending) {
+                super.execute(batch)
+            }
+            pending.clear()
+        }
+    }
+}
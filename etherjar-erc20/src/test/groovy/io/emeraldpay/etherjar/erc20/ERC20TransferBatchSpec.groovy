@@ -0,0 +1,156 @@
+package io.emeraldpay.etherjar.erc20
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.rpc.json.TransactionLogJson
+import spock.lang.Specification
+
+class ERC20TransferBatchSpec extends Specification {
+
+    static final Address TOKEN = Address.from("0xdac17f958d2ee523a2206206994597c13d831ec7")
+    static final Hex32 TRANSFER = Hex32.from("0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef")
+    static final Hex32 FROM = Hex32.from("0x0000000000000000000000003cd751e6b0078be393132286c442345e5dc49699")
+    static final Hex32 TO = Hex32.from("0x00000000000000000000000065968e42789eb8b257c34eb7dd66059708c791b0")
+
+    TransactionLogJson transfer(long block, long tx, long index, long amount) {
+        return new TransactionLogJson().tap {
+            it.address = TOKEN
+            it.blockNumber = block
+            it.transactionIndex = tx
+            it.logIndex = index
+            it.topics = [TRANSFER, FROM, TO]
+            it.data = Hex32.extendFrom(amount)
+        }
+    }
+
+    def "Add transfers"() {
+        setup:
+        def batch = new ERC20TransferBatch()
+        when:
+        def added = batch.add(transfer(100, 2, 5, 230609712))
+        then:
+        added
+        batch.size() == 1
+        batch.getBlockNumber(0) == 100
+        batch.getTransactionIndex(0) == 2
+        batch.getLogIndex(0) == 5
+        batch.getToken(0) == TOKEN
+        batch.getFrom(0) == Address.from("0x3cd751e6b0078be393132286c442345e5dc49699")
+        batch.getTo(0) == Address.from("0x65968e42789eb8b257c34eb7dd66059708c791b0")
+        batch.getAmount(0) == 230609712
+        batch.isAmountLong(0)
+        batch.getAmountLong(0) == 230609712L
+    }
+
+    def "Skip other logs"() {
+        setup:
+        def batch = new ERC20TransferBatch()
+        def approval = new TransactionLogJson(topics: [ERC20Event.APPROVAL.eventId, FROM, TO], data: Hex32.extendFrom(1L))
+        when:
+        def added = batch.addAll([approval, transfer(100, 0, 0, 1), approval, transfer(101, 0, 1, 2)])
+        then:
+        added == 2
+        batch.size() == 2
+        batch.getAmountLong(0) == 1
+        batch.getAmountLong(1) == 2
+    }
+
+    def "Grow from zero capacity"() {
+        setup:
+        def batch = new ERC20TransferBatch(0)
+        when:
+        (1..200).each { batch.add(transfer(it, 0, it, it)) }
+        then:
+        batch.size() == 200
+        (0..199).every { batch.getBlockNumber(it) == it + 1 && batch.getAmountLong(it) == it + 1 }
+    }
+
+    def "Store missing values"() {
+        setup:
+        def batch = new ERC20TransferBatch()
+        def log = transfer(1, 1, 1, 1).tap {
+            it.blockNumber = null
+            it.transactionIndex = null
+            it.logIndex = null
+            it.address = null
+        }
+        when:
+        batch.add(log)
+        then:
+        batch.getBlockNumber(0) == -1
+        batch.getTransactionIndex(0) == -1
+        batch.getLogIndex(0) == -1
+        batch.getToken(0) == null
+        batch.get(0) == ERC20TransferExtractor.extract(log)
+    }
+
+    def "Large amount"() {
+        setup:
+        def batch = new ERC20TransferBatch()
+        def log = transfer(1, 1, 1, 1).tap {
+            it.data = Hex32.extendFrom(new BigInteger("ffffffffffffffffffff", 16))
+        }
+        when:
+        batch.add(log)
+        then:
+        batch.getAmount(0) == new BigInteger("ffffffffffffffffffff", 16)
+        !batch.isAmountLong(0)
+        when:
+        batch.getAmountLong(0)
+        then:
+        thrown(ArithmeticException)
+    }
+
+    def "Same as extracted transfer"() {
+        setup:
+        def batch = new ERC20TransferBatch()
+        def logs = [transfer(100, 0, 0, 1), transfer(100, 1, 3, 500)]
+        when:
+        batch.addAll(logs)
+        then:
+        batch.toList() == ERC20TransferExtractor.extractAll(logs)
+        batch.stream().toList() == ERC20TransferExtractor.extractAll(logs)
+        batch.get(1) == ERC20TransferExtractor.extract(logs[1])
+        batch.toDetails()*.amount == [1, 500]
+    }
+
+    def "Export columns"() {
+        setup:
+        def batch = new ERC20TransferBatch()
+        batch.addAll([transfer(100, 0, 1, 1), transfer(101, 2, 3, 500)])
+        expect:
+        batch.getBlockNumbers() == [100L, 101L] as long[]
+        batch.getTransactionIndexes() == [0, 2] as int[]
+        batch.getLogIndexes() == [1, 3] as int[]
+        new HexData(batch.getTokens()) == HexData.from("0x" +
+            "dac17f958d2ee523a2206206994597c13d831ec7" +
+            "dac17f958d2ee523a2206206994597c13d831ec7")
+        new HexData(batch.getFroms()) == HexData.from("0x" +
+            "3cd751e6b0078be393132286c442345e5dc49699" +
+            "3cd751e6b0078be393132286c442345e5dc49699")
+        batch.getAmounts().length == 64
+        new HexData(batch.getAmounts()[32..63] as byte[]) == Hex32.extendFrom(500L)
+    }
+
+    def "Clear and reuse"() {
+        setup:
+        def batch = new ERC20TransferBatch()
+        batch.addAll([transfer(100, 0, 1, 1), transfer(101, 2, 3, 500)])
+        when:
+        batch.clear()
+        then:
+        batch.isEmpty()
+        batch.getBlockNumbers().length == 0
+        when:
+        batch.getBlockNumber(0)
+        then:
+        thrown(IndexOutOfBoundsException)
+        when:
+        batch.add(transfer(102, 0, 0, 7))
+        then:
+        batch.size() == 1
+        batch.getBlockNumber(0) == 102
+        batch.getAmountLong(0) == 7
+    }
+}
@@ -0,0 +1,102 @@
+package io.emeraldpay.etherjar.erc20
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.rpc.json.TransactionLogJson
+import spock.lang.Specification
+
+class ERC20TransferExtractorSpec extends Specification {
+
+    static final Address TOKEN = Address.from("0xdac17f958d2ee523a2206206994597c13d831ec7")
+    static final Hex32 TRANSFER = Hex32.from("0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef")
+    static final Hex32 FROM = Hex32.from("0x0000000000000000000000003cd751e6b0078be393132286c442345e5dc49699")
+    static final Hex32 TO = Hex32.from("0x00000000000000000000000065968e42789eb8b257c34eb7dd66059708c791b0")
+
+    // https://etherscan.io/tx/0x6564204d12b63b06e06e38b6f3e40dcb9da9b5bf5deb585ed6726599a131f15b#eventlog
+    TransactionLogJson log = new TransactionLogJson().tap {
+        it.address = TOKEN
+        it.topics = [TRANSFER, FROM, TO]
+        it.data = HexData.from("0x000000000000000000000000000000000000000000000000000000000dbed330")
+    }
+
+    def "Extract transfer"() {
+        when:
+        def act = ERC20TransferExtractor.extract(log)
+        then:
+        act != null
+        act.token == TOKEN
+        act.from == Address.from("0x3cd751e6b0078be393132286c442345e5dc49699")
+        act.to == Address.from("0x65968e42789eb8b257c34eb7dd66059708c791b0")
+        act.amount == 230609712
+        act.isAmountLong()
+        act.getAmountLong() == 230609712L
+    }
+
+    def "Same as transfer details"() {
+        when:
+        def act = ERC20TransferExtractor.extract(log).toDetails()
+        def exp = ERC20Event.TRANSFER.factory.readFrom(log) as ERC20Event.TransferDetails
+        then:
+        act.from == exp.from
+        act.to == exp.to
+        act.amount == exp.amount
+    }
+
+    def "Extract into packed array"() {
+        setup:
+        def target = new byte[ERC20TransferExtractor.PACKED_SIZE + 2]
+        when:
+        def act = ERC20TransferExtractor.extractTo(log, target, 1)
+        then:
+        act
+        new HexData(target) == HexData.from("0x00" +
+            "3cd751e6b0078be393132286c442345e5dc49699" +
+            "65968e42789eb8b257c34eb7dd66059708c791b0" +
+            "000000000000000000000000000000000000000000000000000000000dbed330" +
+            "00")
+    }
+
+    def "Large amount"() {
+        setup:
+        log.data = Hex32.extendFrom(new BigInteger("ffffffffffffffffffff", 16))
+        when:
+        def act = ERC20TransferExtractor.extract(log)
+        then:
+        act.amount == new BigInteger("ffffffffffffffffffff", 16)
+        !act.isAmountLong()
+        when:
+        act.getAmountLong()
+        then:
+        thrown(ArithmeticException)
+    }
+
+    def "Ignore other logs"() {
+        expect:
+        ERC20TransferExtractor.extract(new TransactionLogJson(topics: topics, data: data)) == null
+        !ERC20TransferExtractor.isTransfer(new TransactionLogJson(topics: topics, data: data))
+        where:
+        topics                                                                         | data
+        // Approval
+        [ERC20Event.APPROVAL.eventId, FROM, TO]                                        | Hex32.extendFrom(1L)
+        // ERC-721 transfer
+        [TRANSFER, FROM, TO, Hex32.extendFrom(1L)]                                     | HexData.empty()
+        // no data
+        [TRANSFER, FROM, TO]                                                           | HexData.empty()
+        [TRANSFER, FROM, TO]                                                           | null
+        // not an address
+        [TRANSFER, Hex32.from("0x1000000000000000000000003cd751e6b0078be393132286c442345e5dc49699"), TO] | Hex32.extendFrom(1L)
+        []                                                                             | Hex32.extendFrom(1L)
+    }
+
+    def "Extract all transfers"() {
+        setup:
+        def approval = new TransactionLogJson(topics: [ERC20Event.APPROVAL.eventId, FROM, TO], data: Hex32.extendFrom(1L))
+        when:
+        def act = ERC20TransferExtractor.extractAll([approval, log, approval, log])
+        then:
+        act.size() == 2
+        act[0] == act[1]
+        act[0].amount == 230609712
+    }
+}
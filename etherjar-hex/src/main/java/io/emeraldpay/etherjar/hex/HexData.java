@@ -160,6 +160,55 @@ public class HexData implements Serializable {
         return this.value.length == 0;
     }
 
+    /**
+     * Read a single byte without copying the underlying data as {@link #getBytes()} does.
+     *
+     * @param index a byte index
+     * @return the byte value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public byte get(int index) {
+        return value[index];
+    }
+
+    /**
+     * Copy the underlying bytes into the target array, without making an intermediate copy as {@link #getBytes()} does.
+     *
+     * @param target a target array
+     * @param offset a position in the target array
+     * @throws IndexOutOfBoundsException if the target array is too small
+     */
+    public void copyTo(byte[] target, int offset) {
+        System.arraycopy(value, 0, target, offset, value.length);
+    }
+
+    /**
+     * Copy a part of the underlying bytes into the target array, without making an intermediate copy.
+     *
+     * @param from a position of the first byte to copy
+     * @param target a target array
+     * @param offset a position in the target array
+     * @param length number of bytes to copy
+     * @throws IndexOutOfBoundsException if the range is out of the data or the target array is too small
+     */
+    public void copyTo(int from, byte[] target, int offset, int length) {
+        System.arraycopy(value, from, target, offset, length);
+    }
+
+    /**
+     * Check if a part of the underlying bytes is equal to the specified bytes, without copying the data.
+     *
+     * @param from a position of the first byte to compare
+     * @param expected expected bytes
+     * @return true if the data has the expected bytes at the position
+     */
+    public boolean matches(int from, byte[] expected) {
+        if (from < 0 || from + expected.length > value.length)
+            return false;
+
+        return Arrays.equals(value, from, from + expected.length, expected, 0, expected.length);
+    }
+
     /**
      * Concat with an array of {@link HexData}.
      *
@@ -458,6 +507,20 @@ public class HexData implements Serializable {
         return value.clone();
     }
 
+    /**
+     * Copy a part of the underlying bytes, without making an intermediate copy of the whole data.
+     *
+     * @param offset a position of the first byte
+     * @param length number of bytes
+     * @return a copy of the bytes
+     * @throws IndexOutOfBoundsException if the range is out of the data
+     */
+    public byte[] getBytes(int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, value.length);
+
+        return Arrays.copyOfRange(value, offset, offset + length);
+    }
+
     public int getSize() {
         return value.length;
     }
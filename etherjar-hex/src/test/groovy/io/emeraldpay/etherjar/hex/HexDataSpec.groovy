@@ -35,6 +35,77 @@ class HexDataSpec extends Specification {
         y == HexData.from('0x0123456789abcdef')
     }
 
+    def "should copy to array"() {
+        def target = new byte[6]
+
+        when:
+        HexData.from('0x0123abcd').copyTo(target, 1)
+
+        then:
+        new HexData(target) == HexData.from('0x000123abcd00')
+    }
+
+    def "should read single byte"() {
+        def x = HexData.from('0x01ff')
+
+        expect:
+        x.get(0) == (byte) 1
+        x.get(1) == (byte) -1
+
+        when:
+        x.get(2)
+
+        then:
+        thrown IndexOutOfBoundsException
+    }
+
+    def "should copy part of bytes"() {
+        def x = HexData.from('0x0123abcd')
+
+        expect:
+        x.getBytes(1, 2) == [0x23, 0xab] as byte[]
+        x.getBytes(4, 0) == [] as byte[]
+
+        when:
+        x.getBytes(3, 2)
+
+        then:
+        thrown IndexOutOfBoundsException
+    }
+
+    def "should copy part of bytes into array"() {
+        def x = HexData.from('0x0123abcd')
+        def target = new byte[4]
+
+        when:
+        x.copyTo(1, target, 2, 2)
+
+        then:
+        target == [0, 0, 0x23, 0xab] as byte[]
+
+        when:
+        x.copyTo(3, target, 0, 2)
+
+        then:
+        thrown IndexOutOfBoundsException
+    }
+
+    def "should match part of bytes"() {
+        def x = HexData.from('0x0123abcd')
+
+        expect:
+        x.matches(from, expected as byte[]) == exp
+
+        where:
+        from | expected     | exp
+        0    | [0x01, 0x23] | true
+        2    | [0xab, 0xcd] | true
+        1    | []           | true
+        1    | [0x01]       | false
+        3    | [0xcd, 0x00] | false
+        -1   | [0x01]       | false
+    }
+
     def "should throw on combine null value"() {
         when:
         HexData.combine(null as HexData[])
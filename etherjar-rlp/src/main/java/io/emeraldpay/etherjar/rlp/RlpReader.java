@@ -17,6 +17,7 @@ package io.emeraldpay.etherjar.rlp;
 
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /**
  * RLP (Recursive Length Prefix) encoding reader
@@ -30,6 +31,10 @@ public class RlpReader {
     private Current current;
     private int position = 0;
     private final int limit;
+    /**
+     * Start of a nested list in the shared input, which is reported as position 0
+     */
+    private final int base;
 
     /**
      * Read from provided input
@@ -39,6 +44,7 @@ public class RlpReader {
     public RlpReader(byte[] input) {
         this.input = input;
         this.limit = input.length;
+        this.base = 0;
     }
 
     /**
@@ -49,9 +55,18 @@ public class RlpReader {
      * @param length total length of RLP encoded data in provided input
      */
     public RlpReader(byte[] input, int position, int length) {
+        this(input, position, length, 0);
+    }
+
+    /**
+     * A reader of a nested list, which reads the same input without copying it, but reports its data and positions as
+     * a standalone reader of the list payload
+     */
+    private RlpReader(byte[] input, int position, int length, int base) {
         this.input = input;
         this.position = position;
         this.limit = position + length;
+        this.base = base;
     }
 
     private int unsigned(byte b) {
@@ -59,24 +74,30 @@ public class RlpReader {
     }
 
     /**
-     * Access to the underlying bytes data
+     * Access to the underlying bytes data. For a nested list (i.e., from {@link #nextList()}) it's a copy of the list
+     * payload, since the nested reader shares the input of the parent reader.
+     *
      * @return the whole input
      */
     public byte[] getRawData() {
-        return input;
+        if (base == 0) {
+            return input;
+        }
+        return Arrays.copyOfRange(input, base, limit);
     }
 
     /**
-     * Access current position of the reader
+     * Access current position of the reader. For a nested list it's relative to the start of the list payload.
+     *
      * @return position
      */
     public int getPosition() {
-        return position;
+        return position - base;
     }
 
     private Current read() {
         if (notEnough(1)) {
-            return new Current(RlpType.NONE, input);
+            return new Current(RlpType.NONE, position, 0);
         }
         byte b0 = input[position];
         int i0 = unsigned(b0);
@@ -84,14 +105,13 @@ public class RlpReader {
         // the data is a string if the range of the first byte(i.e. prefix)
         // is [0x00, 0x7f], and the string is the first byte itself exactly;
         if (i0 <= 0x7f) {
-            return new Current(RlpType.BYTES, new byte[]{b0});
+            return new Current(RlpType.BYTES, position - 1, 1);
         }
         // the data is a string if the range of the first byte is [0x80, 0xb7], and the
         // string whose length is equal to the first byte minus 0x80 follows the first byte;
         if (i0 <= 0xb7) {
             int length = i0 - 0x80;
-            byte[] buf = consume(length);
-            return new Current(RlpType.BYTES, buf);
+            return new Current(RlpType.BYTES, skipBytes(length), length);
         }
         // the data is a string if the range of the first byte is [0xb8, 0xbf], and the length of the
         // string whose length in bytes is equal to the first byte minus 0xb7 follows the first byte, and the
@@ -99,15 +119,13 @@ public class RlpReader {
         if (i0 <= 0xbf) {
             int sizeLength = i0 - 0xb7;
             int length = consumeSize(sizeLength);
-            byte[] buf = consume(length);
-            return new Current(RlpType.BYTES, buf);
+            return new Current(RlpType.BYTES, skipBytes(length), length);
         }
         // the data is a list if the range of the first byte is [0xc0, 0xf7], and the concatenation of the RLP encodings
         // of all items of the list which the total payload is equal to the first byte minus 0xc0 follows the first byte;
         if (i0 <= 0xf7) {
             int length = i0 - 0xc0;
-            byte[] buf = consume(length);
-            return new Current(RlpType.LIST, new RlpReader(buf));
+            return new Current(nested(skipBytes(length), length));
         }
         // the data is a list if the range of the first byte is [0xf8, 0xff], and the total payload of the list whose
         // length is equal to the first byte minus 0xf7 follows the first byte, and the concatenation of the RLP
@@ -115,19 +133,37 @@ public class RlpReader {
         if (i0 <= 0xff) {
             int sizeLength = i0 - 0xf7;
             int length = consumeSize(sizeLength);
-            byte[] buf = consume(length);
-            return new Current(RlpType.LIST, new RlpReader(buf));
+            return new Current(nested(skipBytes(length), length));
         }
-        return new Current(RlpType.INVALID, input);
+        return new Current(RlpType.INVALID, position, 0);
+    }
+
+    private RlpReader nested(int start, int length) {
+        return new RlpReader(input, start, length, start);
     }
 
     private boolean notEnough(int length) {
-        return input.length < position + length;
+        return limit < position + length;
+    }
+
+    /**
+     * Move position over the specified number of bytes, without copying them
+     *
+     * @param length number of bytes to skip
+     * @return position of the first skipped byte
+     */
+    private int skipBytes(int length) {
+        if (notEnough(length)) {
+            throw new IllegalStateException("Incorrect RLP. Must be: " + (position + length) + " bytes long. Has " + limit + " bytes");
+        }
+        int start = position;
+        position += length;
+        return start;
     }
 
     private byte[] consume(byte[] buf, int bufPosition, int length) {
         if (notEnough(length)) {
-            throw new IllegalStateException("Incorrect RLP. Must be: " + (position + length) + " bytes long. Has " + input.length + " bytes");
+            throw new IllegalStateException("Incorrect RLP. Must be: " + (position + length) + " bytes long. Has " + limit + " bytes");
         }
         if (buf.length < bufPosition + length) {
             throw new IllegalArgumentException("Buffer is too small. Required to read " + length + " bytes (after " + bufPosition + "), has " + buf.length + " bytes buffer");
@@ -137,10 +173,6 @@ public class RlpReader {
         return buf;
     }
 
-    private byte[] consume(int length) {
-        return consume(new byte[length], 0, length);
-    }
-
     private int consumeSize(int length) {
         byte[] lengthBuf = consume(new byte[4], 4 - length, length);
         int value = ByteBuffer.wrap(lengthBuf).getInt();
@@ -184,7 +216,29 @@ public class RlpReader {
         if (current == null) {
             throw new IllegalStateException("RLP stream is fully read");
         }
-        byte[] data = current.data;
+        byte[] data = current.type == RlpType.LIST
+            ? null
+            : Arrays.copyOfRange(input, current.offset, current.offset + current.length);
+        current = null;
+        return data;
+    }
+
+    /**
+     * Read next element as a read-only view of the underlying input, i.e., without copying the data.
+     * Useful for large elements which are not supposed to be modified.
+     *
+     * @return read-only buffer with the data of the next element
+     * @throws IllegalStateException if fully read or if the next element is a list
+     */
+    public ByteBuffer nextBuffer() {
+        tryRead();
+        if (current == null) {
+            throw new IllegalStateException("RLP stream is fully read");
+        }
+        if (current.type != RlpType.BYTES) {
+            throw new IllegalStateException("Next item is not bytes: " + current.type);
+        }
+        ByteBuffer data = ByteBuffer.wrap(input, current.offset, current.length).slice().asReadOnlyBuffer();
         current = null;
         return data;
     }
@@ -294,16 +348,18 @@ public class RlpReader {
 
     private static class Current {
         RlpType type;
-        byte[] data;
+        int offset;
+        int length;
         RlpReader list;
 
-        Current(RlpType type, byte[] data) {
+        Current(RlpType type, int offset, int length) {
             this.type = type;
-            this.data = data;
+            this.offset = offset;
+            this.length = length;
         }
 
-        Current(RlpType type, RlpReader list) {
-            this.type = type;
+        Current(RlpReader list) {
+            this.type = RlpType.LIST;
             this.list = list;
         }
     }
@@ -340,4 +340,47 @@ class RlpReaderSpec extends Specification {
         !rdr.hasNext()
     }
 
+    def "Read bytes as buffer without copy"() {
+        setup:
+        def data = Hex.decodeHex("c88301020383040506")
+        when:
+        def rdr = new RlpReader(data).nextList()
+        def first = rdr.nextBuffer()
+        def second = rdr.nextBuffer()
+        then:
+        first.isReadOnly()
+        first.remaining() == 3
+        first.get(0) == (byte) 1
+        first.get(2) == (byte) 3
+        second.remaining() == 3
+        second.get(0) == (byte) 4
+        !rdr.hasNext()
+        when:
+        data[2] = 0x10
+        then:
+        first.get(0) == (byte) 0x10
+    }
+
+    def "Fail to read list as buffer"() {
+        setup:
+        def data = Hex.decodeHex("c3c20102")
+        when:
+        new RlpReader(data).nextList().nextBuffer()
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def "Nested list reports own data and positions"() {
+        setup:
+        def data = Hex.decodeHex("c88301020383040506")
+        when:
+        def rdr = new RlpReader(data).nextList()
+        then:
+        Hex.encodeHexString(rdr.getRawData()) == "8301020383040506"
+        rdr.getPosition() == 0
+        when:
+        rdr.next()
+        then:
+        rdr.getPosition() == 4
+    }
 }
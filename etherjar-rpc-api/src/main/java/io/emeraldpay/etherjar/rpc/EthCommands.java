@@ -94,6 +94,17 @@ public class EthCommands {
             .withResultType(blockWithTxJson);
     }
 
+    /**
+     *
+     * @param block block tag, ex. latest
+     * @return information about a block
+     */
+    public RpcCall<BlockJson<TransactionRefJson>, BlockJson<TransactionRefJson>> getBlock(BlockTag block) {
+        return RpcCall.create("eth_getBlockByNumber", blockWithTxId, block.getCode(), false)
+            .withJsonType(blockWithTxIdType).castJsonType(blockWithTxId)
+            .withResultType(blockWithTxId);
+    }
+
     /**
      *
      * @param hash block hash
@@ -328,6 +339,13 @@ public class EthCommands {
         return RpcCall.create("eth_gasPrice").converted(Wei.class, Wei::from);
     }
 
+    /**
+     * @return the suggested priority fee per gas (EIP-1559) in wei.
+     */
+    public RpcCall<String, Wei> getMaxPriorityFeePerGas() {
+        return RpcCall.create("eth_maxPriorityFeePerGas").converted(Wei.class, Wei::fromHex);
+    }
+
     /**
      * @return a list of addresses owned by client.
      */
@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc;
+
+import io.emeraldpay.etherjar.domain.Wei;
+import io.emeraldpay.etherjar.rpc.json.BlockJson;
+import io.emeraldpay.etherjar.rpc.json.BlockTag;
+import io.emeraldpay.etherjar.tx.Transaction;
+import io.emeraldpay.etherjar.tx.TransactionWithGasPriority;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps a snapshot of the current network fees, refreshed in background, so a transaction can be priced
+ * without making RPC calls.
+ *
+ * <p>Each refresh makes a single batch with <code>eth_gasPrice</code>, <code>eth_maxPriorityFeePerGas</code> and
+ * the latest block (for its base fee). If the node doesn't support <code>eth_maxPriorityFeePerGas</code> the priority
+ * fee is estimated as the difference between the gas price and the base fee.</p>
+ *
+ * <pre><code class="java">
+ * FeeOracle fees = new FeeOracle(client, Duration.ofSeconds(12));
+ * fees.start();
+ * ...
+ * fees.fill(tx);
+ * </code></pre>
+ */
+public class FeeOracle implements AutoCloseable {
+
+    public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(12);
+
+    private final Loader loader;
+    private final Duration interval;
+    private final AtomicReference<Fees> current = new AtomicReference<>();
+
+    private int baseFeeMultiplier = 2;
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> scheduled;
+
+    public FeeOracle(FuturesRpcClient client, Duration interval) {
+        this(new FuturesLoader(client), interval);
+    }
+
+    public FeeOracle(FuturesRpcClient client) {
+        this(client, DEFAULT_INTERVAL);
+    }
+
+    public FeeOracle(ReactorRpcClient client, Duration interval) {
+        this(new ReactorLoader(client), interval);
+    }
+
+    public FeeOracle(ReactorRpcClient client) {
+        this(client, DEFAULT_INTERVAL);
+    }
+
+    private FeeOracle(Loader loader, Duration interval) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Refresh interval must be positive: " + interval);
+        }
+        this.loader = loader;
+        this.interval = interval;
+    }
+
+    /**
+     * Set how many times the max fee should exceed the current base fee, to keep the transaction valid if the base
+     * fee grows during next blocks. Default is 2.
+     *
+     * @param baseFeeMultiplier multiplier for the base fee
+     */
+    public void setBaseFeeMultiplier(int baseFeeMultiplier) {
+        if (baseFeeMultiplier < 1) {
+            throw new IllegalArgumentException("Multiplier must be positive: " + baseFeeMultiplier);
+        }
+        this.baseFeeMultiplier = baseFeeMultiplier;
+    }
+
+    public int getBaseFeeMultiplier() {
+        return baseFeeMultiplier;
+    }
+
+    /**
+     * Start refreshing in background with a new single thread executor.
+     *
+     * @return future completed with the first snapshot
+     */
+    public synchronized CompletableFuture<Fees> start() {
+        if (scheduled != null) {
+            throw new IllegalStateException("Already started");
+        }
+        executor = Executors.newSingleThreadScheduledExecutor((r) -> {
+            Thread thread = new Thread(r, "etherjar-fee-oracle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        return start(executor);
+    }
+
+    /**
+     * Start refreshing in background on the provided executor. The executor is not closed by {@link #close()}.
+     *
+     * @param executor executor to schedule refresh
+     * @return future completed with the first snapshot
+     */
+    public synchronized CompletableFuture<Fees> start(ScheduledExecutorService executor) {
+        if (scheduled != null) {
+            throw new IllegalStateException("Already started");
+        }
+        CompletableFuture<Fees> first = refresh();
+        long delay = interval.toMillis();
+        scheduled = executor.scheduleWithFixedDelay(() -> {
+            try {
+                // wait for it, so a slow node doesn't pile up multiple requests
+                refresh().join();
+            } catch (Exception ignored) {
+                // keep the previous snapshot; it has a timestamp so the caller can decide if it's too old
+            }
+        }, delay, delay, TimeUnit.MILLISECONDS);
+        return first;
+    }
+
+    /**
+     * Load the current fees from the node and update the snapshot
+     *
+     * @return future completed with the updated snapshot
+     */
+    public CompletableFuture<Fees> refresh() {
+        return loader.load().thenApply((fees) -> {
+            current.set(fees);
+            return fees;
+        });
+    }
+
+    /**
+     * Get the current snapshot. Doesn't make any I/O.
+     *
+     * @return the latest known fees, or null if not loaded yet
+     */
+    public Fees getFees() {
+        return current.get();
+    }
+
+    /**
+     * Set gas price for a legacy transaction, or the max and priority fees for an EIP-1559 transaction, from the current
+     * snapshot. Doesn't make any I/O.
+     *
+     * @param tx transaction to update
+     * @throws IllegalStateException if fees are not loaded yet
+     */
+    public void fill(Transaction tx) {
+        Fees fees = current.get();
+        if (fees == null) {
+            throw new IllegalStateException("Fees are not loaded yet");
+        }
+        if (tx instanceof TransactionWithGasPriority) {
+            TransactionWithGasPriority eip1559 = (TransactionWithGasPriority) tx;
+            eip1559.setPriorityGasPrice(fees.getPriorityFee());
+            eip1559.setMaxGasPrice(fees.getMaxFee(baseFeeMultiplier));
+        } else {
+            tx.setGasPrice(fees.getGasPrice());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduled != null) {
+            scheduled.cancel(false);
+            scheduled = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    protected static Fees toFees(Wei gasPrice, Wei priorityFee, BlockJson<?> block) {
+        if (gasPrice == null) {
+            throw new IllegalStateException("Gas price is not available");
+        }
+        Wei baseFee = block != null ? block.getBaseFeePerGas() : null;
+        if (priorityFee == null) {
+            if (baseFee == null) {
+                priorityFee = gasPrice;
+            } else if (gasPrice.compareTo(baseFee) > 0) {
+                priorityFee = gasPrice.minus(baseFee);
+            } else {
+                priorityFee = Wei.ZERO;
+            }
+        }
+        return new Fees(gasPrice, baseFee, priorityFee, block != null ? block.getNumber() : null, Instant.now());
+    }
+
+    /**
+     * A snapshot of the network fees
+     */
+    public static class Fees {
+        private final Wei gasPrice;
+        private final Wei baseFee;
+        private final Wei priorityFee;
+        private final Long blockNumber;
+        private final Instant timestamp;
+
+        public Fees(Wei gasPrice, Wei baseFee, Wei priorityFee, Long blockNumber, Instant timestamp) {
+            this.gasPrice = gasPrice;
+            this.baseFee = baseFee;
+            this.priorityFee = priorityFee;
+            this.blockNumber = blockNumber;
+            this.timestamp = timestamp;
+        }
+
+        /**
+         *
+         * @return gas price for a legacy transaction
+         */
+        public Wei getGasPrice() {
+            return gasPrice;
+        }
+
+        /**
+         *
+         * @return base fee of the latest block, or null if the chain doesn't support EIP-1559
+         */
+        public Wei getBaseFee() {
+            return baseFee;
+        }
+
+        /**
+         *
+         * @return suggested priority fee
+         */
+        public Wei getPriorityFee() {
+            return priorityFee;
+        }
+
+        /**
+         *
+         * @param baseFeeMultiplier how many times the max fee should cover the current base fee
+         * @return max fee as <code>base_fee * multiplier + priority_fee</code>, or gas price if base fee is unknown
+         */
+        public Wei getMaxFee(int baseFeeMultiplier) {
+            if (baseFee == null) {
+                return gasPrice;
+            }
+            return baseFee.multiply(baseFeeMultiplier).plus(priorityFee);
+        }
+
+        /**
+         *
+         * @return number of the block used for the base fee
+         */
+        public Long getBlockNumber() {
+            return blockNumber;
+        }
+
+        /**
+         *
+         * @return when the snapshot was made
+         */
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Fees)) return false;
+            Fees fees = (Fees) o;
+            return Objects.equals(gasPrice, fees.gasPrice)
+                && Objects.equals(baseFee, fees.baseFee)
+                && Objects.equals(priorityFee, fees.priorityFee)
+                && Objects.equals(blockNumber, fees.blockNumber)
+                && Objects.equals(timestamp, fees.timestamp);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(gasPrice, baseFee, priorityFee, blockNumber);
+        }
+    }
+
+    private interface Loader {
+        CompletableFuture<Fees> load();
+    }
+
+    private static class FuturesLoader implements Loader {
+        private final FuturesRpcClient client;
+
+        FuturesLoader(FuturesRpcClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public CompletableFuture<Fees> load() {
+            DefaultBatch batch = new DefaultBatch();
+            CompletableFuture<Wei> gasPrice = batch.add(Commands.eth().getGasPrice()).getResult();
+            CompletableFuture<Wei> priorityFee = batch.add(Commands.eth().getMaxPriorityFeePerGas()).getResult()
+                .exceptionally((t) -> null);
+            CompletableFuture<? extends BlockJson<?>> block = batch.add(Commands.eth().getBlock(BlockTag.LATEST)).getResult()
+                .exceptionally((t) -> null);
+            client.execute(batch);
+            return CompletableFuture.allOf(gasPrice, priorityFee, block)
+                .thenApply((ignore) -> toFees(gasPrice.join(), priorityFee.join(), block.join()));
+        }
+    }
+
+    private static class ReactorLoader implements Loader {
+        private final ReactorRpcClient client;
+
+        ReactorLoader(ReactorRpcClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public CompletableFuture<Fees> load() {
+            ReactorBatch batch = new ReactorBatch();
+            ReactorBatch.ReactorBatchItem<String, Wei> gasPrice = batch.add(Commands.eth().getGasPrice());
+            ReactorBatch.ReactorBatchItem<String, Wei> priorityFee = batch.add(Commands.eth().getMaxPriorityFeePerGas());
+            ReactorBatch.ReactorBatchItem<?, ? extends BlockJson<?>> block = batch.add(Commands.eth().getBlock(BlockTag.LATEST));
+            return client.execute(batch)
+                .onErrorResume((t) -> Mono.empty())
+                .then()
+                .toFuture()
+                .thenCompose((ignore) -> {
+                    CompletableFuture<Wei> gasPriceValue = gasPrice.getResult().toFuture();
+                    CompletableFuture<Wei> priorityFeeValue = priorityFee.getResult()
+                        .onErrorResume((t) -> Mono.empty())
+                        .toFuture();
+                    CompletableFuture<? extends BlockJson<?>> blockValue = block.getResult()
+                        .onErrorResume((t) -> Mono.empty())
+                        .toFuture();
+                    return CompletableFuture.allOf(gasPriceValue, priorityFeeValue, blockValue)
+                        .thenApply((all) -> toFees(gasPriceValue.join(), priorityFeeValue.join(), blockValue.join()));
+                });
+        }
+    }
+}
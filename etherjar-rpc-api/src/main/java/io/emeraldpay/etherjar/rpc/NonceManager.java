@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.rpc.json.BlockTag;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of nonces for accounts that send transactions through the current instance, so a nonce for a new transaction
+ * doesn't require a call to <code>eth_getTransactionCount</code>.
+ *
+ * <p>The nonce of an account is fetched (with the <code>pending</code> tag) only on its first use, or with
+ * {@link #prefetch(Collection)} which loads multiple accounts in a single RPC batch. After that each call to
+ * {@link #next(Address)} returns the next nonce from a local counter without any locking.</p>
+ *
+ * <p>Note that it assumes that all transactions of the account are sent through the current instance. If the transaction
+ * was rejected by the node with a <i>nonce too low</i> error call {@link #onError(Address, Throwable)}, or {@link #resync(Address)}
+ * directly, to update the state from the node.</p>
+ *
+ * <pre><code class="java">
+ * NonceManager nonces = new NonceManager(client);
+ * long nonce = nonces.next(from).get();
+ * </code></pre>
+ */
+public class NonceManager {
+
+    private final Loader loader;
+    private final ConcurrentHashMap<Address, CompletableFuture<AtomicLong>> accounts = new ConcurrentHashMap<>();
+
+    public NonceManager(FuturesRpcClient client) {
+        this.loader = new FuturesLoader(client);
+    }
+
+    public NonceManager(ReactorRpcClient client) {
+        this.loader = new ReactorLoader(client);
+    }
+
+    /**
+     * Get the nonce for the next transaction from the account. The returned future is already completed if the
+     * account state is known, otherwise it's completed after fetching it from the node.
+     *
+     * @param address sender address
+     * @return nonce to use for the next transaction
+     */
+    public CompletableFuture<Long> next(Address address) {
+        return account(address).thenApply(AtomicLong::getAndIncrement);
+    }
+
+    /**
+     * Get the nonce for the next transaction from the account without incrementing it
+     *
+     * @param address sender address
+     * @return nonce of the next transaction
+     */
+    public CompletableFuture<Long> peek(Address address) {
+        return account(address).thenApply(AtomicLong::get);
+    }
+
+    /**
+     * Load the state of the accounts which are not known yet. All of them are fetched in a single RPC batch.
+     *
+     * @param addresses addresses to load
+     * @return future completed when all accounts are loaded
+     */
+    public CompletableFuture<Void> prefetch(Collection<Address> addresses) {
+        List<CompletableFuture<AtomicLong>> all = new ArrayList<>(addresses.size());
+        Map<Address, CompletableFuture<AtomicLong>> created = new LinkedHashMap<>();
+        for (Address address: addresses) {
+            CompletableFuture<AtomicLong> existing = accounts.get(address);
+            if (existing == null) {
+                CompletableFuture<AtomicLong> pending = new CompletableFuture<>();
+                existing = accounts.putIfAbsent(address, pending);
+                if (existing == null) {
+                    existing = pending;
+                    created.put(address, pending);
+                }
+            }
+            all.add(existing);
+        }
+        if (!created.isEmpty()) {
+            load(created);
+        }
+        return CompletableFuture.allOf(all.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Fetch the current nonce of the account from the node. The local counter is moved forward if the node
+     * knows more transactions than the current instance, but it's never moved back, so the nonces stay monotonic.
+     *
+     * @param address sender address
+     * @return nonce of the next transaction after the update
+     */
+    public CompletableFuture<Long> resync(Address address) {
+        CompletableFuture<AtomicLong> current = accounts.get(address);
+        if (current == null || !current.isDone() || current.isCompletedExceptionally()) {
+            return peek(address);
+        }
+        return loader.load(Collections.singletonList(address))
+            .thenApply((nonces) -> {
+                long actual = nonces.get(address);
+                return current.join().accumulateAndGet(actual, Math::max);
+            });
+    }
+
+    /**
+     * Forget the state of the account, so it's fetched again on the next use. Unlike {@link #resync(Address)} it
+     * allows to reuse a nonce of a transaction that was never accepted by the node.
+     *
+     * @param address sender address
+     */
+    public void reset(Address address) {
+        accounts.remove(address);
+    }
+
+    /**
+     * Process an error returned on sending a transaction. If it's a <i>nonce too low</i> error it resyncs the account.
+     *
+     * @param address sender address
+     * @param error error returned by the node
+     * @return true if it was a nonce error and the account is resynced
+     */
+    public boolean onError(Address address, Throwable error) {
+        if (isNonceTooLow(error)) {
+            resync(address);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @param error error returned on sending a transaction
+     * @return true if the node rejected the transaction because its nonce is already used
+     */
+    public static boolean isNonceTooLow(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (!(error instanceof RpcException)) {
+            return false;
+        }
+        String message = ((RpcException) error).getRpcMessage();
+        if (message == null) {
+            return false;
+        }
+        message = message.toLowerCase(Locale.ROOT);
+        return message.contains("nonce too low")
+            || message.contains("oldnonce")
+            || message.contains("nonce has already been used");
+    }
+
+    private CompletableFuture<AtomicLong> account(Address address) {
+        CompletableFuture<AtomicLong> current = accounts.get(address);
+        if (current != null) {
+            return current;
+        }
+        CompletableFuture<AtomicLong> pending = new CompletableFuture<>();
+        current = accounts.putIfAbsent(address, pending);
+        if (current != null) {
+            return current;
+        }
+        load(Collections.singletonMap(address, pending));
+        return pending;
+    }
+
+    private void load(Map<Address, CompletableFuture<AtomicLong>> targets) {
+        loader.load(new ArrayList<>(targets.keySet())).whenComplete((nonces, err) -> {
+            targets.forEach((address, target) -> {
+                Long nonce = err == null ? nonces.get(address) : null;
+                if (nonce != null) {
+                    target.complete(new AtomicLong(nonce));
+                } else {
+                    // don't keep the failed state, so it can be retried on the next call
+                    accounts.remove(address, target);
+                    target.completeExceptionally(err != null ? err : new IllegalStateException("No nonce for " + address));
+                }
+            });
+        });
+    }
+
+    private interface Loader {
+        CompletableFuture<Map<Address, Long>> load(List<Address> addresses);
+    }
+
+    private static class FuturesLoader implements Loader {
+        private final FuturesRpcClient client;
+
+        FuturesLoader(FuturesRpcClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public CompletableFuture<Map<Address, Long>> load(List<Address> addresses) {
+            DefaultBatch batch = new DefaultBatch();
+            List<CompletableFuture<Long>> results = new ArrayList<>(addresses.size());
+            for (Address address: addresses) {
+                results.add(batch.add(Commands.eth().getTransactionCount(address, BlockTag.PENDING)).getResult());
+            }
+            client.execute(batch);
+            return CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
+                .thenApply((ignore) -> {
+                    Map<Address, Long> nonces = new HashMap<>();
+                    for (int i = 0; i < addresses.size(); i++) {
+                        nonces.put(addresses.get(i), results.get(i).join());
+                    }
+                    return nonces;
+                });
+        }
+    }
+
+    private static class ReactorLoader implements Loader {
+        private final ReactorRpcClient client;
+
+        ReactorLoader(ReactorRpcClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public CompletableFuture<Map<Address, Long>> load(List<Address> addresses) {
+            ReactorBatch batch = new ReactorBatch();
+            List<ReactorBatch.ReactorBatchItem<String, Long>> items = new ArrayList<>(addresses.size());
+            for (Address address: addresses) {
+                items.add(batch.add(Commands.eth().getTransactionCount(address, BlockTag.PENDING)));
+            }
+            return client.execute(batch)
+                .onErrorResume((t) -> Mono.empty())
+                .then(
+                    Flux.fromIterable(items)
+                        .concatMap(ReactorBatch.ReactorBatchItem::getResult)
+                        .collectList()
+                )
+                .map((values) -> {
+                    if (values.size() != addresses.size()) {
+                        throw new IllegalStateException("Expected " + addresses.size() + " nonces, received " + values.size());
+                    }
+                    Map<Address, Long> nonces = new HashMap<>();
+                    for (int i = 0; i < addresses.size(); i++) {
+                        nonces.put(addresses.get(i), values.get(i));
+                    }
+                    return nonces;
+                })
+                .toFuture();
+        }
+    }
+}
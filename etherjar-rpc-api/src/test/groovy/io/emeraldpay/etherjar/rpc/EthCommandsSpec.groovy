@@ -77,6 +77,15 @@ class EthCommandsSpec extends Specification {
         call.jsonType.containedType(0).rawClass == TransactionRefJson.class
         call.resultType == BlockJson
 
+        when:
+        call = Commands.eth().getBlock(BlockTag.LATEST)
+
+        then:
+        call.method == "eth_getBlockByNumber"
+        call.params == ['latest', false]
+        call.jsonType.rawClass == BlockJson
+        call.resultType == BlockJson
+
         when:
         call = Commands.eth().getBlockWithTransactions(1000)
 
@@ -350,6 +359,17 @@ class EthCommandsSpec extends Specification {
         call.resultType == Wei
     }
 
+    def getMaxPriorityFeePerGas() {
+        when:
+        def call = Commands.eth().getMaxPriorityFeePerGas()
+
+        then:
+        call.method == "eth_maxPriorityFeePerGas"
+        call.params == []
+        call.jsonType.rawClass == String
+        call.resultType == Wei
+    }
+
     def getAccounts() {
         when:
         def call = Commands.eth().getAccounts()
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc
+
+import io.emeraldpay.etherjar.domain.Wei
+import io.emeraldpay.etherjar.rpc.json.BlockJson
+import io.emeraldpay.etherjar.tx.Transaction
+import io.emeraldpay.etherjar.tx.TransactionWithGasPriority
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+class FeeOracleSpec extends Specification {
+
+    def "Load fees in one batch"() {
+        setup:
+        def client = new TestClient(gasPrice: Wei.ofUnits(12, Wei.Unit.GWEI), priorityFee: Wei.ofUnits(1, Wei.Unit.GWEI), baseFee: Wei.ofUnits(10, Wei.Unit.GWEI))
+        def oracle = new FeeOracle(client)
+        when:
+        def act = oracle.refresh().get()
+        then:
+        client.batches.size() == 1
+        client.batches[0].items*.call*.method == ["eth_gasPrice", "eth_maxPriorityFeePerGas", "eth_getBlockByNumber"]
+        act.gasPrice == Wei.ofUnits(12, Wei.Unit.GWEI)
+        act.priorityFee == Wei.ofUnits(1, Wei.Unit.GWEI)
+        act.baseFee == Wei.ofUnits(10, Wei.Unit.GWEI)
+        act.blockNumber == 100L
+        act.getMaxFee(2) == Wei.ofUnits(21, Wei.Unit.GWEI)
+        oracle.getFees() == act
+    }
+
+    def "Estimate priority fee when not supported"() {
+        setup:
+        def client = new TestClient(gasPrice: Wei.ofUnits(12, Wei.Unit.GWEI), baseFee: Wei.ofUnits(10, Wei.Unit.GWEI))
+        def oracle = new FeeOracle(client)
+        when:
+        def act = oracle.refresh().get()
+        then:
+        act.priorityFee == Wei.ofUnits(2, Wei.Unit.GWEI)
+    }
+
+    def "Fill transactions"() {
+        setup:
+        def client = new TestClient(gasPrice: Wei.ofUnits(12, Wei.Unit.GWEI), priorityFee: Wei.ofUnits(1, Wei.Unit.GWEI), baseFee: Wei.ofUnits(10, Wei.Unit.GWEI))
+        def oracle = new FeeOracle(client)
+        oracle.setBaseFeeMultiplier(3)
+        oracle.refresh().get()
+        def legacy = new Transaction()
+        def eip1559 = new TransactionWithGasPriority()
+        when:
+        oracle.fill(legacy)
+        oracle.fill(eip1559)
+        then:
+        legacy.gasPrice == Wei.ofUnits(12, Wei.Unit.GWEI)
+        eip1559.priorityGasPrice == Wei.ofUnits(1, Wei.Unit.GWEI)
+        eip1559.maxGasPrice == Wei.ofUnits(31, Wei.Unit.GWEI)
+        client.batches.size() == 1
+    }
+
+    def "Fail to fill before loading"() {
+        setup:
+        def oracle = new FeeOracle(new TestClient(gasPrice: Wei.ZERO))
+        when:
+        oracle.fill(new Transaction())
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def "Loads first snapshot on start"() {
+        setup:
+        def client = new TestClient(gasPrice: Wei.ofUnits(12, Wei.Unit.GWEI), baseFee: Wei.ofUnits(10, Wei.Unit.GWEI))
+        def oracle = new FeeOracle(client)
+        when:
+        def act = oracle.start().get()
+        then:
+        act.gasPrice == Wei.ofUnits(12, Wei.Unit.GWEI)
+        cleanup:
+        oracle.close()
+    }
+
+    static class TestClient extends AbstractFuturesRpcClient {
+        Wei gasPrice
+        Wei priorityFee
+        Wei baseFee
+        List<DefaultBatch> batches = []
+
+        @Override
+        List<CompletableFuture> execute(DefaultBatch batch) {
+            batches.add(batch)
+            batch.items.each { DefaultBatch.FutureBatchItem item ->
+                switch (item.call.method) {
+                    case "eth_gasPrice":
+                        item.onResult(gasPrice)
+                        break
+                    case "eth_maxPriorityFeePerGas":
+                        if (priorityFee != null) {
+                            item.onResult(priorityFee)
+                        } else {
+                            item.onError(new RpcException(-32601, "the method eth_maxPriorityFeePerGas does not exist"))
+                        }
+                        break
+                    case "eth_getBlockByNumber":
+                        def block = new BlockJson()
+                        block.number = 100
+                        block.baseFeePerGas = baseFee
+                        item.onResult(block)
+                        break
+                }
+            }
+            return batch.items*.result
+        }
+    }
+}
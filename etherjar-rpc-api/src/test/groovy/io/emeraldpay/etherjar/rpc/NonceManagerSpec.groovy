@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc
+
+import io.emeraldpay.etherjar.domain.Address
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+class NonceManagerSpec extends Specification {
+
+    static Address ADDRESS_1 = Address.from("0x2c169dfe5fbba12957bdd0ba47d9cedbfe260ca7")
+    static Address ADDRESS_2 = Address.from("0xc662c410c0ecf747543f5ba90660f6abebd9c8c4")
+
+    def "Fetch once and then increment locally"() {
+        setup:
+        def client = new TestClient(nonces: [(ADDRESS_1): 10L])
+        def manager = new NonceManager(client)
+        when:
+        def act = (1..3).collect { manager.next(ADDRESS_1).get() }
+        then:
+        act == [10L, 11L, 12L]
+        client.batches.size() == 1
+        client.batches[0].items[0].call.method == "eth_getTransactionCount"
+        client.batches[0].items[0].call.params == [ADDRESS_1.toHex(), "pending"]
+    }
+
+    def "Prefetch multiple addresses in one batch"() {
+        setup:
+        def client = new TestClient(nonces: [(ADDRESS_1): 10L, (ADDRESS_2): 0L])
+        def manager = new NonceManager(client)
+        when:
+        manager.prefetch([ADDRESS_1, ADDRESS_2]).get()
+        def act1 = manager.next(ADDRESS_1).get()
+        def act2 = manager.next(ADDRESS_2).get()
+        then:
+        act1 == 10L
+        act2 == 0L
+        client.batches.size() == 1
+        client.batches[0].items.size() == 2
+    }
+
+    def "Resync moves forward only"() {
+        setup:
+        def client = new TestClient(nonces: [(ADDRESS_1): 10L])
+        def manager = new NonceManager(client)
+        when:
+        manager.next(ADDRESS_1).get()
+        manager.next(ADDRESS_1).get()
+        client.nonces[ADDRESS_1] = 15L
+        def resynced = manager.onError(ADDRESS_1, new RpcException(-32000, "nonce too low"))
+        then:
+        resynced
+        manager.next(ADDRESS_1).get() == 15L
+        when:
+        client.nonces[ADDRESS_1] = 3L
+        manager.resync(ADDRESS_1).get()
+        then:
+        manager.next(ADDRESS_1).get() == 16L
+    }
+
+    def "Ignore other errors"() {
+        setup:
+        def client = new TestClient(nonces: [(ADDRESS_1): 10L])
+        def manager = new NonceManager(client)
+        when:
+        manager.next(ADDRESS_1).get()
+        def act = manager.onError(ADDRESS_1, new RpcException(-32000, "insufficient funds for gas * price + value"))
+        then:
+        !act
+        manager.next(ADDRESS_1).get() == 11L
+        client.batches.size() == 1
+    }
+
+    def "Retry after failed fetch"() {
+        setup:
+        def client = new TestClient(nonces: [:])
+        def manager = new NonceManager(client)
+        when:
+        manager.next(ADDRESS_1).get()
+        then:
+        thrown(Exception)
+        when:
+        client.nonces[ADDRESS_1] = 5L
+        def act = manager.next(ADDRESS_1).get()
+        then:
+        act == 5L
+    }
+
+    def "Detect nonce errors"() {
+        expect:
+        NonceManager.isNonceTooLow(error) == exp
+        where:
+        error                                                                  | exp
+        new RpcException(-32000, "nonce too low")                              | true
+        new RpcException(-32000, "Nonce too low. Expected nonce to be 5")      | true
+        new java.util.concurrent.CompletionException(new RpcException(-32010, "OldNonce")) | true
+        new RpcException(-32000, "replacement transaction underpriced")        | false
+        new IllegalStateException("nonce too low")                             | false
+    }
+
+    static class TestClient extends AbstractFuturesRpcClient {
+        Map<Address, Long> nonces
+        List<DefaultBatch> batches = []
+
+        @Override
+        List<CompletableFuture> execute(DefaultBatch batch) {
+            batches.add(batch)
+            batch.items.each { DefaultBatch.FutureBatchItem item ->
+                def address = Address.from(item.call.params[0] as String)
+                if (nonces.containsKey(address)) {
+                    item.onResult(nonces[address])
+                } else {
+                    item.onError(new RpcException(-32000, "unavailable"))
+                }
+            }
+            return batch.items*.result
+        }
+    }
+}
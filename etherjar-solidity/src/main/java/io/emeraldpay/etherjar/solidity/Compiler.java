@@ -17,28 +17,72 @@
 
 package io.emeraldpay.etherjar.solidity;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.emeraldpay.etherjar.hex.HexData;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
+/**
+ * Compiles Solidity sources with <code>solc</code>.
+ *
+ * <p>
+ * When a cache directory is set, successful results are stored on disk keyed by a hash of the source, solc version and the
+ * optimize flag, so an unchanged source is compiled only once, even across different runs. Multiple independent sources may be
+ * compiled in parallel with {@link #compileAll(List)}, running up to <code>parallelism</code> solc processes at the same time.
+ * </p>
+ *
+ * <p>
+ * By default it runs solc with <code>--abi --bin</code> and reads the output files. With the <code>standardJson</code> option
+ * it uses <code>--standard-json</code> mode instead, where the source is passed through stdin and the output is read from stdout
+ * as a stream, without temp files and without loading the whole output JSON into memory.
+ * </p>
+ */
 public class Compiler {
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
     private final File solc;
     private final boolean optimize;
+    private final boolean standardJson;
+    private final Path cacheDir;
+    private final int parallelism;
+
+    private String version;
 
     public static class Builder {
 
         private File solc;
         private boolean optimize = true;
+        private boolean standardJson = false;
+        private Path cacheDir;
+        private int parallelism = DEFAULT_PARALLELISM;
 
         public Builder withSolc(File solc) {
             this.solc = solc;
@@ -58,11 +102,48 @@ public class Compiler {
             return this;
         }
 
+        /**
+         * @param standardJson use solc <code>--standard-json</code> mode, which is supported by solc 0.4.11 and later
+         * @return builder
+         */
+        public Builder standardJson(boolean standardJson) {
+            this.standardJson = standardJson;
+            return this;
+        }
+
+        /**
+         * Keep successful compilation results in the specified directory and reuse them for the same source, solc version and
+         * optimize flag
+         *
+         * @param cacheDir directory for the cache, created if it doesn't exist
+         * @return builder
+         */
+        public Builder withCache(Path cacheDir) {
+            this.cacheDir = cacheDir;
+            return this;
+        }
+        public Builder withCache(File cacheDir) {
+            return withCache(cacheDir.toPath());
+        }
+
+        /**
+         * @param parallelism max number of solc processes running at the same time with {@link #compileAll(List)}, by default
+         *                    it's the number of available processors
+         * @return builder
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
         public Compiler build() {
             if (solc == null) {
                 throw new IllegalStateException("Solc path is not set");
             }
-            return new Compiler(solc, optimize);
+            return new Compiler(solc, optimize, standardJson, cacheDir, parallelism);
         }
 
     }
@@ -72,22 +153,104 @@ public class Compiler {
     }
 
     public Compiler(File solc, boolean optimize) {
+        this(solc, optimize, false, null, DEFAULT_PARALLELISM);
+    }
+
+    public Compiler(File solc, boolean optimize, boolean standardJson, Path cacheDir, int parallelism) {
         this.solc = solc;
         this.optimize = optimize;
+        this.standardJson = standardJson;
+        this.cacheDir = cacheDir;
+        this.parallelism = parallelism;
     }
 
     public Result compile(File source) throws IOException, InterruptedException {
-        return compile(new FileInputStream(source));
+        return compile(Files.readAllBytes(source.toPath()));
     }
 
     public Result compile(String source) throws IOException, InterruptedException {
-        return compile(new ByteArrayInputStream(source.getBytes("UTF-8")));
+        return compile(source.getBytes(StandardCharsets.UTF_8));
     }
 
     public Result compile(InputStream source) throws IOException, InterruptedException {
+        return compile(source.readAllBytes());
+    }
+
+    /**
+     * Compile multiple independent sources in parallel. The same source is compiled only once.
+     *
+     * @param sources sources to compile
+     * @return results in the same order as the sources
+     */
+    public List<Result> compileAll(List<String> sources) throws IOException, InterruptedException {
+        if (sources.isEmpty()) {
+            return new ArrayList<>();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, sources.size()));
+        try {
+            Map<String, Future<Result>> started = new HashMap<>();
+            List<Future<Result>> futures = new ArrayList<>(sources.size());
+            for (String source : sources) {
+                futures.add(started.computeIfAbsent(source, (s) -> executor.submit(() -> compile(s))));
+            }
+            List<Result> results = new ArrayList<>(sources.size());
+            for (Future<Result> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof IOException) {
+                        throw (IOException) cause;
+                    }
+                    if (cause instanceof InterruptedException) {
+                        throw (InterruptedException) cause;
+                    }
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    throw new IllegalStateException(cause);
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Compile multiple independent source files in parallel
+     *
+     * @param sources source files to compile
+     * @return results in the same order as the sources
+     * @see #compileAll(List)
+     */
+    public List<Result> compileFiles(List<File> sources) throws IOException, InterruptedException {
+        List<String> content = new ArrayList<>(sources.size());
+        for (File source : sources) {
+            content.add(Files.readString(source.toPath()));
+        }
+        return compileAll(content);
+    }
+
+    private Result compile(byte[] source) throws IOException, InterruptedException {
+        Path cached = getCachePath(source);
+        if (cached != null) {
+            Result result = readCache(cached);
+            if (result != null) {
+                return result;
+            }
+        }
+        Result result = standardJson ? executeStandardJson(source) : execute(source);
+        if (cached != null && result.isSuccess() && (result.getErrors() == null || result.getErrors().isEmpty())) {
+            writeCache(cached, result);
+        }
+        return result;
+    }
+
+    private Result execute(byte[] source) throws IOException, InterruptedException {
         Path tmp = Files.createTempDirectory("etherjar-compile");
         Path contractSource = Files.createTempFile(tmp, "contract", ".sol");
-        Files.copy(source, contractSource, StandardCopyOption.REPLACE_EXISTING);
+        Files.write(contractSource, source);
 
         Result result;
 
@@ -125,6 +288,207 @@ public class Compiler {
         return result;
     }
 
+    private Result executeStandardJson(byte[] source) throws IOException, InterruptedException {
+        Result result;
+
+        Process process;
+        try {
+            process = new ProcessBuilder(solc.getAbsolutePath(), "--standard-json").start();
+        } catch (IOException e) {
+            result = new Result(false);
+            result.setErrors(Arrays.asList(e.getMessage()));
+            return result;
+        }
+
+        try {
+            // stderr is drained in parallel, otherwise solc may block on a full stderr pipe before finishing stdout
+            List<String> stderrLines = Collections.synchronizedList(new ArrayList<>());
+            Thread stderr = new Thread(() -> {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        stderrLines.add(line);
+                    }
+                } catch (IOException e) {
+                    stderrLines.add(e.getMessage());
+                }
+            }, "solc-stderr");
+            stderr.setDaemon(true);
+            stderr.start();
+
+            try (OutputStream stdin = process.getOutputStream()) {
+                writeStandardJsonInput(stdin, new String(source, StandardCharsets.UTF_8));
+            }
+            result = processStandardJsonResult(process.getInputStream());
+
+            int status = process.waitFor();
+            stderr.join();
+
+            if (status != 0) {
+                List<String> errors = new ArrayList<>(result.getErrors());
+                if (errors.isEmpty()) {
+                    errors.add("solc exited with status " + status);
+                }
+                Result failed = new Result(false);
+                failed.setErrors(errors);
+                failed.setStderr(result.getStderr());
+                result = failed;
+            }
+            List<String> allStderr = new ArrayList<>();
+            if (result.getStderr() != null) {
+                allStderr.addAll(result.getStderr());
+            }
+            allStderr.addAll(stderrLines);
+            result.setStderr(allStderr);
+            result.setStdout(new ArrayList<>());
+            return result;
+        } finally {
+            process.destroy();
+        }
+    }
+
+    /**
+     * Write a solc standard JSON input for a single source, requesting ABI and bytecode of all contracts in it
+     *
+     * @param output target stream, closed after writing
+     * @param source contract source
+     */
+    public void writeStandardJsonInput(OutputStream output, String source) throws IOException {
+        try (JsonGenerator json = MAPPER.getFactory().createGenerator(output)) {
+            json.writeStartObject();
+            json.writeStringField("language", "Solidity");
+            json.writeObjectFieldStart("sources");
+            json.writeObjectFieldStart("contract.sol");
+            json.writeStringField("content", source);
+            json.writeEndObject();
+            json.writeEndObject();
+            json.writeObjectFieldStart("settings");
+            json.writeObjectFieldStart("optimizer");
+            json.writeBooleanField("enabled", optimize);
+            json.writeEndObject();
+            json.writeObjectFieldStart("outputSelection");
+            json.writeObjectFieldStart("*");
+            json.writeArrayFieldStart("*");
+            json.writeString("abi");
+            json.writeString("evm.bytecode.object");
+            json.writeEndArray();
+            json.writeEndObject();
+            json.writeEndObject();
+            json.writeEndObject();
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * Read solc standard JSON output. The output is parsed as a stream, and only ABI of each contract is copied as a string,
+     * other parts are skipped without reading them into memory. Messages with <code>error</code> severity are put into the errors,
+     * and other messages (i.e., warnings) into the stderr of the result.
+     *
+     * @param output solc output, closed after reading
+     * @return compilation result, which is successful only if there are no errors
+     */
+    public Result processStandardJsonResult(InputStream output) throws IOException {
+        List<CompiledContract> contracts = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        List<String> warnings = new ArrayList<>();
+        JsonFactory factory = MAPPER.getFactory();
+        try (JsonParser parser = factory.createParser(output)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Invalid solc output");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("contracts".equals(field)) {
+                    // contracts -> file name -> contract name -> details
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        parser.nextToken();
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String name = parser.currentName();
+                            parser.nextToken();
+                            contracts.add(readStandardJsonContract(name, parser, factory));
+                        }
+                    }
+                } else if ("errors".equals(field)) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        String severity = null;
+                        String message = null;
+                        String formattedMessage = null;
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String name = parser.currentName();
+                            parser.nextToken();
+                            if ("severity".equals(name)) {
+                                severity = parser.getValueAsString();
+                            } else if ("message".equals(name)) {
+                                message = parser.getValueAsString();
+                            } else if ("formattedMessage".equals(name)) {
+                                formattedMessage = parser.getValueAsString();
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                        String text = formattedMessage != null ? formattedMessage : message;
+                        if ("error".equals(severity)) {
+                            errors.add(text);
+                        } else {
+                            warnings.add(text);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        Result result = new Result(errors.isEmpty());
+        if (errors.isEmpty()) {
+            result.add(contracts);
+        }
+        result.setErrors(errors);
+        result.setStderr(warnings);
+        return result;
+    }
+
+    private CompiledContract readStandardJsonContract(String name, JsonParser parser, JsonFactory factory) throws IOException {
+        String abi = null;
+        HexData compiled = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("abi".equals(field)) {
+                StringWriter buffer = new StringWriter();
+                try (JsonGenerator copy = factory.createGenerator(buffer)) {
+                    copy.copyCurrentStructure(parser);
+                }
+                abi = buffer.toString();
+            } else if ("evm".equals(field)) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String evmField = parser.currentName();
+                    parser.nextToken();
+                    if ("bytecode".equals(evmField)) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String bytecodeField = parser.currentName();
+                            parser.nextToken();
+                            if ("object".equals(bytecodeField)) {
+                                String value = parser.getValueAsString();
+                                // abstract contracts and interfaces have empty bytecode
+                                if (value != null && !value.isEmpty()) {
+                                    compiled = HexData.from("0x" + value);
+                                }
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new CompiledContract(name, compiled, abi);
+    }
+
     public Process executeSolc(Path dir, Path contractSource, boolean optimize) throws IOException {
         List<String> args = new ArrayList<>();
         args.add(solc.getAbsolutePath());
@@ -181,6 +545,117 @@ public class Compiler {
         return result;
     }
 
+    /**
+     * @return version reported by solc, or null if it's unavailable
+     */
+    public synchronized String getVersion() throws IOException, InterruptedException {
+        if (version != null) {
+            return version;
+        }
+        Process process;
+        try {
+            process = new ProcessBuilder(solc.getAbsolutePath(), "--version")
+                .redirectErrorStream(true)
+                .start();
+        } catch (IOException e) {
+            return null;
+        }
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        if (process.waitFor() != 0 || output.isEmpty()) {
+            return null;
+        }
+        version = output;
+        return version;
+    }
+
+    private Path getCachePath(byte[] source) throws IOException, InterruptedException {
+        if (cacheDir == null) {
+            return null;
+        }
+        String version = getVersion();
+        if (version == null) {
+            return null;
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(version.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update((byte) (optimize ? 1 : 0));
+        digest.update((byte) (standardJson ? 1 : 0));
+        digest.update(source);
+        String key = new HexData(digest.digest()).toHex().substring(2);
+        return cacheDir.resolve(key + ".json");
+    }
+
+    private Result readCache(Path path) {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            JsonNode json = MAPPER.readTree(path.toFile());
+            Result result = new Result(true);
+            for (JsonNode contract : json.get("contracts")) {
+                JsonNode compiled = contract.get("compiled");
+                JsonNode abi = contract.get("abi");
+                result.add(new CompiledContract(
+                    contract.get("name").asText(),
+                    compiled == null || compiled.isNull() ? null : HexData.from(compiled.asText()),
+                    abi == null || abi.isNull() ? null : abi.asText()
+                ));
+            }
+            result.setStdout(readLines(json.get("stdout")));
+            result.setStderr(readLines(json.get("stderr")));
+            result.setErrors(new ArrayList<>());
+            return result;
+        } catch (IOException | RuntimeException e) {
+            // a broken cache entry, compile it again
+            return null;
+        }
+    }
+
+    private List<String> readLines(JsonNode json) {
+        List<String> lines = new ArrayList<>();
+        if (json != null) {
+            for (JsonNode line : json) {
+                lines.add(line.asText());
+            }
+        }
+        return lines;
+    }
+
+    private void writeCache(Path path, Result result) throws IOException {
+        ObjectNode json = MAPPER.createObjectNode();
+        ArrayNode contracts = json.putArray("contracts");
+        for (CompiledContract contract : result.getContracts()) {
+            ObjectNode item = contracts.addObject();
+            item.put("name", contract.getName());
+            item.put("compiled", contract.getCompiled() == null ? null : contract.getCompiled().toHex());
+            item.put("abi", contract.getAbi());
+        }
+        writeLines(json.putArray("stdout"), result.getStdout());
+        writeLines(json.putArray("stderr"), result.getStderr());
+
+        Files.createDirectories(cacheDir);
+        // write to a temp file first, so a parallel process never reads a partial entry
+        Path tmp = Files.createTempFile(cacheDir, "compile", ".tmp");
+        try {
+            MAPPER.writeValue(tmp.toFile(), json);
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void writeLines(ArrayNode target, List<String> lines) {
+        if (lines != null) {
+            lines.forEach(target::add);
+        }
+    }
+
     private void clean(Path tmp) throws IOException {
         Files.walk(tmp, FileVisitOption.FOLLOW_LINKS)
             .sorted(Comparator.reverseOrder())
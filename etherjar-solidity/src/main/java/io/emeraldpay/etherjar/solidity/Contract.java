@@ -77,6 +77,8 @@ public class Contract {
 
     private final List<ContractMethod> methods;
 
+    private final Map<MethodId, ContractMethod> methodsIndex;
+
     public Contract(Address address, ContractMethod... methods) {
         this(address, Arrays.asList(methods));
     }
@@ -84,6 +86,11 @@ public class Contract {
     public Contract(Address address, Collection<ContractMethod> methods) {
         this.address = Objects.requireNonNull(address);
         this.methods = Collections.unmodifiableList(new ArrayList<>(methods));
+        this.methodsIndex = new HashMap<>(this.methods.size() * 2);
+
+        for (ContractMethod method : this.methods) {
+            methodsIndex.putIfAbsent(method.getId(), method);
+        }
     }
 
     /**
@@ -114,8 +121,7 @@ public class Contract {
     public Optional<ContractMethod> findMethod(MethodId id) {
         Objects.requireNonNull(id);
 
-        return methods.stream()
-                .filter(it -> it.getId().equals(id)).findFirst();
+        return Optional.ofNullable(methodsIndex.get(id));
     }
 
     @Override
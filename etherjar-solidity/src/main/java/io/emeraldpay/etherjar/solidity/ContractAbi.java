@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.solidity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.emeraldpay.etherjar.abi.CachingRepository;
+import io.emeraldpay.etherjar.abi.Type;
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.EventId;
+import io.emeraldpay.etherjar.domain.MethodId;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * A full contract ABI, i.e. methods, events and errors, usually loaded from the standard JSON produced by solc.
+ *
+ * <p>Methods, events and errors are indexed by their selectors, so a call data, a log or a revert data
+ * is matched to its definition with a hash lookup.
+ *
+ * <pre>{@code
+ * ContractAbi abi = ContractAbi.fromJson(json);
+ * Optional<ContractMethod> method = abi.findMethodForInput(tx.getInput());
+ * Optional<ContractEvent> event = abi.findEvent(EventId.from(log.getTopics().get(0)));
+ * }</pre>
+ *
+ * @see <a href="https://docs.soliditylang.org/en/latest/abi-spec.html#json">Contract ABI Specification, JSON</a>
+ */
+public class ContractAbi {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String TUPLE = "tuple";
+
+    /**
+     * Load an ABI from its JSON representation using the default {@link CachingRepository} with standard types.
+     *
+     * @param json a JSON array with the ABI definitions
+     * @return a {@link ContractAbi} instance
+     * @throws IllegalArgumentException if the JSON is not a valid ABI
+     */
+    public static ContractAbi fromJson(String json) {
+        try {
+            return fromJson(CachingRepository.getDefault(), MAPPER.readTree(json));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid ABI JSON", e);
+        }
+    }
+
+    /**
+     * Load an ABI from its JSON representation using the default {@link CachingRepository} with standard types.
+     *
+     * @param json a stream with a JSON array of the ABI definitions
+     * @return a {@link ContractAbi} instance
+     * @throws IOException if failed to read the stream
+     * @throws IllegalArgumentException if the JSON is not a valid ABI
+     */
+    public static ContractAbi fromJson(InputStream json) throws IOException {
+        return fromJson(CachingRepository.getDefault(), MAPPER.readTree(json));
+    }
+
+    /**
+     * Load an ABI from parsed JSON.
+     *
+     * @param repo a {@link Type} parsers repository
+     * @param json a JSON array with the ABI definitions
+     * @return a {@link ContractAbi} instance
+     * @throws IllegalArgumentException if the JSON is not a valid ABI
+     */
+    public static ContractAbi fromJson(Type.Repository repo, JsonNode json) {
+        if (json == null || !json.isArray())
+            throw new IllegalArgumentException("ABI JSON must be an array");
+
+        List<ContractMethod> methods = new ArrayList<>();
+        List<ContractEvent> events = new ArrayList<>();
+        List<ContractError> errors = new ArrayList<>();
+
+        for (JsonNode item : json) {
+            String kind = item.path("type").asText("function");
+
+            switch (kind) {
+                case "function":
+                    methods.add(readMethod(repo, item));
+                    break;
+                case "event":
+                    events.add(readEvent(repo, item));
+                    break;
+                case "error":
+                    errors.add(new ContractError(readName(item), readTypes(repo, item.path("inputs"))));
+                    break;
+                default:
+                    // constructor, fallback and receive don't have a selector
+                    break;
+            }
+        }
+
+        return new ContractAbi(methods, events, errors);
+    }
+
+    private static ContractMethod readMethod(Type.Repository repo, JsonNode item) {
+        ContractMethod.Builder builder = new ContractMethod.Builder()
+                .withName(readName(item))
+                .withInputTypes(readTypes(repo, item.path("inputs")))
+                .withOutputTypes(readTypes(repo, item.path("outputs")));
+
+        String mutability = item.path("stateMutability").asText("");
+
+        if (item.path("constant").asBoolean(false) || "view".equals(mutability) || "pure".equals(mutability))
+            builder.asConstant();
+
+        return builder.build();
+    }
+
+    private static ContractEvent readEvent(Type.Repository repo, JsonNode item) {
+        ContractEvent.Builder builder = new ContractEvent.Builder().withName(readName(item));
+
+        if (item.path("anonymous").asBoolean(false))
+            builder.asAnonymous();
+
+        for (JsonNode input : item.path("inputs")) {
+            builder.withInput(readType(repo, input), input.path("indexed").asBoolean(false));
+        }
+
+        return builder.build();
+    }
+
+    private static String readName(JsonNode item) {
+        String name = item.path("name").asText("");
+
+        if (name.isEmpty())
+            throw new IllegalArgumentException("ABI item without name: " + item);
+
+        return name;
+    }
+
+    private static ContractParametersTypes readTypes(Type.Repository repo, JsonNode params) {
+        if (params.size() == 0)
+            return ContractParametersTypes.EMPTY;
+
+        List<Type> types = new ArrayList<>(params.size());
+
+        for (JsonNode param : params) {
+            types.add(readType(repo, param));
+        }
+
+        return new ContractParametersTypes(types);
+    }
+
+    private static Type readType(Type.Repository repo, JsonNode param) {
+        String str = toTypeString(param);
+
+        return repo.search(str).orElseThrow(() ->
+                new IllegalArgumentException("Unknown ABI type: " + str));
+    }
+
+    /**
+     * Convert a JSON parameter to a type string, where a tuple is defined by its components,
+     * like {@code (address,uint256)[]}.
+     */
+    private static String toTypeString(JsonNode param) {
+        String type = param.path("type").asText("");
+
+        if (type.isEmpty())
+            throw new IllegalArgumentException("ABI parameter without type: " + param);
+
+        if (!type.startsWith(TUPLE))
+            return type;
+
+        StringJoiner joiner = new StringJoiner(",", "(", ")");
+
+        for (JsonNode component : param.path("components")) {
+            joiner.add(toTypeString(component));
+        }
+
+        return joiner + type.substring(TUPLE.length());
+    }
+
+    private final List<ContractMethod> methods;
+
+    private final List<ContractEvent> events;
+
+    private final List<ContractError> errors;
+
+    private final Map<MethodId, ContractMethod> methodsIndex;
+
+    private final Map<EventId, ContractEvent> eventsIndex;
+
+    private final Map<MethodId, ContractError> errorsIndex;
+
+    public ContractAbi(Collection<ContractMethod> methods,
+                       Collection<ContractEvent> events,
+                       Collection<ContractError> errors) {
+        this.methods = Collections.unmodifiableList(new ArrayList<>(methods));
+        this.events = Collections.unmodifiableList(new ArrayList<>(events));
+        this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
+
+        this.methodsIndex = new HashMap<>(this.methods.size() * 2);
+        this.methods.forEach(it -> methodsIndex.putIfAbsent(it.getId(), it));
+
+        // anonymous events can't be found by a topic
+        this.eventsIndex = new HashMap<>(this.events.size() * 2);
+        this.events.stream().filter(it -> !it.isAnonymous())
+                .forEach(it -> eventsIndex.putIfAbsent(it.getId(), it));
+
+        this.errorsIndex = new HashMap<>(this.errors.size() * 2);
+        this.errors.forEach(it -> errorsIndex.putIfAbsent(it.getId(), it));
+    }
+
+    /**
+     * @return all methods
+     */
+    public List<ContractMethod> getMethods() {
+        return methods;
+    }
+
+    /**
+     * @return all events
+     */
+    public List<ContractEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * @return all custom errors
+     */
+    public List<ContractError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Find a method by its id.
+     *
+     * @param id a method id
+     * @return a method, or an empty {@code Optional} if there is no such method
+     */
+    public Optional<ContractMethod> findMethod(MethodId id) {
+        return Optional.ofNullable(methodsIndex.get(Objects.requireNonNull(id)));
+    }
+
+    /**
+     * Find a method called by a call data (i.e. a transaction input).
+     *
+     * @param input a call data
+     * @return a method, or an empty {@code Optional} if there is no such method or the input is too short
+     */
+    public Optional<ContractMethod> findMethodForInput(HexData input) {
+        MethodId id = MethodId.fromInput(input);
+
+        return id == null ? Optional.empty() : findMethod(id);
+    }
+
+    /**
+     * Find a non-anonymous event by its id, which is the first topic of a log.
+     *
+     * @param id an event id
+     * @return an event, or an empty {@code Optional} if there is no such event
+     */
+    public Optional<ContractEvent> findEvent(EventId id) {
+        return Optional.ofNullable(eventsIndex.get(Objects.requireNonNull(id)));
+    }
+
+    /**
+     * Find a custom error by its selector.
+     *
+     * @param id an error selector, i.e. the first 4 bytes of a revert data
+     * @return an error, or an empty {@code Optional} if there is no such error
+     */
+    public Optional<ContractError> findError(MethodId id) {
+        return Optional.ofNullable(errorsIndex.get(Objects.requireNonNull(id)));
+    }
+
+    /**
+     * Create a contract with the methods of the ABI.
+     *
+     * @param address a contract address
+     * @return a contract
+     */
+    public Contract toContract(Address address) {
+        return new Contract(address, methods);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{methods=%s,events=%s,errors=%s}",
+                getClass().getSimpleName(), methods, events, errors);
+    }
+}
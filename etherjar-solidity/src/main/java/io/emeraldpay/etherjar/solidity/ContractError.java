@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.solidity;
+
+import io.emeraldpay.etherjar.domain.MethodId;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A smart contract custom error (ABI), returned as revert data with a 4-byte selector, same as a method call.
+ *
+ * @see ContractAbi
+ */
+public class ContractError {
+
+    private final MethodId id;
+
+    private final String name;
+
+    private final ContractParametersTypes inputTypes;
+
+    public ContractError(String name, ContractParametersTypes inputTypes) {
+        this.id = MethodId.fromSignature(name, inputTypes.toCanonicalNames());
+        this.name = Objects.requireNonNull(name);
+        this.inputTypes = Objects.requireNonNull(inputTypes);
+    }
+
+    /**
+     * @return the error selector
+     */
+    public MethodId getId() {
+        return id;
+    }
+
+    /**
+     * @return the error name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the error parameters
+     */
+    public ContractParametersTypes getInputTypes() {
+        return inputTypes;
+    }
+
+    /**
+     * Decode revert data of the error.
+     *
+     * @param data revert data starting with the error selector
+     * @return a list of decoded parameters
+     * @throws IllegalArgumentException if the data is for another error or invalid
+     */
+    public List<Object> decode(HexData data) {
+        if (!ContractMethod.startsWith(data, id))
+            throw new IllegalArgumentException("Not a revert data of error " + toAbi());
+
+        byte[] args = data.getBytes(MethodId.SIZE_BYTES, data.getSize() - MethodId.SIZE_BYTES);
+
+        return inputTypes.compile().decode(args, 0, args.length);
+    }
+
+    /**
+     * ABI encoded contract error signature.
+     *
+     * @return a string
+     */
+    public String toAbi() {
+        return String.format("%s(%s)", name, inputTypes.toAbi());
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(getClass(), id);
+    }
+
+    @Override
+    public final boolean equals(Object obj) {
+        if (!(obj instanceof ContractError))
+            return false;
+
+        ContractError other = (ContractError) obj;
+
+        return Objects.equals(id, other.id);
+    }
+
+    @Override
+    public String toString() {
+        return toAbi();
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.solidity;
+
+import io.emeraldpay.etherjar.abi.Type;
+import io.emeraldpay.etherjar.domain.EventId;
+
+import java.util.*;
+
+/**
+ * A smart contract event (ABI), with indexed inputs stored in the log topics and others in the log data.
+ *
+ * @see ContractAbi
+ */
+public class ContractEvent {
+
+    public static class Builder {
+
+        private String name;
+
+        private boolean isAnonymous = false;
+
+        private final List<Type> types = new ArrayList<>();
+
+        private final List<Boolean> indexed = new ArrayList<>();
+
+        /**
+         * @param name an event name
+         * @return the current builder object
+         */
+        public Builder withName(String name) {
+            this.name = Objects.requireNonNull(name);
+
+            return this;
+        }
+
+        /**
+         * Mark the event as anonymous, i.e. the first topic is not the event id.
+         *
+         * @return the current builder object
+         */
+        public Builder asAnonymous() {
+            this.isAnonymous = true;
+
+            return this;
+        }
+
+        /**
+         * Add the next input parameter.
+         *
+         * @param type a parameter type
+         * @param isIndexed {@code true} if the parameter is stored in a topic
+         * @return the current builder object
+         */
+        public Builder withInput(Type type, boolean isIndexed) {
+            this.types.add(Objects.requireNonNull(type));
+            this.indexed.add(isIndexed);
+
+            return this;
+        }
+
+        /**
+         * Build a {@link ContractEvent} object with predefined by builder conditions.
+         *
+         * @return a {@link ContractEvent} instance
+         */
+        public ContractEvent build() {
+            if (Objects.isNull(name))
+                throw new IllegalStateException("Undefined contract event name");
+
+            boolean[] flags = new boolean[indexed.size()];
+
+            for (int i = 0; i < flags.length; i++) {
+                flags[i] = indexed.get(i);
+            }
+
+            return new ContractEvent(name, isAnonymous, types, flags);
+        }
+    }
+
+    /**
+     * Max number of indexed parameters of a non-anonymous event, since the first of four topics is the event id.
+     */
+    public static final int MAX_INDEXED = 3;
+
+    private final EventId id;
+
+    private final String name;
+
+    private final boolean isAnonymous;
+
+    private final ContractParametersTypes inputTypes;
+
+    private final boolean[] indexed;
+
+    private final ContractParametersTypes indexedTypes;
+
+    private final ContractParametersTypes dataTypes;
+
+    ContractEvent(String name, boolean isAnonymous, List<Type> types, boolean[] indexed) {
+        this.name = Objects.requireNonNull(name);
+        this.isAnonymous = isAnonymous;
+        this.inputTypes = new ContractParametersTypes(types);
+        this.indexed = indexed.clone();
+
+        List<Type> topics = new ArrayList<>();
+        List<Type> data = new ArrayList<>();
+
+        for (int i = 0; i < types.size(); i++) {
+            (indexed[i] ? topics : data).add(types.get(i));
+        }
+
+        if (topics.size() > (isAnonymous ? MAX_INDEXED + 1 : MAX_INDEXED))
+            throw new IllegalArgumentException("Too many indexed parameters of event " + name + ": " + topics.size());
+
+        this.indexedTypes = new ContractParametersTypes(topics);
+        this.dataTypes = new ContractParametersTypes(data);
+        this.id = EventId.fromSignature(name, inputTypes.toCanonicalNames());
+    }
+
+    /**
+     * @return the event id, which is the first topic of a non-anonymous event log
+     */
+    public EventId getId() {
+        return id;
+    }
+
+    /**
+     * @return the event name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return {@code true} if the event log doesn't have its id as the first topic
+     */
+    public boolean isAnonymous() {
+        return isAnonymous;
+    }
+
+    /**
+     * @return all input parameters, in the declaration order
+     */
+    public ContractParametersTypes getInputTypes() {
+        return inputTypes;
+    }
+
+    /**
+     * @param index a parameter index in {@link #getInputTypes()}
+     * @return {@code true} if the parameter is stored in a topic
+     */
+    public boolean isIndexed(int index) {
+        return indexed[index];
+    }
+
+    /**
+     * @return parameters stored in the log topics, in the declaration order
+     */
+    public ContractParametersTypes getIndexedTypes() {
+        return indexedTypes;
+    }
+
+    /**
+     * @return parameters stored in the log data, in the declaration order
+     */
+    public ContractParametersTypes getDataTypes() {
+        return dataTypes;
+    }
+
+    /**
+     * ABI encoded contract event signature.
+     *
+     * @return a string
+     */
+    public String toAbi() {
+        return String.format("%s(%s)", name, inputTypes.toAbi());
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(getClass(), id, isAnonymous, Arrays.hashCode(indexed));
+    }
+
+    @Override
+    public final boolean equals(Object obj) {
+        if (!(obj instanceof ContractEvent))
+            return false;
+
+        ContractEvent other = (ContractEvent) obj;
+
+        return Objects.equals(id, other.id)
+                && isAnonymous == other.isAnonymous
+                && Arrays.equals(indexed, other.indexed);
+    }
+
+    @Override
+    public String toString() {
+        return toAbi();
+    }
+}
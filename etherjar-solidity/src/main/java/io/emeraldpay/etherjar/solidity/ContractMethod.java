@@ -17,6 +17,7 @@
 
 package io.emeraldpay.etherjar.solidity;
 
+import io.emeraldpay.etherjar.abi.CachingRepository;
 import io.emeraldpay.etherjar.abi.Type;
 import io.emeraldpay.etherjar.domain.MethodId;
 import io.emeraldpay.etherjar.hex.HexData;
@@ -132,7 +133,7 @@ public class ContractMethod {
     }
 
     final static Pattern ABI_PATTERN =
-            Pattern.compile("([_a-zA-Z]\\w*)\\(([^:()\\s]*)\\)(?::\\((\\S*)\\))?");
+            Pattern.compile("([_a-zA-Z]\\w*)\\(([^:\\s]*)\\)(?::\\((\\S*)\\))?");
 
     /**
      * Check contract method ABI signature.
@@ -142,7 +143,23 @@ public class ContractMethod {
      * @see #ABI_PATTERN
      */
     static boolean isAbiValid(String signature) {
-        return ABI_PATTERN.matcher(signature).matches();
+        Matcher m = ABI_PATTERN.matcher(signature);
+
+        return m.matches()
+                && ContractParametersTypes.isBalanced(m.group(2))
+                && (m.group(3) == null || ContractParametersTypes.isBalanced(m.group(3)));
+    }
+
+    /**
+     * Create an instance from methods signature like {@code transfer(address,uint256)} using
+     * the default {@link CachingRepository} with standard types.
+     *
+     * @param signature a contract method signature string representation
+     * @return a {@link ContractMethod} instance
+     * @see #fromAbi(Type.Repository, String)
+     */
+    public static ContractMethod fromAbi(String signature) {
+        return fromAbi(CachingRepository.getDefault(), signature);
     }
 
     /**
@@ -166,7 +183,7 @@ public class ContractMethod {
         String name = m.group(1);
 
         ContractParametersTypes in = ContractParametersTypes.fromAbi(repo, m.group(2));
-        ContractParametersTypes out = ContractParametersTypes.fromAbi(repo, m.group(3));
+        ContractParametersTypes out = ContractParametersTypes.fromAbi(repo, m.group(3) == null ? "" : m.group(3));
 
         return new Builder().withName(name).withInputTypes(in).withOutputTypes(out).build();
     }
@@ -267,7 +284,55 @@ public class ContractMethod {
      * @see <a href="https://github.com/ethereum/wiki/wiki/Ethereum-Contract-ABI#examples">Examples</a>
      */
     public HexData encodeCall(Collection<?> args) {
-        return id.concat(inputTypes.encode(args));
+        return new HexData(inputTypes.compile().encode(id.getBytes(), args));
+    }
+
+    /**
+     * Get an encoder of the method call data with precompiled layout, which is faster for encoding many calls of the same
+     * method than {@link #encodeCall(Collection)}. The encoder should be kept and reused.
+     *
+     * @return a new encoder instance
+     * @see ContractMethodEncoder
+     */
+    public ContractMethodEncoder compile() {
+        return new ContractMethodEncoder(this);
+    }
+
+    /**
+     * Decode call data (i.e. a transaction input) of the method into arguments values.
+     *
+     * @param input call data starting with the method id
+     * @return a list of decoded arguments
+     * @throws IllegalArgumentException if the data is for another method or invalid
+     * @see #encodeCall(Collection)
+     */
+    public List<Object> decodeCall(HexData input) {
+        if (!startsWith(input, id))
+            throw new IllegalArgumentException("Not a call data of method " + toAbi());
+
+        // copy only the arguments part, the selector is compared in place
+        byte[] args = input.getBytes(MethodId.SIZE_BYTES, input.getSize() - MethodId.SIZE_BYTES);
+
+        return inputTypes.compile().decode(args, 0, args.length);
+    }
+
+    /**
+     * Check the data starts with the selector, without copying either of them.
+     *
+     * @param data a call or revert data
+     * @param id a selector
+     * @return {@code true} if the first 4 bytes are the same as the selector
+     */
+    static boolean startsWith(HexData data, MethodId id) {
+        if (data.getSize() < MethodId.SIZE_BYTES)
+            return false;
+
+        for (int i = 0; i < MethodId.SIZE_BYTES; i++) {
+            if (data.get(i) != id.get(i))
+                return false;
+        }
+
+        return true;
     }
 
     /**
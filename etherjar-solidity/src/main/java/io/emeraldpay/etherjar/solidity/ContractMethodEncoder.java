@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.solidity;
+
+import io.emeraldpay.etherjar.domain.MethodId;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * A precompiled encoder of a {@link ContractMethod} call data.
+ *
+ * <p>It keeps a template with the method id and the head part of the arguments already in place, so encoding a call
+ * copies the template and writes only the argument values. Static arguments that are the same for all calls (ex. a token
+ * address or a deadline) can be bound with {@link #bind(int, Object)}, which encodes them into the template once,
+ * and then only the rest of the arguments are passed to {@link #encode(Object...)}. For a method with only static
+ * arguments, like {@code transfer(address,uint256)}, encoding is a single array copy plus a write per argument.
+ *
+ * <pre>{@code
+ * ContractMethodEncoder transfer = ContractMethod.fromAbi("transfer(address,uint256)").compile();
+ * for (Payment p : payments) {
+ *     HexData data = transfer.encode(p.getTo(), p.getAmount());
+ * }
+ * }</pre>
+ *
+ * <p>Immutable and thread-safe.
+ *
+ * @see ContractMethod#compile()
+ */
+public final class ContractMethodEncoder {
+
+    private final ContractMethod method;
+
+    private final ContractParametersCodec codec;
+
+    private final byte[] template;
+
+    /**
+     * Indexes of the parameters which are not bound, i.e. expected as {@link #encode(Object...)} arguments
+     */
+    private final int[] free;
+
+    ContractMethodEncoder(ContractMethod method) {
+        this.method = method;
+        this.codec = method.getInputTypes().compile();
+        this.template = new byte[MethodId.SIZE_BYTES + codec.getHeadSize()];
+        this.free = new int[codec.size()];
+
+        method.getId().copyTo(template, 0);
+
+        for (int i = 0; i < free.length; i++)
+            free[i] = i;
+    }
+
+    private ContractMethodEncoder(ContractMethodEncoder parent, byte[] template, int[] free) {
+        this.method = parent.method;
+        this.codec = parent.codec;
+        this.template = template;
+        this.free = free;
+    }
+
+    /**
+     * @return the encoded method
+     */
+    public ContractMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * @return {@code true} if all the method parameters are static, i.e. encoded call size is always the same
+     */
+    public boolean isStatic() {
+        return codec.isStatic();
+    }
+
+    /**
+     * @return number of arguments expected by {@link #encode(Object...)}
+     */
+    public int getArgumentsCount() {
+        return free.length;
+    }
+
+    /**
+     * Create an encoder with a fixed value of a static parameter, encoded into the template once.
+     *
+     * @param index index of the parameter in the method signature
+     * @param value the parameter value
+     * @return a new encoder, which doesn't expect the bound parameter in {@link #encode(Object...)}
+     * @throws IllegalArgumentException if the parameter is dynamic
+     * @throws IllegalStateException if the parameter is already bound
+     */
+    public ContractMethodEncoder bind(int index, Object value) {
+        Objects.checkIndex(index, codec.size());
+
+        if (codec.isDynamic(index))
+            throw new IllegalArgumentException(
+                    "Only a static parameter can be bound: " + method.getInputTypes().getTypes().get(index));
+
+        int pos = Arrays.binarySearch(free, index);
+
+        if (pos < 0)
+            throw new IllegalStateException("Parameter is already bound: " + index);
+
+        byte[] updated = template.clone();
+        codec.encodeTo(index, value, updated, MethodId.SIZE_BYTES);
+
+        int[] rest = new int[free.length - 1];
+        System.arraycopy(free, 0, rest, 0, pos);
+        System.arraycopy(free, pos + 1, rest, pos, rest.length - pos);
+
+        return new ContractMethodEncoder(this, updated, rest);
+    }
+
+    /**
+     * Encode call data.
+     *
+     * @param args values of the parameters which are not bound, in the order of the method signature
+     * @return {@link HexData} encoded call
+     * @see #encode(Collection)
+     */
+    public HexData encode(Object... args) {
+        return new HexData(encodeArray(args));
+    }
+
+    /**
+     * Encode call data.
+     *
+     * @param args values of the parameters which are not bound, in the order of the method signature
+     * @return {@link HexData} encoded call
+     * @see #encode(Object...)
+     */
+    public HexData encode(Collection<?> args) {
+        return new HexData(encodeArray(args.toArray()));
+    }
+
+    private byte[] encodeArray(Object[] args) {
+        if (args.length != free.length)
+            throw new IllegalArgumentException("Wrong number of input parameters: " + args.length);
+
+        // bound values are already in the template, and the free ones are written in place after it
+        byte[] buf = Arrays.copyOf(template, MethodId.SIZE_BYTES + codec.getEncodedSize(free, args));
+
+        codec.encodeTo(free, args, buf, MethodId.SIZE_BYTES);
+
+        return buf;
+    }
+
+    @Override
+    public String toString() {
+        return "ContractMethodEncoder{" + method.toAbi() + "}";
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.solidity;
+
+import io.emeraldpay.etherjar.abi.ArrayReader;
+import io.emeraldpay.etherjar.abi.DynamicArrayType;
+import io.emeraldpay.etherjar.abi.TupleType;
+import io.emeraldpay.etherjar.abi.Type;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.util.*;
+
+/**
+ * A reusable encoder/decoder for a {@link ContractParametersTypes} with a precomputed layout.
+ *
+ * <p>The position of each parameter in the head part is computed once, so encoding writes the head and tail parts
+ * directly into a single pre-sized array, and decoding reads the head values by their static offsets.
+ *
+ * <p>Immutable and thread-safe.
+ *
+ * @see ContractParametersTypes#compile()
+ */
+public final class ContractParametersCodec {
+
+    private final Type[] types;
+
+    private final int[] headOffsets;
+
+    private final int headSize;
+
+    private final int dynamicCount;
+
+    /**
+     * Indexes of all the parameters
+     */
+    private final int[] all;
+
+    ContractParametersCodec(List<Type> types) {
+        int size = types.size();
+
+        this.types = types.toArray(new Type[0]);
+        this.headOffsets = new int[size];
+
+        int offset = 0;
+        int dynamic = 0;
+
+        for (int i = 0; i < size; i++) {
+            Type type = this.types[i];
+
+            headOffsets[i] = offset;
+            offset += type.getFixedSize();
+
+            if (type.isDynamic())
+                dynamic++;
+        }
+
+        this.headSize = offset;
+        this.dynamicCount = dynamic;
+        this.all = new int[size];
+
+        for (int i = 0; i < size; i++)
+            all[i] = i;
+    }
+
+    /**
+     * @return size of the head part in bytes, which is the full size if there are no dynamic types
+     */
+    public int getHeadSize() {
+        return headSize;
+    }
+
+    /**
+     * @return {@code true} if all the types are static, i.e. encoded size is always the same
+     */
+    public boolean isStatic() {
+        return dynamicCount == 0;
+    }
+
+    /**
+     * Encode arguments values.
+     *
+     * @param args a collection of arguments values
+     * @return an encoded hex data
+     */
+    public HexData encode(Collection<?> args) {
+        return new HexData(encode(null, args));
+    }
+
+    /**
+     * Encode arguments values after the provided prefix (ex. a method id), into a single array.
+     *
+     * @param prefix bytes to put before the encoded arguments, or {@code null}
+     * @param args a collection of arguments values
+     * @return an array with the prefix followed by the encoded arguments
+     */
+    public byte[] encode(byte[] prefix, Collection<?> args) {
+        if (types.length != args.size())
+            throw new IllegalArgumentException("Wrong number of input parameters: " + args.size());
+
+        Object[] values = args.toArray();
+        int start = prefix == null ? 0 : prefix.length;
+        byte[] buf = new byte[start + getEncodedSize(all, values)];
+
+        if (start > 0)
+            System.arraycopy(prefix, 0, buf, 0, start);
+
+        encodeTo(all, values, buf, start);
+
+        return buf;
+    }
+
+    /**
+     * Calculate the encoded size of the parameters, as the head part with the tail values of the provided parameters.
+     *
+     * @param indexes indexes of the parameters, ascending
+     * @param values values of the parameters, in the same order as the indexes
+     * @return size in bytes
+     */
+    @SuppressWarnings("unchecked")
+    int getEncodedSize(int[] indexes, Object[] values) {
+        int size = headSize;
+
+        if (dynamicCount == 0)
+            return size;
+
+        for (int i = 0; i < indexes.length; i++) {
+            Type type = types[indexes[i]];
+
+            if (type.isDynamic())
+                size += type.getEncodedSize(values[i]);
+        }
+
+        return size;
+    }
+
+    /**
+     * Write encoded values into an array, static values in the head part by their offsets
+     * and dynamic values one by one in the tail part right after the head. Parameters which are not listed
+     * are expected to be static and already in place (see {@link #encodeTo(int, Object, byte[], int)}).
+     *
+     * @param indexes indexes of the parameters, ascending
+     * @param values values of the parameters, in the same order as the indexes
+     * @param buf a zero filled target array with enough space for the encoded values
+     * @param offset position of the encoded values in the target array
+     * @return number of bytes of the encoded values
+     */
+    @SuppressWarnings("unchecked")
+    int encodeTo(int[] indexes, Object[] values, byte[] buf, int offset) {
+        int tailOffset = headSize;
+
+        for (int i = 0; i < indexes.length; i++) {
+            int index = indexes[i];
+            Type type = types[index];
+            int pos = offset + headOffsets[index];
+
+            if (type.isDynamic()) {
+                TupleType.writeOffset(buf, pos, tailOffset);
+                tailOffset += type.encodeTo(values[i], buf, offset + tailOffset);
+            } else {
+                type.encodeTo(values[i], buf, pos);
+            }
+        }
+
+        return tailOffset;
+    }
+
+    /**
+     * Write a single static value at its position in the head part.
+     *
+     * @param index index of the parameter
+     * @param value the parameter value
+     * @param buf a target array
+     * @param offset position of the encoded values in the target array
+     * @throws IllegalArgumentException if the parameter is dynamic
+     */
+    @SuppressWarnings("unchecked")
+    void encodeTo(int index, Object value, byte[] buf, int offset) {
+        Objects.checkIndex(index, types.length);
+
+        if (types[index].isDynamic())
+            throw new IllegalArgumentException("Not a static parameter: " + types[index]);
+
+        types[index].encodeTo(value, buf, offset + headOffsets[index]);
+    }
+
+    /**
+     * @param index index of the parameter
+     * @return {@code true} if the parameter is dynamic
+     */
+    boolean isDynamic(int index) {
+        return types[Objects.checkIndex(index, types.length)].isDynamic();
+    }
+
+    /**
+     * @return number of the parameters
+     */
+    int size() {
+        return types.length;
+    }
+
+    /**
+     * Decode a hex data into a list of object values.
+     *
+     * @param data a hex data
+     * @return a list of decoded objects
+     */
+    public List<Object> decode(HexData data) {
+        // a single copy of the input, all values are decoded from it by their offsets
+        byte[] bytes = data.getBytes();
+
+        return decode(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Decode a part of an array into a list of object values.
+     *
+     * @param data an array with encoded values
+     * @param offset position of the encoded values in the array
+     * @param length length of the encoded values
+     * @return a list of decoded objects
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object> decode(byte[] data, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > data.length)
+            throw new IndexOutOfBoundsException("Invalid range " + offset + ".." + (offset + length) + " of " + data.length);
+
+        if (length < headSize)
+            throw new IllegalArgumentException("Insufficient data length to decode: " + length);
+
+        if (dynamicCount == 0 && length != headSize)
+            throw new IllegalStateException("Wrong tail part of data to decode: " + length + " bytes");
+
+        int[] tailOffsets = dynamicCount == 0
+                ? null
+                : TupleType.readTailOffsets(data, offset, length, types, headOffsets, headSize);
+
+        Object[] buf = new Object[types.length];
+        int dynamic = 0;
+
+        for (int i = 0; i < types.length; i++) {
+            int pos = offset + headOffsets[i];
+            Type type = types[i];
+
+            if (type.isStatic()) {
+                buf[i] = type.decode(data, pos, type.getFixedSize());
+            } else {
+                int from = tailOffsets[dynamic];
+                int to = dynamic + 1 < dynamicCount ? tailOffsets[dynamic + 1] : length;
+
+                buf[i] = type.decode(data, offset + from, to - from);
+                dynamic++;
+            }
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(buf));
+    }
+
+    /**
+     * Get a reader of a dynamic array parameter, which decodes the array elements one by one instead of
+     * building the whole array. Other parameters are not decoded.
+     *
+     * @param data an array with encoded values, should not be modified while reading
+     * @param offset position of the encoded values in the array
+     * @param length length of the encoded values
+     * @param index index of the parameter, which must be a {@link DynamicArrayType}
+     * @param <T> type of the array elements
+     * @return an array reader
+     * @throws IllegalStateException if the parameter is not a dynamic array
+     * @see DynamicArrayType#read(byte[], int, int)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ArrayReader<T> readArray(byte[] data, int offset, int length, int index) {
+        if (offset < 0 || length < 0 || offset + length > data.length)
+            throw new IndexOutOfBoundsException("Invalid range " + offset + ".." + (offset + length) + " of " + data.length);
+
+        Objects.checkIndex(index, types.length);
+
+        if (!(types[index] instanceof DynamicArrayType))
+            throw new IllegalStateException("Parameter " + index + " is not a dynamic array: " + types[index]);
+
+        if (length < headSize)
+            throw new IllegalArgumentException("Insufficient data length to decode: " + length);
+
+        int[] tailOffsets = TupleType.readTailOffsets(data, offset, length, types, headOffsets, headSize);
+        int dynamic = 0;
+
+        for (int i = 0; i < index; i++) {
+            if (types[i].isDynamic())
+                dynamic++;
+        }
+
+        int from = tailOffsets[dynamic];
+        int to = dynamic + 1 < dynamicCount ? tailOffsets[dynamic + 1] : length;
+
+        return ((DynamicArrayType<T>) types[index]).read(data, offset + from, to - from);
+    }
+}
@@ -17,8 +17,10 @@
 
 package io.emeraldpay.etherjar.solidity;
 
+import io.emeraldpay.etherjar.abi.ArrayReader;
+import io.emeraldpay.etherjar.abi.CachingRepository;
+import io.emeraldpay.etherjar.abi.TupleType;
 import io.emeraldpay.etherjar.abi.Type;
-import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
 
 import java.util.*;
@@ -36,7 +38,7 @@ public class ContractParametersTypes {
 
     public static final ContractParametersTypes EMPTY = new ContractParametersTypes();
 
-    final static Pattern ABI_PATTERN = Pattern.compile("[a-z0-9<>\\[\\]]*(,[a-z0-9<>\\[\\]]+)*");
+    final static Pattern ABI_PATTERN = Pattern.compile("[a-z0-9<>\\[\\]()]*(,[a-z0-9<>\\[\\]()]+)*");
 
     /**
      * Check parameters types ABI signature.
@@ -46,14 +48,48 @@ public class ContractParametersTypes {
      * @see #ABI_PATTERN
      */
     static boolean isAbiValid(String signature) {
-        return ABI_PATTERN.matcher(signature).matches();
+        return ABI_PATTERN.matcher(signature).matches() && isBalanced(signature);
+    }
+
+    /**
+     * Check parentheses of tuple types are balanced.
+     *
+     * @param signature a parameters signature string representation
+     * @return {@code true} if every tuple is closed, otherwise {@code false}
+     */
+    static boolean isBalanced(String signature) {
+        int depth = 0;
+
+        for (int i = 0; i < signature.length(); i++) {
+            char c = signature.charAt(i);
+
+            if (c == '(')
+                depth++;
+            else if (c == ')' && --depth < 0)
+                return false;
+        }
+
+        return depth == 0;
+    }
+
+    /**
+     * Create an instance from signature like {@code 'address,uint256'} using the default
+     * {@link CachingRepository} with standard types.
+     *
+     * @param signature a parameters signature string representation
+     * @return a {@link ContractParametersTypes} instance
+     * @see #fromAbi(Type.Repository, String)
+     */
+    public static ContractParametersTypes fromAbi(String signature) {
+        return fromAbi(CachingRepository.getDefault(), signature);
     }
 
     /**
      * Create an instance from signature like {@code 'address,uint256'}.
      *
      * <p>The signature is defined as a string expression of a list of either canonical
-     * or not parameter types, are split by a single comma - no spaces are used.
+     * or not parameter types, are split by a single comma - no spaces are used. Tuple types
+     * are in parentheses, like {@code '(address,bytes)[]'}.
      *
      * @param repo a {@link Type} parsers repository
      * @param signature a parameters signature string representation
@@ -69,7 +105,7 @@ public class ContractParametersTypes {
 
         List<Type> types = new ArrayList<>();
 
-        for (String str : signature.split(",")) {
+        for (String str : TupleType.splitTypes(signature)) {
             Optional<Type> type = repo.search(str);
 
             if (!type.isPresent())
@@ -83,12 +119,15 @@ public class ContractParametersTypes {
 
     private final List<Type> types;
 
+    private final ContractParametersCodec codec;
+
     public ContractParametersTypes(Type... types) {
         this(Arrays.asList(types));
     }
 
     public ContractParametersTypes(Collection<? extends Type> types) {
         this.types = Collections.unmodifiableList(new ArrayList<>(types));
+        this.codec = new ContractParametersCodec(this.types);
     }
 
     /**
@@ -137,37 +176,8 @@ public class ContractParametersTypes {
      * @return an encoded hex data
      * @see #encode(Object...)
      */
-    @SuppressWarnings("unchecked")
     public HexData encode(Collection<?> args) {
-        if (types.size() != args.size())
-            throw new IllegalArgumentException("Wrong number of input parameters: " + args.size());
-
-        long headBytesSize = getFixedSize();
-        long tailBytesSize = 0;
-
-        List<HexData> buf = new ArrayList<>();
-        List<HexData> tail = new ArrayList<>();
-
-        int i = 0;
-
-        for (Object obj : args) {
-            Type type = types.get(i++);
-
-            HexData data = type.encode(obj);
-
-            if (type.isStatic()) {
-                buf.add(data);
-            } else {
-                buf.add(Type.encodeLength(headBytesSize + tailBytesSize));
-
-                tailBytesSize += data.getSize();
-                tail.add(data);
-            }
-        }
-
-        buf.addAll(tail);
-
-        return HexData.combine(buf);
+        return codec.encode(args);
     }
 
     /**
@@ -179,44 +189,33 @@ public class ContractParametersTypes {
      * @see #encode(Collection)
      */
     public List<Object> decode(HexData data) {
-        int headBytesSize = getFixedSize();
-
-        if (data.getSize() < headBytesSize)
-            throw new IllegalArgumentException(
-                    "Insufficient data length to decode: " + data.getSize());
-
-        List<Object> buf = new ArrayList<>(types.size());
-
-        int headBytesPos = headBytesSize;
-        int tailBytesPos = data.getSize();
-
-        for (int i = types.size() - 1; i >= 0; i--) {
-            Type type = types.get(i);
-
-            headBytesPos -= type.getFixedSize();
-
-            HexData chunk = data.extract(type.getFixedSize(), headBytesPos);
-
-            if (type.isStatic()) {
-                buf.add(type.decode(chunk));
-            } else {
-                int offset = Type.decodeLength(Hex32.from(chunk)).intValueExact();
-
-                if (offset < headBytesSize || offset >= tailBytesPos)
-                    throw new IllegalArgumentException("Illegal tail bytes offset: " + offset);
-
-                buf.add(type.decode(data.extract(tailBytesPos - offset, offset)));
-
-                tailBytesPos = offset;
-            }
-        }
+        return codec.decode(data);
+    }
 
-        if (tailBytesPos != headBytesSize)
-            throw new IllegalStateException("Wrong tail part of data to decode: " + data.toHex());
+    /**
+     * Get a reader of a dynamic array parameter in a response, which decodes the array elements one by one
+     * instead of building the whole array. Useful for view methods returning large lists.
+     *
+     * @param data a hex data
+     * @param index index of the parameter, which must be a dynamic array
+     * @param <T> type of the array elements
+     * @return an array reader
+     * @see ContractParametersCodec#readArray(byte[], int, int, int)
+     */
+    public <T> ArrayReader<T> readArray(HexData data, int index) {
+        byte[] bytes = data.getBytes();
 
-        Collections.reverse(buf);
+        return codec.readArray(bytes, 0, bytes.length, index);
+    }
 
-        return Collections.unmodifiableList(buf);
+    /**
+     * Get a reusable codec with the head/tail layout of the current parameters types,
+     * which is used by {@link #encode(Collection)} and {@link #decode(HexData)}.
+     *
+     * @return a codec instance
+     */
+    public ContractParametersCodec compile() {
+        return codec;
     }
 
     /**
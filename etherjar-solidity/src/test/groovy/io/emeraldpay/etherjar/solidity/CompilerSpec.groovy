@@ -18,10 +18,18 @@
 package io.emeraldpay.etherjar.solidity
 
 import spock.lang.Ignore
+import spock.lang.IgnoreIf
 import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
 
 class CompilerSpec extends Specification {
 
+    @TempDir
+    Path dir
+
     //
     // !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!
     //
@@ -110,4 +118,182 @@ class CompilerSpec extends Specification {
         !act.success
         act.count == 0
     }
+
+    /**
+     * A fake solc, which counts executions and always produces the same Foo contract
+     */
+    Path fakeSolc() {
+        Path solc = dir.resolve("solc")
+        solc.text = """#!/bin/sh
+if [ "\$1" = "--version" ]; then echo "solc, 0.8.0-fake"; exit 0; fi
+echo run >> ${dir}/count
+echo 6001 > Foo.bin
+echo '[{"type":"function","name":"doit"}]' > Foo.abi
+"""
+        solc.toFile().setExecutable(true)
+        return solc
+    }
+
+    int executions() {
+        Path count = dir.resolve("count")
+        return Files.exists(count) ? count.readLines().size() : 0
+    }
+
+    @IgnoreIf({ os.windows })
+    def "Reuse cached result"() {
+        setup:
+        Compiler compiler = Compiler.newBuilder()
+                .withSolc(fakeSolc())
+                .withCache(dir.resolve("cache"))
+                .build()
+        when:
+        def first = compiler.compile("contract Foo {}")
+        def second = compiler.compile("contract Foo {}")
+        then:
+        executions() == 1
+        second.success
+        second.names == ["Foo"]
+        second.getContract("Foo").compiled == first.getContract("Foo").compiled
+        second.getContract("Foo").abi == first.getContract("Foo").abi
+        when:
+        compiler.compile("contract Foo { uint256 x; }")
+        then:
+        executions() == 2
+    }
+
+    @IgnoreIf({ os.windows })
+    def "Cache per optimize flag"() {
+        setup:
+        def builder = Compiler.newBuilder()
+                .withSolc(fakeSolc())
+                .withCache(dir.resolve("cache"))
+        when:
+        builder.optimize(true).build().compile("contract Foo {}")
+        builder.optimize(false).build().compile("contract Foo {}")
+        builder.optimize(false).build().compile("contract Foo {}")
+        then:
+        executions() == 2
+    }
+
+    @IgnoreIf({ os.windows })
+    def "Compile multiple sources"() {
+        setup:
+        Compiler compiler = Compiler.newBuilder()
+                .withSolc(fakeSolc())
+                .parallelism(2)
+                .build()
+        when:
+        def act = compiler.compileAll(["contract A {}", "contract B {}", "contract A {}", "contract C {}"])
+        then:
+        act.size() == 4
+        act.every { it.success && it.names == ["Foo"] }
+        act[0].is(act[2])
+        executions() == 3
+    }
+
+    def "Fail with invalid parallelism"() {
+        when:
+        Compiler.newBuilder().parallelism(0)
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    static final String STANDARD_JSON_OUTPUT = """{
+        "errors": [{"component": "general", "formattedMessage": "Warning: Unused local variable.", "message": "Unused local variable.", "severity": "warning", "type": "Warning"}],
+        "sources": {"contract.sol": {"id": 0, "ast": {"nodeType": "SourceUnit", "nodes": []}}},
+        "contracts": {
+            "contract.sol": {
+                "IFoo": {"abi": [], "evm": {"bytecode": {"object": "", "opcodes": ""}}},
+                "Foo": {
+                    "abi": [{"inputs": [], "name": "doit", "outputs": [{"type": "uint256"}], "type": "function"}],
+                    "metadata": "{}",
+                    "evm": {"bytecode": {"linkReferences": {}, "object": "6080604052"}}
+                }
+            }
+        }
+    }"""
+
+    def "Read standard json output"() {
+        setup:
+        Compiler compiler = Compiler.newBuilder()
+                .withSolc("solc")
+                .build()
+        when:
+        def act = compiler.processStandardJsonResult(new ByteArrayInputStream(STANDARD_JSON_OUTPUT.bytes))
+        then:
+        act.success
+        act.names == ["IFoo", "Foo"]
+        act.getContract("Foo").compiled.toHex() == "0x6080604052"
+        act.getContract("Foo").abi == '[{"inputs":[],"name":"doit","outputs":[{"type":"uint256"}],"type":"function"}]'
+        act.getContract("IFoo").compiled == null
+        act.getContract("IFoo").abi == "[]"
+        act.errors.isEmpty()
+        act.stderr == ["Warning: Unused local variable."]
+    }
+
+    def "Read standard json output with errors"() {
+        setup:
+        Compiler compiler = Compiler.newBuilder()
+                .withSolc("solc")
+                .build()
+        String output = """{"errors": [{"formattedMessage": "ParserError: Expected ';'", "message": "Expected ';'", "severity": "error"}], "sources": {}}"""
+        when:
+        def act = compiler.processStandardJsonResult(new ByteArrayInputStream(output.bytes))
+        then:
+        !act.success
+        act.count == 0
+        act.errors == ["ParserError: Expected ';'"]
+    }
+
+    def "Write standard json input"() {
+        setup:
+        Compiler compiler = Compiler.newBuilder()
+                .withSolc("solc")
+                .build()
+        def output = new ByteArrayOutputStream()
+        when:
+        compiler.writeStandardJsonInput(output, "contract Foo {}")
+        then:
+        output.toString("UTF-8") == '{"language":"Solidity",' +
+            '"sources":{"contract.sol":{"content":"contract Foo {}"}},' +
+            '"settings":{"optimizer":{"enabled":false},"outputSelection":{"*":{"*":["abi","evm.bytecode.object"]}}}}'
+    }
+
+    @IgnoreIf({ os.windows })
+    def "Compile with standard json"() {
+        setup:
+        Path solc = dir.resolve("solc")
+        solc.text = "#!/bin/sh\ncat > ${dir}/input.json\ncat <<'JSON'\n${STANDARD_JSON_OUTPUT}\nJSON\n"
+        solc.toFile().setExecutable(true)
+        Compiler compiler = Compiler.newBuilder()
+                .withSolc(solc)
+                .standardJson(true)
+                .build()
+        when:
+        def act = compiler.compile("contract Foo {}")
+        then:
+        act.success
+        act.names == ["IFoo", "Foo"]
+        act.getContract("Foo").compiled.toHex() == "0x6080604052"
+        dir.resolve("input.json").text.contains('"content":"contract Foo {}"')
+    }
+
+    @IgnoreIf({ os.windows })
+    def "Keep errors of failed standard json compilation"() {
+        setup:
+        Path solc = dir.resolve("solc")
+        String output = """{"errors": [{"formattedMessage": "ParserError: Expected ';'", "severity": "error"}]}"""
+        solc.text = "#!/bin/sh\ncat > /dev/null\necho 'Compilation failed' >&2\ncat <<'JSON'\n${output}\nJSON\nexit 1\n"
+        solc.toFile().setExecutable(true)
+        Compiler compiler = Compiler.newBuilder()
+                .withSolc(solc)
+                .standardJson(true)
+                .build()
+        when:
+        def act = compiler.compile("contract Foo {")
+        then:
+        !act.success
+        act.errors == ["ParserError: Expected ';'"]
+        act.stderr == ["Compilation failed"]
+    }
 }
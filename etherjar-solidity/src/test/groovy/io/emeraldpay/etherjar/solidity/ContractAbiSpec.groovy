@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.solidity
+
+import io.emeraldpay.etherjar.abi.TupleType
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.EventId
+import io.emeraldpay.etherjar.domain.MethodId
+import io.emeraldpay.etherjar.hex.HexData
+import spock.lang.Shared
+import spock.lang.Specification
+
+class ContractAbiSpec extends Specification {
+
+    static final String JSON = '''[
+        {"type": "function", "name": "transfer", "stateMutability": "nonpayable",
+         "inputs": [{"name": "to", "type": "address"}, {"name": "value", "type": "uint256"}],
+         "outputs": [{"name": "", "type": "bool"}]},
+        {"type": "function", "name": "balanceOf", "stateMutability": "view",
+         "inputs": [{"name": "owner", "type": "address"}],
+         "outputs": [{"name": "", "type": "uint256"}]},
+        {"type": "function", "name": "aggregate", "stateMutability": "payable",
+         "inputs": [{"name": "calls", "type": "tuple[]", "components": [
+            {"name": "target", "type": "address"}, {"name": "callData", "type": "bytes"}]}],
+         "outputs": [{"name": "blockNumber", "type": "uint256"}, {"name": "returnData", "type": "bytes[]"}]},
+        {"type": "event", "name": "Transfer", "anonymous": false,
+         "inputs": [{"name": "from", "type": "address", "indexed": true},
+                    {"name": "to", "type": "address", "indexed": true},
+                    {"name": "value", "type": "uint256", "indexed": false}]},
+        {"type": "event", "name": "Hidden", "anonymous": true,
+         "inputs": [{"name": "value", "type": "uint256", "indexed": true}]},
+        {"type": "error", "name": "InsufficientBalance",
+         "inputs": [{"name": "available", "type": "uint256"}, {"name": "required", "type": "uint256"}]},
+        {"type": "constructor", "inputs": []},
+        {"type": "fallback", "stateMutability": "payable"}
+    ]'''
+
+    @Shared ContractAbi abi = ContractAbi.fromJson(JSON)
+
+    def "should load all definitions"() {
+        expect:
+        abi.methods*.toAbi() == ['transfer(address,uint256):(bool)', 'balanceOf(address):(uint256)', 'aggregate((address,bytes)[]):(uint256,bytes[])']
+        abi.events*.toAbi() == ['Transfer(address,address,uint256)', 'Hidden(uint256)']
+        abi.errors*.toAbi() == ['InsufficientBalance(uint256,uint256)']
+    }
+
+    def "should detect constant methods"() {
+        expect:
+        !abi.findMethod(MethodId.from('0xa9059cbb')).get().constant
+        abi.findMethod(MethodId.from('0x70a08231')).get().constant
+    }
+
+    def "should find methods by selector"() {
+        expect:
+        abi.findMethod(MethodId.from(id)).map { it.name } == Optional.ofNullable(name)
+
+        where:
+        id              | name
+        '0xa9059cbb'    | 'transfer'
+        '0x70a08231'    | 'balanceOf'
+        '0x252dba42'    | 'aggregate'
+        '0x00000000'    | null
+    }
+
+    def "should find method for call data and decode it"() {
+        def address = Address.from('0x1111111111111111111111111111111111111111')
+        def input = abi.methods[0].encodeCall(address, BigInteger.TEN)
+
+        when:
+        def method = abi.findMethodForInput(input)
+
+        then:
+        method.present
+        method.get().decodeCall(input) == [address, BigInteger.TEN]
+        !abi.findMethodForInput(HexData.from('0xa905')).present
+    }
+
+    def "should load tuple parameters"() {
+        when:
+        def type = abi.findMethod(MethodId.from('0x252dba42')).get().inputTypes.types[0]
+
+        then:
+        type.canonicalName == '(address,bytes)[]'
+        type.wrappedType instanceof TupleType
+    }
+
+    def "should find events by topic"() {
+        when:
+        def event = abi.findEvent(EventId.from('0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef'))
+
+        then:
+        event.present
+        event.get().name == 'Transfer'
+        event.get().isIndexed(0)
+        event.get().isIndexed(1)
+        !event.get().isIndexed(2)
+        event.get().indexedTypes.toAbi() == 'address,address'
+        event.get().dataTypes.toAbi() == 'uint256'
+    }
+
+    def "should not index anonymous events"() {
+        def hidden = abi.events[1]
+
+        expect:
+        hidden.anonymous
+        !abi.findEvent(hidden.id).present
+    }
+
+    def "should find errors by selector"() {
+        when:
+        def error = abi.findError(MethodId.from('0xcf479181'))
+        def data = HexData.from('0xcf479181' +
+                '0000000000000000000000000000000000000000000000000000000000000001' +
+                '0000000000000000000000000000000000000000000000000000000000000002')
+
+        then:
+        error.present
+        error.get().decode(data) == [BigInteger.ONE, BigInteger.TWO]
+    }
+
+    def "should catch invalid ABI"() {
+        when:
+        ContractAbi.fromJson(json)
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        _ | json
+        _ | '{}'
+        _ | '[{"type": "function", "inputs": []}]'
+        _ | '[{"type": "function", "name": "foo", "inputs": [{"name": "a", "type": "foo"}]}]'
+        _ | '[{"type": "function", "name": "foo", "inputs": [{"name": "a"}]}]'
+        _ | '[{"type": "event", "name": "Foo", "inputs": [' +
+                '{"type": "uint8", "indexed": true}, {"type": "uint8", "indexed": true},' +
+                '{"type": "uint8", "indexed": true}, {"type": "uint8", "indexed": true}]}]'
+    }
+}
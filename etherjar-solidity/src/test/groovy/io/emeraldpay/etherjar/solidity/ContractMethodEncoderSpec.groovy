@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.solidity
+
+import io.emeraldpay.etherjar.domain.Address
+import spock.lang.Specification
+
+class ContractMethodEncoderSpec extends Specification {
+
+    static final Address TO = Address.from("0x3cd751e6b0078be393132286c442345e5dc49699")
+
+    def "should encode static call"() {
+        when:
+        def encoder = ContractMethod.fromAbi('baz(uint32,bool)').compile()
+
+        then:
+        encoder.static
+        encoder.argumentsCount == 2
+        encoder.encode(69G, 1G).toHex() ==
+                '0xcdcd77c0' +
+                '0000000000000000000000000000000000000000000000000000000000000045' +
+                '0000000000000000000000000000000000000000000000000000000000000001'
+    }
+
+    def "should encode same as method"() {
+        given:
+        def method = ContractMethod.fromAbi(abi)
+
+        expect:
+        method.compile().encode(args) == method.encodeCall(args)
+
+        where:
+        abi                                         | args
+        'transfer(address,uint256)'                 | [TO, 10G]
+        'sam(bytes,bool,uint256[])'                 | ['dave'.bytes, true, [1G, 2G, 3G] as BigInteger[]]
+        'f(uint256,uint32[],bytes10,bytes)'         | [0x123G, [0x456G, 0x789G] as BigInteger[], '1234567890'.bytes, 'Hello, world!'.bytes]
+        'g(string,address,string)'                  | ['one', TO, 'two']
+        'empty()'                                   | []
+    }
+
+    def "should encode with bound parameters"() {
+        given:
+        def method = ContractMethod.fromAbi('f(uint256,uint32[],address,bytes)')
+        def args = [0x123G, [0x456G, 0x789G] as BigInteger[], TO, 'Hello, world!'.bytes]
+
+        when:
+        def encoder = method.compile().bind(2, TO).bind(0, 0x123G)
+
+        then:
+        encoder.argumentsCount == 2
+        encoder.encode(args[1], args[3]) == method.encodeCall(args)
+    }
+
+    def "should not change original encoder when bound"() {
+        given:
+        def encoder = ContractMethod.fromAbi('transfer(address,uint256)').compile()
+
+        when:
+        def bound = encoder.bind(1, 10G)
+
+        then:
+        bound.encode(TO) == encoder.encode(TO, 10G)
+        encoder.argumentsCount == 2
+    }
+
+    def "should catch wrong number of arguments"() {
+        given:
+        def encoder = ContractMethod.fromAbi('transfer(address,uint256)').compile().bind(0, TO)
+
+        when:
+        encoder.encode(TO, 10G)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should bind only static parameters once"() {
+        given:
+        def encoder = ContractMethod.fromAbi('g(string,address)').compile()
+
+        when:
+        encoder.bind(0, 'one')
+
+        then:
+        thrown IllegalArgumentException
+
+        when:
+        encoder.bind(1, TO).bind(1, TO)
+
+        then:
+        thrown IllegalStateException
+
+        when:
+        encoder.bind(2, TO)
+
+        then:
+        thrown IndexOutOfBoundsException
+    }
+}
@@ -72,6 +72,8 @@ class ContractMethodSpec extends Specification {
         _ | '_bar(fixed128x128[2])'
         _ | '_bar(fixed128x128[2]):(address)'
         _ | 'f123(uint256,uint32[],bytes10,bytes)'
+        _ | 'aggregate((address,bytes)[])'
+        _ | 'swap((address,(uint256,bool)),bytes):(uint256)'
     }
 
     def "should check method signature invalidity"() {
@@ -88,6 +90,8 @@ class ContractMethodSpec extends Specification {
         _ | 'bar(fixed128x128[2]):(bool'
         _ | 'bar(fixed128x128[2])(bool)'
         _ | '1f(uint256,uint32[],bytes10,bytes)'
+        _ | 'bar((uint256)'
+        _ | 'bar(uint256))'
     }
 
     def "should copy contract method"() {
@@ -101,6 +105,72 @@ class ContractMethodSpec extends Specification {
         obj == method
     }
 
+    def "should encode call with tuple and nested array parameters"() {
+        def obj = ContractMethod.fromAbi('g(uint256[][],string[])')
+
+        when:
+        def data = obj.encodeCall([[1, 2] as BigInteger[], [3] as BigInteger[]] as Object[], ['one', 'two', 'three'] as String[])
+
+        then:
+        data.toHex() == '0x2289b18c' +
+                '0000000000000000000000000000000000000000000000000000000000000040' +
+                '0000000000000000000000000000000000000000000000000000000000000140' +
+                '0000000000000000000000000000000000000000000000000000000000000002' +
+                '0000000000000000000000000000000000000000000000000000000000000040' +
+                '00000000000000000000000000000000000000000000000000000000000000a0' +
+                '0000000000000000000000000000000000000000000000000000000000000002' +
+                '0000000000000000000000000000000000000000000000000000000000000001' +
+                '0000000000000000000000000000000000000000000000000000000000000002' +
+                '0000000000000000000000000000000000000000000000000000000000000001' +
+                '0000000000000000000000000000000000000000000000000000000000000003' +
+                '0000000000000000000000000000000000000000000000000000000000000003' +
+                '0000000000000000000000000000000000000000000000000000000000000060' +
+                '00000000000000000000000000000000000000000000000000000000000000a0' +
+                '00000000000000000000000000000000000000000000000000000000000000e0' +
+                '0000000000000000000000000000000000000000000000000000000000000003' +
+                '6f6e650000000000000000000000000000000000000000000000000000000000' +
+                '0000000000000000000000000000000000000000000000000000000000000003' +
+                '74776f0000000000000000000000000000000000000000000000000000000000' +
+                '0000000000000000000000000000000000000000000000000000000000000005' +
+                '7468726565000000000000000000000000000000000000000000000000000000'
+    }
+
+    def "should decode call data"() {
+        def obj = ContractMethod.fromAbi('transfer(address,uint256)')
+        def address = Address.from('0x1111111111111111111111111111111111111111')
+
+        when:
+        def act = obj.decodeCall(obj.encodeCall(address, BigInteger.TEN))
+
+        then:
+        act == [address, BigInteger.TEN]
+
+        when:
+        obj.decodeCall(HexData.from('0x70a08231'))
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should parse ABI with tuple parameters"() {
+        when:
+        def obj = ContractMethod.fromAbi('aggregate((address,bytes)[])')
+
+        then:
+        obj.id.toHex() == '0x252dba42'
+        obj.inputTypes.toAbi() == '(address,bytes)[]'
+    }
+
+    def "should parse ABI with default repository"() {
+        when:
+        def obj = ContractMethod.fromAbi('transfer(address,uint256):(bool)')
+
+        then:
+        obj.id.toHex() == '0xa9059cbb'
+        obj.inputTypes.toAbi() == 'address,uint256'
+        obj.outputTypes.toAbi() == 'bool'
+    }
+
     def "should catch wrong ABI method signature"() {
         when:
         ContractMethod.fromAbi({ -> [] }, abi)
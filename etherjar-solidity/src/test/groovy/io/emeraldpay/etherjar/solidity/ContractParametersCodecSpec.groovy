@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.solidity
+
+import io.emeraldpay.etherjar.hex.HexData
+import spock.lang.Specification
+
+class ContractParametersCodecSpec extends Specification {
+
+    static SAM_DATA = '0x' +
+            '0000000000000000000000000000000000000000000000000000000000000060' +
+            '0000000000000000000000000000000000000000000000000000000000000001' +
+            '00000000000000000000000000000000000000000000000000000000000000a0' +
+            '0000000000000000000000000000000000000000000000000000000000000004' +
+            '6461766500000000000000000000000000000000000000000000000000000000' +
+            '0000000000000000000000000000000000000000000000000000000000000003' +
+            '0000000000000000000000000000000000000000000000000000000000000001' +
+            '0000000000000000000000000000000000000000000000000000000000000002' +
+            '0000000000000000000000000000000000000000000000000000000000000003'
+
+    def "should compute layout"() {
+        when:
+        def codec = ContractParametersTypes.fromAbi(abi).compile()
+
+        then:
+        codec.headSize == head
+        codec.isStatic() == isStatic
+
+        where:
+        abi                     | head | isStatic
+        'uint32,bool'           | 64   | true
+        'bytes,bool,uint256[]'  | 96   | false
+        'address,uint8[3]'      | 128  | true
+    }
+
+    def "should encode with dynamic types"() {
+        def codec = ContractParametersTypes.fromAbi('bytes,bool,uint256[]').compile()
+
+        when:
+        def act = codec.encode(['dave'.bytes, BigInteger.ONE, [1, 2, 3] as BigInteger[]])
+
+        then:
+        act.toHex() == SAM_DATA
+    }
+
+    def "should encode after prefix"() {
+        def codec = ContractParametersTypes.fromAbi('uint32,bool').compile()
+
+        when:
+        def act = codec.encode(HexData.from('0xcdcd77c0').bytes, [69G, 1G])
+
+        then:
+        new HexData(act).toHex() == '0xcdcd77c0' +
+                '0000000000000000000000000000000000000000000000000000000000000045' +
+                '0000000000000000000000000000000000000000000000000000000000000001'
+    }
+
+    def "should decode with dynamic types"() {
+        def codec = ContractParametersTypes.fromAbi('bytes,bool,uint256[]').compile()
+
+        when:
+        def act = codec.decode(HexData.from(SAM_DATA))
+
+        then:
+        act.size() == 3
+        new String(act[0] as byte[]) == 'dave'
+        act[1] == 1G
+        act[2] == [1G, 2G, 3G] as BigInteger[]
+    }
+
+    def "should decode part of array"() {
+        def codec = ContractParametersTypes.fromAbi('uint32,bool').compile()
+        def data = HexData.from('0xcdcd77c0' +
+                '0000000000000000000000000000000000000000000000000000000000000045' +
+                '0000000000000000000000000000000000000000000000000000000000000001').bytes
+
+        when:
+        def act = codec.decode(data, 4, 64)
+
+        then:
+        act == [69G, 1G]
+    }
+
+    def "should catch offset outside of data"() {
+        def codec = ContractParametersTypes.fromAbi('bytes').compile()
+        def data = HexData.from('0x' +
+                '0000000000000000000000000000000000000000000000000000000000000100' +
+                '0000000000000000000000000000000000000000000000000000000000000000')
+
+        when:
+        codec.decode(data)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should catch extra data for static types"() {
+        def codec = ContractParametersTypes.fromAbi('uint32').compile()
+        def data = HexData.from('0x' +
+                '0000000000000000000000000000000000000000000000000000000000000045' +
+                '0000000000000000000000000000000000000000000000000000000000000001')
+
+        when:
+        codec.decode(data)
+
+        then:
+        thrown IllegalStateException
+    }
+}
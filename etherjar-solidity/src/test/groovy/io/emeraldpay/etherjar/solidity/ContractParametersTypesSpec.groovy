@@ -18,6 +18,7 @@
 package io.emeraldpay.etherjar.solidity
 
 import io.emeraldpay.etherjar.abi.Type
+import io.emeraldpay.etherjar.domain.Address
 import io.emeraldpay.etherjar.hex.Hex32
 import io.emeraldpay.etherjar.hex.HexData
 import spock.lang.Shared
@@ -65,6 +66,7 @@ class ContractParametersTypesSpec extends Specification {
         _ | 'uint32,bool'
         _ | 'fixed128x128[2]'
         _ | 'uint256,uint32[],bytes10,bytes'
+        _ | '(address,bytes)[],uint256'
     }
 
     def "should check parameters types signature invalidity"() {
@@ -75,6 +77,8 @@ class ContractParametersTypesSpec extends Specification {
         _ | invalid_sign
         _ | 'uint32, bool'
         _ | 'fixed128x128[2],'
+        _ | '(address,bytes'
+        _ | 'address),(bytes'
     }
 
     def "should create parameters from ABI"() {
@@ -277,6 +281,34 @@ class ContractParametersTypesSpec extends Specification {
         dec == [val1, val2, val3]
     }
 
+    def "should read array parameter element by element"() {
+        def obj = ContractParametersTypes.fromAbi('uint256,address[],string[]')
+        def addresses = (1..5).collect { Address.from(String.format('0x%040x', it)) } as Address[]
+        def data = obj.encode(BigInteger.TEN, addresses, ['a', 'bb'] as String[])
+
+        when:
+        def first = obj.readArray(data, 1)
+        def second = obj.readArray(data, 2)
+
+        then:
+        first.size() == 5
+        first.stream().collect() == addresses.toList()
+        second.next() == 'a'
+        second.next() == 'bb'
+        !second.hasNext()
+    }
+
+    def "should catch reading not an array parameter"() {
+        def obj = ContractParametersTypes.fromAbi('uint256,address[]')
+        def data = obj.encode(BigInteger.TEN, [] as Address[])
+
+        when:
+        obj.readArray(data, 0)
+
+        then:
+        thrown IllegalStateException
+    }
+
     def "should encode & decode empty parameters types"() {
         when:
         def hex = ContractParametersTypes.EMPTY.encode()
@@ -356,7 +388,7 @@ class ContractParametersTypesSpec extends Specification {
         obj.decode data
 
         then:
-        thrown IllegalStateException
+        thrown IllegalArgumentException
     }
 
     def "should be converted to parameters types canonical names"() {
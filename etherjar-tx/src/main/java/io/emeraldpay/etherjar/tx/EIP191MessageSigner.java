@@ -16,10 +16,10 @@
 package io.emeraldpay.etherjar.tx;
 
 import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.Keccak256;
 import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
 import io.emeraldpay.etherjar.hex.HexQuantity;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 
 import java.math.BigInteger;
 
@@ -34,6 +34,8 @@ import java.math.BigInteger;
  */
 public class EIP191MessageSigner {
 
+    private static final byte[] MESSAGE_PREFIX = "\u0019Ethereum Signed Message:\n".getBytes();
+
     private final Signer signer;
 
     /**
@@ -130,12 +132,11 @@ public class EIP191MessageSigner {
      * @return the Keccak-256 hash of the EIP-191 formatted message
      */
     protected byte[] getMessageHash(byte[] msg) {
-        Keccak.Digest256 digest = new Keccak.Digest256();
-        digest.update((byte)0x19);
-        digest.update("Ethereum Signed Message:\n".getBytes());
-        digest.update(Integer.toString(msg.length).getBytes());
-        digest.update(msg);
-        return digest.digest();
+        return Keccak256.hashConcat(
+            MESSAGE_PREFIX,
+            Integer.toString(msg.length).getBytes(),
+            msg
+        );
     }
 
 }
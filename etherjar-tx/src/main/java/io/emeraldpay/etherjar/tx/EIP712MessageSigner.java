@@ -16,10 +16,10 @@
 package io.emeraldpay.etherjar.tx;
 
 import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.Keccak256;
 import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
 import io.emeraldpay.etherjar.hex.HexQuantity;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
@@ -115,6 +115,8 @@ public class EIP712MessageSigner {
     }
 
     public static class TypedDataHashes {
+        private static final byte[] TYPED_DATA_PREFIX = {0x19, 0x01};
+
         private final Hex32 domainSeparator;
         private final Hex32 messageHash;
 
@@ -143,12 +145,11 @@ public class EIP712MessageSigner {
          * @return the Keccak-256 hash of the EIP-712 formatted typed data
          */
         protected Hex32 getTypedDataHash() {
-            Keccak.Digest256 digest = new Keccak.Digest256();
-            digest.update((byte)0x19);
-            digest.update((byte)0x01);
-            digest.update(domainSeparator.getBytes());
-            digest.update(messageHash.getBytes());
-            return Hex32.from(digest.digest());
+            return Hex32.from(Keccak256.hashConcat(
+                TYPED_DATA_PREFIX,
+                domainSeparator.getBytes(),
+                messageHash.getBytes()
+            ));
         }
     }
 
@@ -238,10 +239,7 @@ public class EIP712MessageSigner {
         byte[] typeHash = hashType(primaryType, types);
         byte[] encodedData = encodeData(primaryType, data, types);
 
-        Keccak.Digest256 digest = new Keccak.Digest256();
-        digest.update(typeHash);
-        digest.update(encodedData);
-        return digest.digest();
+        return Keccak256.hashConcat(typeHash, encodedData);
     }
 
     /**
@@ -458,9 +456,7 @@ public class EIP712MessageSigner {
      * @return the hash
      */
     protected byte[] keccak256(byte[] data) {
-        Keccak.Digest256 digest = new Keccak.Digest256();
-        digest.update(data);
-        return digest.digest();
+        return Keccak256.hash(data);
     }
 
 }
@@ -16,9 +16,9 @@
 package io.emeraldpay.etherjar.tx;
 
 import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.Keccak256;
 import io.emeraldpay.etherjar.hex.Hex32;
 import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 import org.bouncycastle.math.ec.ECPoint;
 import org.bouncycastle.math.ec.FixedPointCombMultiplier;
 
@@ -55,9 +55,7 @@ public class PrivateKey {
 
     public Address getAddress() {
         byte[] pubkey = getPublicKey();
-        Keccak.Digest256 digest = new Keccak.Digest256();
-        digest.update(pubkey);
-        byte[] hash = digest.digest();
+        byte[] hash = Keccak256.hash(pubkey);
 
         byte[] buf = new byte[20];
         System.arraycopy(hash, 12, buf, 0, 20);
@@ -17,9 +17,9 @@
 package io.emeraldpay.etherjar.tx;
 
 import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.Keccak256;
 import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -189,9 +189,7 @@ public class Signature {
             if (pubkey == null) {
                 return null;
             }
-            Keccak.Digest256 digest = new Keccak.Digest256();
-            digest.update(pubkey);
-            byte[] hash = digest.digest();
+            byte[] hash = Keccak256.hash(pubkey);
 
             byte[] buf = new byte[20];
             System.arraycopy(hash, 12, buf, 0, 20);
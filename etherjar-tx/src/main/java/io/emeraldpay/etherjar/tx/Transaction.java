@@ -17,10 +17,10 @@
 package io.emeraldpay.etherjar.tx;
 
 import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.Keccak256;
 import io.emeraldpay.etherjar.domain.TransactionId;
 import io.emeraldpay.etherjar.domain.Wei;
 import io.emeraldpay.etherjar.hex.HexData;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 
 import java.math.BigInteger;
 import java.util.Objects;
@@ -169,9 +169,7 @@ public class Transaction {
     public byte[] hash(Integer chainId) {
         byte[] rlp = TransactionEncoder.DEFAULT.encodeLegacy(this, false, chainId);
 
-        Keccak.Digest256 keccak = new Keccak.Digest256();
-        keccak.update(rlp);
-        return keccak.digest();
+        return Keccak256.hash(rlp);
     }
 
     public TransactionId transactionId() {
@@ -183,9 +181,7 @@ public class Transaction {
         }
         byte[] rlp = TransactionEncoder.DEFAULT.encode(this,true);
 
-        Keccak.Digest256 keccak = new Keccak.Digest256();
-        keccak.update(rlp);
-        this.transactionId = TransactionId.from(keccak.digest());
+        this.transactionId = TransactionId.from(Keccak256.hash(rlp));
         return this.transactionId;
     }
 
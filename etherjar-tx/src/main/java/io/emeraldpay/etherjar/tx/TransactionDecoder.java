@@ -22,6 +22,7 @@ import io.emeraldpay.etherjar.hex.HexData;
 import io.emeraldpay.etherjar.rlp.RlpReader;
 import io.emeraldpay.etherjar.rlp.RlpType;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -225,9 +226,28 @@ public class TransactionDecoder {
         return authorization;
     }
 
+    /**
+     * Decode a blob transaction. Accepts both the standard form (as it is included into a block) and the network form
+     * with the blob sidecar (as it's submitted to <code>eth_sendRawTransaction</code>). For the latter the blobs are
+     * read-only views of the provided array, i.e. they are not copied.
+     *
+     * @param raw encoded transaction
+     * @return transaction, with {@link TransactionWithBlob#getSidecar()} set for the network form
+     */
     public TransactionWithBlob decodeBlob(byte[] raw) {
-        // rlp([chain_id, nonce, max_priority_fee_per_gas, max_fee_per_gas, gas_limit, to, value, data, access_list, max_fee_per_blob_gas, blob_versioned_hashes, y_parity, r, s])
         RlpReader rdr = startReader(raw, 1);
+        if (rdr.hasNext() && rdr.getType() == RlpType.LIST) {
+            // network form: rlp([tx_payload_body, (wrapper_version,) blobs, commitments, proofs])
+            TransactionWithBlob tx = readBlobTransaction(rdr.nextList());
+            tx.setSidecar(readSidecar(rdr));
+            ensureFullyRead(rdr);
+            return tx;
+        }
+        return readBlobTransaction(rdr);
+    }
+
+    private TransactionWithBlob readBlobTransaction(RlpReader rdr) {
+        // rlp([chain_id, nonce, max_priority_fee_per_gas, max_fee_per_gas, gas_limit, to, value, data, access_list, max_fee_per_blob_gas, blob_versioned_hashes, y_parity, r, s])
         TransactionWithBlob tx = new TransactionWithBlob();
         readChainId(rdr, tx);
         readNonce(rdr, tx);
@@ -246,6 +266,60 @@ public class TransactionDecoder {
         return tx;
     }
 
+    protected TransactionWithBlob.Sidecar readSidecar(RlpReader rdr) {
+        TransactionWithBlob.Sidecar sidecar = new TransactionWithBlob.Sidecar();
+        if (rdr.hasNext() && rdr.getType() == RlpType.BYTES) {
+            int version = rdr.nextInt();
+            if (version != 1) {
+                throw new IllegalArgumentException("Transaction has invalid RLP encoding. Unsupported sidecar version: " + version);
+            }
+            sidecar.setVersion(version);
+        }
+
+        if (rdr.hasNext() && rdr.getType() == RlpType.LIST) {
+            RlpReader blobsRdr = rdr.nextList();
+            List<ByteBuffer> blobs = new ArrayList<>();
+            while (blobsRdr.hasNext()) {
+                ByteBuffer blob = blobsRdr.nextBuffer();
+                if (blob.remaining() != TransactionWithBlob.Sidecar.BLOB_SIZE) {
+                    throw new IllegalArgumentException("Transaction has invalid RLP encoding. Invalid value: Blob");
+                }
+                blobs.add(blob);
+            }
+            sidecar.setBlobs(blobs);
+        } else {
+            throw new IllegalArgumentException("Transaction has invalid RLP encoding. Not a list: Blobs");
+        }
+
+        sidecar.setCommitments(readFixedItems(rdr, TransactionWithBlob.Sidecar.COMMITMENT_SIZE, "Commitments"));
+        sidecar.setProofs(readFixedItems(rdr, TransactionWithBlob.Sidecar.PROOF_SIZE, "Proofs"));
+
+        if (sidecar.getCommitments().size() != sidecar.getBlobs().size()) {
+            throw new IllegalArgumentException("Transaction has invalid RLP encoding. Commitments don't match Blobs");
+        }
+        if (sidecar.getProofs().size() != sidecar.getExpectedProofsCount()) {
+            throw new IllegalArgumentException("Transaction has invalid RLP encoding. Proofs don't match Blobs");
+        }
+        return sidecar;
+    }
+
+    private List<HexData> readFixedItems(RlpReader rdr, int size, String name) {
+        if (rdr.hasNext() && rdr.getType() == RlpType.LIST) {
+            RlpReader listRdr = rdr.nextList();
+            List<HexData> result = new ArrayList<>();
+            while (listRdr.hasNext()) {
+                byte[] value = listRdr.next();
+                if (value == null || value.length != size) {
+                    throw new IllegalArgumentException("Transaction has invalid RLP encoding. Invalid value: " + name);
+                }
+                result.add(new HexData(value));
+            }
+            return result;
+        } else {
+            throw new IllegalArgumentException("Transaction has invalid RLP encoding. Not a list: " + name);
+        }
+    }
+
     private RlpReader startReader(byte[] raw, int position) {
         RlpReader toprdr = new RlpReader(raw, position, raw.length - position);
         if (toprdr.getType() != RlpType.LIST) {
@@ -20,6 +20,8 @@ import io.emeraldpay.etherjar.hex.HexData;
 import io.emeraldpay.etherjar.rlp.RlpWriter;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 public class TransactionEncoder {
 
@@ -270,4 +272,148 @@ public class TransactionEncoder {
         wrt.closeList();
         return buffer.toByteArray();
     }
+
+    /**
+     * Encode a blob transaction in the network form, i.e. with the blob sidecar, which is the format used for
+     * <code>eth_sendRawTransaction</code> and p2p propagation:
+     * <code>0x03 || rlp([tx_payload_body, (wrapper_version,) blobs, commitments, proofs])</code>.
+     * The wrapper version is included only for version 1 (EIP-7594) sidecars.
+     *
+     * <p>The result is written into a single pre-sized array, so each blob is copied only once.</p>
+     *
+     * @param tx signed blob transaction with a sidecar
+     * @return encoded transaction
+     * @throws IllegalStateException if sidecar is not set
+     * @throws IllegalArgumentException if sidecar is inconsistent
+     */
+    public byte[] encodeNetwork(TransactionWithBlob tx) {
+        TransactionWithBlob.Sidecar sidecar = tx.getSidecar();
+        if (sidecar == null) {
+            throw new IllegalStateException("Blob sidecar is not set for transaction");
+        }
+        validate(sidecar);
+        // the standard encoding is 0x03 || tx_payload_body, so the body is everything after the type byte
+        byte[] body = encode(tx, true);
+        int bodyLength = body.length - 1;
+
+        List<ByteBuffer> blobs = sidecar.getBlobs();
+        int blobsLength = blobs.size() * itemLength(TransactionWithBlob.Sidecar.BLOB_SIZE);
+        int commitmentsLength = sidecar.getCommitments().size() * itemLength(TransactionWithBlob.Sidecar.COMMITMENT_SIZE);
+        int proofsLength = sidecar.getProofs().size() * itemLength(TransactionWithBlob.Sidecar.PROOF_SIZE);
+        // version is a single byte below 0x80, which is encoded as is
+        int versionLength = sidecar.getVersion() == 0 ? 0 : 1;
+
+        int payloadLength = bodyLength + versionLength
+            + listLength(blobsLength) + listLength(commitmentsLength) + listLength(proofsLength);
+        byte[] result = new byte[1 + listLength(payloadLength)];
+
+        result[0] = TransactionType.BLOB.getFlag();
+        int pos = writeHeader(result, 1, payloadLength, 0xc0);
+        System.arraycopy(body, 1, result, pos, bodyLength);
+        pos += bodyLength;
+        if (versionLength > 0) {
+            result[pos++] = (byte) sidecar.getVersion();
+        }
+        pos = writeHeader(result, pos, blobsLength, 0xc0);
+        for (ByteBuffer blob: blobs) {
+            pos = writeHeader(result, pos, TransactionWithBlob.Sidecar.BLOB_SIZE, 0x80);
+            blob.duplicate().get(result, pos, TransactionWithBlob.Sidecar.BLOB_SIZE);
+            pos += TransactionWithBlob.Sidecar.BLOB_SIZE;
+        }
+        pos = writeHeader(result, pos, commitmentsLength, 0xc0);
+        for (HexData commitment: sidecar.getCommitments()) {
+            pos = writeItem(result, pos, commitment.getBytes());
+        }
+        pos = writeHeader(result, pos, proofsLength, 0xc0);
+        for (HexData proof: sidecar.getProofs()) {
+            pos = writeItem(result, pos, proof.getBytes());
+        }
+        return result;
+    }
+
+    private static void validate(TransactionWithBlob.Sidecar sidecar) {
+        if (sidecar.getVersion() != 0 && sidecar.getVersion() != 1) {
+            throw new IllegalArgumentException("Unsupported sidecar version: " + sidecar.getVersion());
+        }
+        if (sidecar.getBlobs() == null || sidecar.getCommitments() == null || sidecar.getProofs() == null) {
+            throw new IllegalArgumentException("Sidecar must have blobs, commitments and proofs");
+        }
+        if (sidecar.getCommitments().size() != sidecar.getBlobs().size()) {
+            throw new IllegalArgumentException("Sidecar has " + sidecar.getBlobs().size() + " blobs but "
+                + sidecar.getCommitments().size() + " commitments");
+        }
+        if (sidecar.getProofs().size() != sidecar.getExpectedProofsCount()) {
+            throw new IllegalArgumentException("Sidecar must have " + sidecar.getExpectedProofsCount() + " proofs, has "
+                + sidecar.getProofs().size());
+        }
+        for (ByteBuffer blob: sidecar.getBlobs()) {
+            if (blob.remaining() != TransactionWithBlob.Sidecar.BLOB_SIZE) {
+                throw new IllegalArgumentException("Blob must be " + TransactionWithBlob.Sidecar.BLOB_SIZE + " bytes, has "
+                    + blob.remaining());
+            }
+        }
+        for (HexData commitment: sidecar.getCommitments()) {
+            if (commitment.getSize() != TransactionWithBlob.Sidecar.COMMITMENT_SIZE) {
+                throw new IllegalArgumentException("Commitment must be " + TransactionWithBlob.Sidecar.COMMITMENT_SIZE
+                    + " bytes, has " + commitment.getSize());
+            }
+        }
+        for (HexData proof: sidecar.getProofs()) {
+            if (proof.getSize() != TransactionWithBlob.Sidecar.PROOF_SIZE) {
+                throw new IllegalArgumentException("Proof must be " + TransactionWithBlob.Sidecar.PROOF_SIZE
+                    + " bytes, has " + proof.getSize());
+            }
+        }
+    }
+
+    /**
+     * @param length payload length of a byte string longer than one byte
+     * @return full length of the encoded byte string
+     */
+    private static int itemLength(int length) {
+        return headerLength(length) + length;
+    }
+
+    private static int listLength(int payloadLength) {
+        return headerLength(payloadLength) + payloadLength;
+    }
+
+    private static int headerLength(int length) {
+        if (length <= 55) {
+            return 1;
+        }
+        return 1 + sizeBytes(length);
+    }
+
+    private static int sizeBytes(int length) {
+        return 4 - Integer.numberOfLeadingZeros(length) / 8;
+    }
+
+    private static int writeItem(byte[] target, int pos, byte[] value) {
+        pos = writeHeader(target, pos, value.length, 0x80);
+        System.arraycopy(value, 0, target, pos, value.length);
+        return pos + value.length;
+    }
+
+    /**
+     * Write RLP header
+     *
+     * @param target target array
+     * @param pos position to write to
+     * @param length payload length
+     * @param offset 0x80 for a byte string, 0xc0 for a list
+     * @return position after the header
+     */
+    private static int writeHeader(byte[] target, int pos, int length, int offset) {
+        if (length <= 55) {
+            target[pos++] = (byte) (offset + length);
+            return pos;
+        }
+        int sizeBytes = sizeBytes(length);
+        target[pos++] = (byte) (offset + 55 + sizeBytes);
+        for (int i = sizeBytes - 1; i >= 0; i--) {
+            target[pos++] = (byte) (length >>> (i * 8));
+        }
+        return pos;
+    }
 }
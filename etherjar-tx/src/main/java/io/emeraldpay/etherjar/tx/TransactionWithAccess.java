@@ -16,8 +16,8 @@
 package io.emeraldpay.etherjar.tx;
 
 import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.Keccak256;
 import io.emeraldpay.etherjar.hex.Hex32;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 
 import java.util.*;
 
@@ -69,9 +69,7 @@ public class TransactionWithAccess extends Transaction {
     public byte[] hash() {
         byte[] rlp = ENCODER.encode(this, false);
 
-        Keccak.Digest256 keccak = new Keccak.Digest256();
-        keccak.update(rlp);
-        return keccak.digest();
+        return Keccak256.hash(rlp);
     }
 
     @Override
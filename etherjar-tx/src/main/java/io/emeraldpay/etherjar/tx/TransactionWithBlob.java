@@ -1,11 +1,16 @@
 package io.emeraldpay.etherjar.tx;
 
+import io.emeraldpay.etherjar.domain.Keccak256;
 import io.emeraldpay.etherjar.domain.Wei;
 import io.emeraldpay.etherjar.hex.Hex32;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
+import io.emeraldpay.etherjar.hex.HexData;
+import org.bouncycastle.crypto.digests.SHA256Digest;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Transaction with Blobs (EIP-2718)
@@ -21,6 +26,12 @@ public class TransactionWithBlob extends TransactionWithGasPriority {
      */
     private List<Hex32> blobVersionedHashes;
 
+    /**
+     * Blobs with commitments and proofs. Present only when the transaction is in the network form, i.e. as it's
+     * broadcast through the p2p network or submitted with <code>eth_sendRawTransaction</code>.
+     */
+    private Sidecar sidecar;
+
     public TransactionWithBlob() {
     }
 
@@ -31,6 +42,9 @@ public class TransactionWithBlob extends TransactionWithGasPriority {
             this.blobVersionedHashes = new ArrayList<>(other.blobVersionedHashes.size());
             this.blobVersionedHashes.addAll(other.blobVersionedHashes);
         }
+        if (other.sidecar != null) {
+            this.sidecar = new Sidecar(other.sidecar);
+        }
     }
 
     public Wei getMaxFeePerBlobGas() {
@@ -49,6 +63,14 @@ public class TransactionWithBlob extends TransactionWithGasPriority {
         this.blobVersionedHashes = blobVersionedHashes;
     }
 
+    public Sidecar getSidecar() {
+        return sidecar;
+    }
+
+    public void setSidecar(Sidecar sidecar) {
+        this.sidecar = sidecar;
+    }
+
     @Override
     public TransactionType getType() {
         return TransactionType.BLOB;
@@ -57,8 +79,156 @@ public class TransactionWithBlob extends TransactionWithGasPriority {
     @Override
     public byte[] hash() {
         byte[] rlp = TransactionEncoder.DEFAULT.encode(this, false);
-        Keccak.Digest256 keccak = new Keccak.Digest256();
-        keccak.update(rlp);
-        return keccak.digest();
+        return Keccak256.hash(rlp);
+    }
+
+    /**
+     * Blob sidecar of a transaction in the network form.
+     *
+     * <p>Blobs are kept as read-only {@link ByteBuffer}s. When decoded with {@link TransactionDecoder} they are views
+     * of the original input, so a decoded transaction doesn't copy the blob data.</p>
+     *
+     * @see <a href="https://eips.ethereum.org/EIPS/eip-4844#networking">EIP-4844 Networking</a>
+     * @see <a href="https://eips.ethereum.org/EIPS/eip-7594">EIP-7594</a>
+     */
+    public static class Sidecar {
+
+        public static final int BLOB_SIZE = 4096 * 32;
+        public static final int COMMITMENT_SIZE = 48;
+        public static final int PROOF_SIZE = 48;
+        /**
+         * Number of cell proofs per blob in version 1 of the sidecar
+         */
+        public static final int CELL_PROOFS_PER_BLOB = 128;
+
+        private static final byte VERSIONED_HASH_VERSION_KZG = 0x01;
+
+        /**
+         * Wrapper version. 0 for the original EIP-4844 format with one proof per blob, 1 for EIP-7594 with cell proofs.
+         */
+        private int version;
+        private List<ByteBuffer> blobs;
+        private List<HexData> commitments;
+        private List<HexData> proofs;
+
+        public Sidecar() {
+        }
+
+        public Sidecar(int version, List<ByteBuffer> blobs, List<HexData> commitments, List<HexData> proofs) {
+            this.version = version;
+            this.blobs = blobs;
+            this.commitments = commitments;
+            this.proofs = proofs;
+        }
+
+        public Sidecar(Sidecar other) {
+            this.version = other.version;
+            if (other.blobs != null) {
+                this.blobs = other.blobs.stream()
+                    .map(ByteBuffer::duplicate)
+                    .collect(Collectors.toList());
+            }
+            if (other.commitments != null) {
+                this.commitments = new ArrayList<>(other.commitments);
+            }
+            if (other.proofs != null) {
+                this.proofs = new ArrayList<>(other.proofs);
+            }
+        }
+
+        public int getVersion() {
+            return version;
+        }
+
+        public void setVersion(int version) {
+            this.version = version;
+        }
+
+        public List<ByteBuffer> getBlobs() {
+            return blobs;
+        }
+
+        public void setBlobs(List<ByteBuffer> blobs) {
+            this.blobs = blobs;
+        }
+
+        public List<HexData> getCommitments() {
+            return commitments;
+        }
+
+        public void setCommitments(List<HexData> commitments) {
+            this.commitments = commitments;
+        }
+
+        public List<HexData> getProofs() {
+            return proofs;
+        }
+
+        public void setProofs(List<HexData> proofs) {
+            this.proofs = proofs;
+        }
+
+        /**
+         *
+         * @return number of proofs expected for the current number of blobs and the wrapper version
+         */
+        public int getExpectedProofsCount() {
+            int count = blobs == null ? 0 : blobs.size();
+            return version == 0 ? count : count * CELL_PROOFS_PER_BLOB;
+        }
+
+        /**
+         * Calculate the versioned hashes of the commitments, which are supposed to be equal to
+         * {@link TransactionWithBlob#getBlobVersionedHashes()} of the transaction.
+         *
+         * @return versioned hashes in the same order as the commitments
+         */
+        public List<Hex32> getVersionedHashes() {
+            if (commitments == null) {
+                return new ArrayList<>();
+            }
+            SHA256Digest digest = new SHA256Digest();
+            List<Hex32> result = new ArrayList<>(commitments.size());
+            for (HexData commitment: commitments) {
+                result.add(toVersionedHash(digest, commitment));
+            }
+            return result;
+        }
+
+        /**
+         * Calculate the versioned hash of a KZG commitment as <code>0x01 ++ sha256(commitment)[1:]</code>
+         *
+         * @param commitment KZG commitment
+         * @return versioned hash
+         */
+        public static Hex32 toVersionedHash(HexData commitment) {
+            return toVersionedHash(new SHA256Digest(), commitment);
+        }
+
+        private static Hex32 toVersionedHash(SHA256Digest digest, HexData commitment) {
+            byte[] data = commitment.getBytes();
+            byte[] hash = new byte[Hex32.SIZE_BYTES];
+            digest.reset();
+            digest.update(data, 0, data.length);
+            digest.doFinal(hash, 0);
+            hash[0] = VERSIONED_HASH_VERSION_KZG;
+            return Hex32.from(hash);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Sidecar)) return false;
+            Sidecar sidecar = (Sidecar) o;
+            return version == sidecar.version
+                && Objects.equals(blobs, sidecar.blobs)
+                && Objects.equals(commitments, sidecar.commitments)
+                && Objects.equals(proofs, sidecar.proofs);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(version, commitments);
+        }
     }
 }
@@ -15,8 +15,8 @@
  */
 package io.emeraldpay.etherjar.tx;
 
+import io.emeraldpay.etherjar.domain.Keccak256;
 import io.emeraldpay.etherjar.domain.Wei;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 
 import java.math.BigInteger;
 
@@ -113,8 +113,6 @@ public class TransactionWithGasPriority extends TransactionWithAccess {
     @Override
     public byte[] hash() {
         byte[] rlp = TransactionEncoder.DEFAULT.encode(this, false);
-        Keccak.Digest256 keccak = new Keccak.Digest256();
-        keccak.update(rlp);
-        return keccak.digest();
+        return Keccak256.hash(rlp);
     }
 }
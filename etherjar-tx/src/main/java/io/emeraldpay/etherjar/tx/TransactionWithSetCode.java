@@ -1,8 +1,8 @@
 package io.emeraldpay.etherjar.tx;
 
 import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.Keccak256;
 import io.emeraldpay.etherjar.rlp.RlpWriter;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -46,9 +46,7 @@ public class TransactionWithSetCode extends TransactionWithGasPriority {
     @Override
     public byte[] hash() {
         byte[] rlp = TransactionEncoder.DEFAULT.encode(this, false);
-        Keccak.Digest256 keccak = new Keccak.Digest256();
-        keccak.update(rlp);
-        return keccak.digest();
+        return Keccak256.hash(rlp);
     }
 
     @Override
@@ -160,10 +158,7 @@ public class TransactionWithSetCode extends TransactionWithGasPriority {
                 .write(nonce)
                 .closeList();
 
-            Keccak.Digest256 keccak = new Keccak.Digest256();
-            keccak.update(HASH_MAGIC);
-            keccak.update(wrt.toByteArray());
-            return keccak.digest();
+            return Keccak256.hashConcat(new byte[] {HASH_MAGIC}, wrt.toByteArray());
         }
 
         public Address extractFrom() {
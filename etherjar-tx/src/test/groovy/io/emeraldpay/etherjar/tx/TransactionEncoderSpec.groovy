@@ -22,6 +22,8 @@ import io.emeraldpay.etherjar.hex.HexData
 import org.apache.commons.codec.binary.Hex
 import spock.lang.Specification
 
+import java.nio.ByteBuffer
+
 class TransactionEncoderSpec extends Specification {
 
     TransactionDecoder decoder = new TransactionDecoder()
@@ -254,4 +256,61 @@ class TransactionEncoderSpec extends Specification {
         then:
         Hex.encodeHexString(act) == exp
     }
+
+    def "Encode and decode blob tx in network form"() {
+        setup:
+        def txHex = TransactionEncoderSpec.class.getClassLoader().getResourceAsStream("tx-blob-0x109332.hex").text.trim()
+        def tx = TransactionDecoder.DEFAULT.decodeBlob(Hex.decodeHex(txHex))
+        def blob = new byte[TransactionWithBlob.Sidecar.BLOB_SIZE]
+        blob[0] = 1
+        blob[blob.length - 1] = 2
+        def commitment = new byte[48]
+        commitment[0] = (byte) 0xc0
+        def proof = new byte[48]
+        proof[1] = 5
+        def proofs = (1..proofsCount).collect { new HexData(proof) }
+        tx.sidecar = new TransactionWithBlob.Sidecar(version, [ByteBuffer.wrap(blob)], [new HexData(commitment)], proofs)
+
+        when:
+        def encoded = encoder.encodeNetwork(tx)
+        def act = TransactionDecoder.DEFAULT.decodeBlob(encoded)
+
+        then:
+        encoded[0] == (byte) 0x03
+        act.sidecar == tx.sidecar
+        act.sidecar.version == version
+        act.sidecar.blobs[0].isReadOnly()
+        act.sidecar.proofs.size() == proofsCount
+        Hex.encodeHexString(encoder.encode(act, true)) == txHex
+        act.transactionId().toHex() == "0x109332e227bb505e5731fcbe231dc8d9c0136c14300cd34e40097abf72c51105"
+
+        where:
+        version | proofsCount
+        0       | 1
+        1       | 128
+    }
+
+    def "Fail to encode network form with inconsistent sidecar"() {
+        setup:
+        def txHex = TransactionEncoderSpec.class.getClassLoader().getResourceAsStream("tx-blob-0x109332.hex").text.trim()
+        def tx = TransactionDecoder.DEFAULT.decodeBlob(Hex.decodeHex(txHex))
+        tx.sidecar = new TransactionWithBlob.Sidecar(0,
+            [ByteBuffer.wrap(new byte[TransactionWithBlob.Sidecar.BLOB_SIZE])],
+            [new HexData(new byte[48])],
+            [])
+        when:
+        encoder.encodeNetwork(tx)
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "Calculate versioned hash"() {
+        setup:
+        def commitment = new byte[48]
+        commitment[0] = (byte) 0xc0
+        when:
+        def sidecar = new TransactionWithBlob.Sidecar(0, [], [new HexData(commitment)], [])
+        then:
+        sidecar.versionedHashes.collect { it.toHex() } == ["0x010657f37554c781402a22917dee2f75def7ab966d7b770905398eba3c444014"]
+    }
 }